@@ -0,0 +1,103 @@
+package com.xceptance.testbddy.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.extentreports.ExtentReportInterface;
+
+/**
+ * Measures creating the elements of the {@link ExtentReportInterface} and
+ * writing its report.<br>
+ * Writing renders the whole report, so its cost grows with the number of
+ * features in the report.
+ *
+ * @author ckeiner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExtentReportBenchmark
+{
+    /**
+     * The number of features in the report that is written.
+     */
+    @Param({ "10", "100" })
+    public int features;
+
+    private GherkinKeyword given;
+
+    /**
+     * The report elements are created in, new for each iteration.
+     */
+    private ReportInterface nodeReporter;
+
+    /**
+     * The report that is written.
+     */
+    private ReportInterface flushReporter;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException
+    {
+        given = new GherkinKeyword("Given");
+        flushReporter = Reporters.create(Reporters.EXTENT);
+        for (int i = 0; i < features; i++)
+        {
+            createFeature(flushReporter, i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        nodeReporter = Reporters.create(Reporters.EXTENT);
+    }
+
+    /**
+     * Creates a feature with a scenario and three steps.
+     */
+    @Benchmark
+    public ReportElement createNodes()
+    {
+        return createFeature(nodeReporter, 0);
+    }
+
+    @Benchmark
+    public void flush()
+    {
+        flushReporter.finishReport();
+    }
+
+    private ReportElement createFeature(final ReportInterface reporter, final int number)
+    {
+        final ReportElement feature = reporter.feature("Feature " + number);
+        final ReportInterface scenarioReporter = reporter.withParent(feature);
+        final ReportElement scenario = scenarioReporter.scenario("Scenario");
+        final ReportInterface stepsReporter = scenarioReporter.withParent(scenario);
+        for (int i = 0; i < 3; i++)
+        {
+            stepsReporter.step(given, "Step " + i).pass("");
+        }
+        scenario.pass("");
+        feature.pass("");
+        return feature;
+    }
+}
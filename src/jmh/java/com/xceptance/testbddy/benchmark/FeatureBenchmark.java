@@ -0,0 +1,65 @@
+package com.xceptance.testbddy.benchmark;
+
+import static com.xceptance.testbddy.api.BddSuite.feature;
+import static com.xceptance.testbddy.api.BddSuite.given;
+import static com.xceptance.testbddy.api.BddSuite.scenario;
+import static com.xceptance.testbddy.api.BddSuite.with;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.reporting.ReportProviders;
+
+/**
+ * Measures the construction of a {@link Feature} with a scenario and a scenario
+ * outline via the BddSuite.<br>
+ * The reporter is the one a Feature looks up on construction, so the parameter
+ * names a provider of {@link ReportProviders}.
+ *
+ * @author ckeiner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureBenchmark
+{
+    @Param({ "none", "extent" })
+    public String reporter;
+
+    @Setup
+    public void setUp()
+    {
+        System.setProperty(ReportProviders.REPORTER_PROPERTY, reporter);
+    }
+
+    @Benchmark
+    public Feature construct()
+    {
+        return feature("Benchmark Feature", () -> scenario("Scenario", given("a step", () ->
+            {
+            }).when("another step", () ->
+                {
+                }).then("a last step", () ->
+                    {
+                    })), () -> scenario("Outline", with(1, 2, 3).given("a row <data>", (data) ->
+                        {
+                        }).then("it is done", (data) ->
+                            {
+                            })));
+    }
+}
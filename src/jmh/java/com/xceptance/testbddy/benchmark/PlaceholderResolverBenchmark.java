@@ -0,0 +1,67 @@
+package com.xceptance.testbddy.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xceptance.testbddy.core.util.PlaceholderResolver;
+
+/**
+ * Measures {@link PlaceholderResolver#resolvePlaceholders(String, Object)} for
+ * descriptions without placeholders, with property paths and with methods.<br>
+ * Placeholders are only resolved if a reporter needs the description, so this
+ * is part of the cost of reporting a row of a scenario outline.
+ *
+ * @author ckeiner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderResolverBenchmark
+{
+    @Param({ "A step without placeholders", "Row <data.id> is named <data.name>", "Row <data.getId()>" })
+    public String description;
+
+    private final PlaceholderResolver<Row> resolver = new PlaceholderResolver<Row>(false);
+
+    private final Row row = new Row(42);
+
+    @Benchmark
+    public String resolve()
+    {
+        return resolver.resolvePlaceholders(description, row);
+    }
+
+    /**
+     * The test datum of the placeholders.
+     */
+    public static class Row
+    {
+        public final int id;
+
+        public final String name;
+
+        public Row(int id)
+        {
+            this.id = id;
+            this.name = "Row " + id;
+        }
+
+        public int getId()
+        {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.xceptance.testbddy.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+import com.xceptance.testbddy.core.reporting.FlushPolicy;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.extentreports.ExtentReportInterface;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+
+/**
+ * Creates the reporters the benchmarks are run with and silences the console.
+ *
+ * @author ckeiner
+ */
+final class Reporters
+{
+    /**
+     * Executes without any reporter.
+     */
+    final static String NONE = "none";
+
+    /**
+     * Reports to the {@link NoOpReportInterface}, which shows the cost of calling a
+     * reporter.
+     */
+    final static String NOOP = "noop";
+
+    /**
+     * Reports to a new {@link ExtentReportInterface}.
+     */
+    final static String EXTENT = "extent";
+
+    private Reporters()
+    {
+    }
+
+    /**
+     * Creates the reporter with the specified name.<br>
+     * Each ExtentReportInterface has its own report in a temporary file, so
+     * elements don't pile up across iterations.
+     *
+     * @param name
+     *            Either {@link #NONE}, {@link #NOOP} or {@link #EXTENT}.
+     * @return The ReportInterface or <code>null</code> for {@link #NONE}.
+     * @throws UncheckedIOException
+     *             If the temporary file can't be created.
+     */
+    static ReportInterface create(final String name)
+    {
+        switch (name)
+        {
+            case NONE:
+                return null;
+            case NOOP:
+                return NoOpReportInterface.getInstance();
+            case EXTENT:
+                try
+                {
+                    final File file = Files.createTempFile("testbddy-benchmark", ".html").toFile();
+                    file.deleteOnExit();
+                    return new ExtentReportInterface(file, new FlushPolicy(0, 0));
+                } catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown reporter " + name);
+        }
+    }
+
+    /**
+     * Creates the reporter with the specified name and returns the reporter for
+     * the steps of a scenario beneath a feature.
+     *
+     * @param name
+     *            Either {@link #NONE}, {@link #NOOP} or {@link #EXTENT}.
+     * @return The ReportInterface for the steps or <code>null</code> for
+     *         {@link #NONE}.
+     */
+    static ReportInterface createForSteps(final String name)
+    {
+        final ReportInterface reporter = createForScenarios(name);
+        return reporter != null ? reporter.withParent(reporter.scenario("Benchmark Scenario")) : null;
+    }
+
+    /**
+     * Creates the reporter with the specified name and returns the reporter for
+     * the scenarios beneath a feature.
+     *
+     * @param name
+     *            Either {@link #NONE}, {@link #NOOP} or {@link #EXTENT}.
+     * @return The ReportInterface for the scenarios or <code>null</code> for
+     *         {@link #NONE}.
+     */
+    static ReportInterface createForScenarios(final String name)
+    {
+        final ReportInterface reporter = create(name);
+        return reporter != null ? reporter.withParent(reporter.feature("Benchmark Feature")) : null;
+    }
+
+    /**
+     * Replaces {@link System#out} with a stream discarding everything, since the
+     * engine prints each component to the console.
+     *
+     * @return The replaced stream, to be restored after the benchmark.
+     */
+    static PrintStream silenceConsole()
+    {
+        final PrintStream console = System.out;
+        System.setOut(new PrintStream(new OutputStream()
+        {
+            @Override
+            public void write(int b)
+            {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len)
+            {
+            }
+        }));
+        return console;
+    }
+}
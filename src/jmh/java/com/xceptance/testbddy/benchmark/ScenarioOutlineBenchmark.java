@@ -0,0 +1,91 @@
+package com.xceptance.testbddy.benchmark;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * Measures {@link ScenarioOutline#test(ReportInterface)} with three steps doing
+ * nothing, so the result divided by the rows is the overhead of the engine and
+ * the reporter per row.<br>
+ * The first step has a placeholder, which reporters resolve for each row.
+ *
+ * @author ckeiner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ScenarioOutlineBenchmark
+{
+    @Param({ "1000", "100000" })
+    public int rows;
+
+    @Param({ Reporters.NONE, Reporters.NOOP, Reporters.EXTENT })
+    public String reporter;
+
+    private ScenarioOutline<Integer> outline;
+
+    private ReportInterface scenarioReporter;
+
+    private PrintStream console;
+
+    @Setup
+    public void setUp()
+    {
+        console = Reporters.silenceConsole();
+        final TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a row <data>", (data) ->
+            {
+            }).when("it is executed", (data) ->
+                {
+                }).then("it passes", (data) ->
+                    {
+                    });
+        final List<Integer> testdata = IntStream.range(0, rows).boxed().collect(Collectors.toList());
+        outline = new ScenarioOutline<Integer>("Benchmark Outline", steps, testdata);
+    }
+
+    /**
+     * Creates a new reporter for each execution, so the report only holds a
+     * single execution of the outline.
+     */
+    @Setup(Level.Invocation)
+    public void setUpReporter()
+    {
+        scenarioReporter = Reporters.createForScenarios(reporter);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public void test()
+    {
+        outline.test(scenarioReporter);
+    }
+}
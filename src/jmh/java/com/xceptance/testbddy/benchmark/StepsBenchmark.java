@@ -0,0 +1,84 @@
+package com.xceptance.testbddy.benchmark;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * Measures {@link Steps#test(ReportInterface)} with a number of steps doing
+ * nothing, so the result is the overhead of the engine and the reporter per
+ * step.
+ *
+ * @author ckeiner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StepsBenchmark
+{
+    @Param({ "1", "10", "100" })
+    public int steps;
+
+    @Param({ Reporters.NONE, Reporters.NOOP, Reporters.EXTENT })
+    public String reporter;
+
+    private Steps definition;
+
+    private ReportInterface stepsReporter;
+
+    private PrintStream console;
+
+    @Setup
+    public void setUp()
+    {
+        console = Reporters.silenceConsole();
+        definition = new Steps();
+        for (int i = 0; i < steps; i++)
+        {
+            definition.given("Step " + i, () ->
+                {
+                });
+        }
+    }
+
+    /**
+     * Creates a new reporter for each iteration, so the report doesn't grow
+     * across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUpReporter()
+    {
+        stepsReporter = Reporters.createForSteps(reporter);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public void test()
+    {
+        definition.test(stepsReporter);
+    }
+}
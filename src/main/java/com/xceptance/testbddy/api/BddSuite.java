@@ -1,8 +1,10 @@
 package com.xceptance.testbddy.api;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.aventstack.extentreports.gherkin.model.And;
 import com.aventstack.extentreports.gherkin.model.Given;
@@ -13,8 +15,10 @@ import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
 import com.xceptance.testbddy.core.bdd.scenario.OutlineDescriptor;
 import com.xceptance.testbddy.core.bdd.scenario.Scenario;
 import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.scenario.TestdataSource;
 import com.xceptance.testbddy.core.bdd.steps.Step;
 import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
 
 // TODO Examples for each API method would be nice
 public class BddSuite
@@ -85,7 +89,7 @@ public class BddSuite
          */
         if (descriptor != null)
         {
-            outline = new ScenarioOutline<T>(description, descriptor.getSteps(), descriptor.getTestdata());
+            outline = new ScenarioOutline<T>(description, descriptor.getSteps(), descriptor.getTestdataSource());
         }
         else
         {
@@ -135,6 +139,79 @@ public class BddSuite
         return new OutlineDescriptor<T>(testdata);
     }
 
+    /**
+     * Creates an {@link OutlineDescriptor} with the test data of the specified
+     * {@link Iterable}.<br>
+     * The test data are pulled one after another during the execution.
+     * 
+     * @param testdata
+     *            The test data for the OutlineDescriptor.
+     * @param <T>
+     *            The type of the test data.
+     * @return An OutlineDescriptor with the specified test data.
+     * @see TestdataSource#of(Iterable)
+     */
+    public static <T> OutlineDescriptor<T> withData(Iterable<T> testdata)
+    {
+        return new OutlineDescriptor<T>(new TypeSteps<T>(), TestdataSource.of(testdata));
+    }
+
+    /**
+     * Creates an {@link OutlineDescriptor} with the test data of the specified
+     * {@link Stream}.<br>
+     * The test data are pulled one after another during the execution, so they
+     * don't have to fit into memory all at once. The ScenarioOutline can only be
+     * executed once.
+     * 
+     * @param testdata
+     *            The test data for the OutlineDescriptor.
+     * @param <T>
+     *            The type of the test data.
+     * @return An OutlineDescriptor with the specified test data.
+     * @see TestdataSource#of(Stream)
+     */
+    public static <T> OutlineDescriptor<T> withData(Stream<T> testdata)
+    {
+        return new OutlineDescriptor<T>(new TypeSteps<T>(), TestdataSource.of(testdata));
+    }
+
+    /**
+     * Creates an {@link OutlineDescriptor} with the test data of the specified
+     * {@link Iterator}.<br>
+     * The test data are pulled one after another during the execution, so they
+     * don't have to fit into memory all at once. The ScenarioOutline can only be
+     * executed once.
+     * 
+     * @param testdata
+     *            The test data for the OutlineDescriptor.
+     * @param <T>
+     *            The type of the test data.
+     * @return An OutlineDescriptor with the specified test data.
+     * @see TestdataSource#of(Iterator)
+     */
+    public static <T> OutlineDescriptor<T> withData(Iterator<T> testdata)
+    {
+        return new OutlineDescriptor<T>(new TypeSteps<T>(), TestdataSource.of(testdata));
+    }
+
+    /**
+     * Creates an {@link OutlineDescriptor} whose test data are supplied by a new
+     * {@link Stream} for each execution.<br>
+     * The test data are pulled one after another during the execution, so they
+     * don't have to fit into memory all at once.
+     * 
+     * @param testdata
+     *            Supplies the test data for the OutlineDescriptor.
+     * @param <T>
+     *            The type of the test data.
+     * @return An OutlineDescriptor with the specified test data.
+     * @see TestdataSource#of(Supplier)
+     */
+    public static <T> OutlineDescriptor<T> withData(Supplier<? extends Stream<T>> testdata)
+    {
+        return new OutlineDescriptor<T>(new TypeSteps<T>(), TestdataSource.of(testdata));
+    }
+
     /**
      * Creates an {@link OutlineDescriptor} without any test data.
      * 
@@ -4,18 +4,29 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
 import com.xceptance.testbddy.core.bdd.status.Status;
 import com.xceptance.testbddy.core.bdd.status.Statusable;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
 import com.xceptance.testbddy.core.reporting.ReportElement;
 import com.xceptance.testbddy.core.reporting.ReportInterface;
-import com.xceptance.testbddy.core.reporting.extentreports.ExtentReportInterface;
+import com.xceptance.testbddy.core.reporting.ReportProviders;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+import com.xceptance.testbddy.core.reporting.recording.RecordingReportInterface;
 import com.xceptance.testbddy.core.throwables.MultipleScenarioWrapperException;
 import com.xceptance.testbddy.core.throwables.errors.FeatureError;
 import com.xceptance.testbddy.core.throwables.errors.ScenarioError;
 import com.xceptance.testbddy.core.throwables.exceptions.FeatureException;
 import com.xceptance.testbddy.core.throwables.exceptions.ScenarioException;
+import com.xceptance.testbddy.core.util.Console;
+import com.xceptance.testbddy.core.util.VirtualThreads;
 
 /**
  * Represents a feature in the BDD Hierarchy.<br>
@@ -51,6 +62,25 @@ public class Feature implements Statusable
      */
     private final String classFeatureDefinedIn;
 
+    /**
+     * The maximum number of scenarios executed at the same time. <code>1</code>
+     * means the scenarios are executed one after another. <code>0</code> means
+     * no parallelism was configured, so the scenarios are executed one after
+     * another or, on virtual threads, up to the default limit.
+     */
+    private int parallelism;
+
+    /**
+     * The executor that executes the scenarios in parallel. If it is
+     * <code>null</code>, a thread pool is created for each execution.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Whether each scenario is executed on its own virtual thread.
+     */
+    private boolean virtualThreads;
+
     /**
      * Creates a Feature with the specified description and an empty list of
      * scenarios.
@@ -97,11 +127,12 @@ public class Feature implements Statusable
     }
 
     /**
-     * Initializes the reporter.
+     * Initializes the reporter with the one chosen by the system property
+     * {@link ReportProviders#REPORTER_PROPERTY}.
      */
     protected void initReporter()
     {
-        this.reporter = ExtentReportInterface.getInstance();
+        this.reporter = ReportProviders.getReporter();
     }
 
     /**
@@ -122,46 +153,37 @@ public class Feature implements Statusable
             final ReportElement featureReport = setUpReporter();
             // Print some information to the console
             printToConsole();
-
-            // For each scenario
-            for (final AbstractScenario scenario : getScenarios())
+            // Notify the listeners
+            final long startNanos = ExecutionListeners.featureStarted(this);
+            // The outcome and failure the listeners are notified about
+            Outcome outcome = null;
+            Throwable failure = null;
+            try
             {
-                // If the scenario is not null
-                if (scenario != null)
+                // Execute all scenarios
+                if (isParallel())
                 {
-                    // Set the reporter of the scenario if the feature has one
-                    if (scenario.getReporter() == null && reporter != null)
-                    {
-                        scenario.setReporter(reporter);
-                    }
-                    // Execute the scenario and catch all exceptions and errors
-                    try
-                    {
-                        // Execute the feature
-                        executeScenario(scenario);
-                    } catch (final ScenarioException e)
-                    {
-                        scenarioExceptions.add(e);
-                    } catch (final ScenarioError e)
-                    {
-                        scenarioErrors.add(e);
-                    }
+                    executeScenariosInParallel(featureReport, scenarioExceptions, scenarioErrors);
                 }
                 else
                 {
-                    scenarioExceptions.add(new ScenarioException(new IllegalStateException("Scenario is null")));
+                    executeScenarios(featureReport, scenarioExceptions, scenarioErrors);
                 }
-            }
-
-            try
-            {
                 // Finish the test with proper reporting, and exception, error throwing
                 finishTest(featureReport, scenarioExceptions, scenarioErrors);
+                outcome = getStatus().contains(Status.SKIP) ? Outcome.SKIP : Outcome.PASS;
+            } catch (RuntimeException | Error e)
+            {
+                // FeatureException, FeatureError or anything unexpected
+                outcome = Outcome.of(e);
+                failure = e;
+                throw e;
             } finally
             {
+                ExecutionListeners.featureFinished(this, startNanos, outcome, failure);
                 if (reporter != null)
                 {
-                    reporter.finishReport();
+                    reporter.finishFeature();
                 }
             }
         }
@@ -199,6 +221,8 @@ public class Feature implements Statusable
                 // Set pending for the reporter
                 featureReport.pending("No scenarios were defined");
             }
+            // Notify the listeners about the pending feature
+            ExecutionListeners.featureFinished(this, ExecutionListeners.featureStarted(this), Outcome.PENDING, null);
             // End execution of feature
             shouldDoExecution = false;
         }
@@ -211,6 +235,10 @@ public class Feature implements Statusable
      */
     protected void printToConsole()
     {
+        if (!Console.isEnabled())
+        {
+            return;
+        }
         // Print some information to the console
         String logging = classFeatureDefinedIn + ".Feature: " + description;
         if (getStatus() != null)
@@ -221,23 +249,246 @@ public class Feature implements Statusable
     }
 
     /**
-     * Executes the specified scenario.
+     * Executes all scenarios one after another and collects their exceptions and
+     * errors.
+     * 
+     * @param featureReport
+     *            The {@link ReportElement} of the feature.
+     * @param scenarioExceptions
+     *            The list the {@link ScenarioException}s are added to.
+     * @param scenarioErrors
+     *            The list the {@link ScenarioError}s are added to.
+     */
+    private void executeScenarios(final ReportElement featureReport, final List<ScenarioException> scenarioExceptions,
+            final List<ScenarioError> scenarioErrors)
+    {
+        // For each scenario
+        for (final AbstractScenario scenario : getScenarios())
+        {
+            // If the scenario is not null
+            if (scenario != null)
+            {
+                // Execute the scenario and catch all exceptions and errors
+                try
+                {
+                    // Execute the feature
+                    executeScenario(scenario, scenarioReporter(scenario, featureReport));
+                } catch (final ScenarioException e)
+                {
+                    scenarioExceptions.add(e);
+                } catch (final ScenarioError e)
+                {
+                    scenarioErrors.add(e);
+                }
+            }
+            else
+            {
+                scenarioExceptions.add(new ScenarioException(new IllegalStateException("Scenario is null")));
+            }
+        }
+    }
+
+    /**
+     * Executes the scenarios in parallel and collects their exceptions and
+     * errors.<br>
+     * Each scenario reports to its own {@link RecordingReportInterface}. Once all
+     * scenarios are finished, the recordings are replayed to the actual reporter in
+     * the order the scenarios were defined. Hence, the report and the order of the
+     * collected exceptions and errors are the same as for a serial execution.
+     * 
+     * @param featureReport
+     *            The {@link ReportElement} of the feature.
+     * @param scenarioExceptions
+     *            The list the {@link ScenarioException}s are added to.
+     * @param scenarioErrors
+     *            The list the {@link ScenarioError}s are added to.
+     */
+    private void executeScenariosInParallel(final ReportElement featureReport,
+            final List<ScenarioException> scenarioExceptions,
+            final List<ScenarioError> scenarioErrors)
+    {
+        final List<AbstractScenario> scenarios = getScenarios();
+        final List<Future<?>> futures = new ArrayList<>(scenarios.size());
+        final RecordingReportInterface[] recorders = new RecordingReportInterface[scenarios.size()];
+        // Use the supplied executor or create a pool just for this execution
+        final ExecutorService executorService = executor != null ? executor
+                : virtualThreads ? VirtualThreads.newThreadPerTaskExecutor("testbddy-scenario-")
+                        : Executors.newFixedThreadPool(Math.min(getParallelism(), scenarios.size()));
+        // Limit the scenarios running at the same time on threads created per scenario
+        final Semaphore permits = executor == null && virtualThreads
+                ? new Semaphore(parallelism > 0 ? parallelism : VirtualThreads.defaultLimit()) : null;
+        try
+        {
+            // Submit each scenario
+            for (int i = 0; i < scenarios.size(); i++)
+            {
+                final AbstractScenario scenario = scenarios.get(i);
+                if (scenario != null)
+                {
+                    // Record the report of the scenario if it is reported at all
+                    final ReportInterface scenarioReporter = scenarioReporter(scenario, featureReport);
+                    final RecordingReportInterface recorder = NoOpReportInterface.isReporting(scenarioReporter)
+                            ? new RecordingReportInterface() : null;
+                    recorders[i] = recorder;
+                    final ReportInterface executionReporter = recorder != null ? recorder : scenarioReporter;
+                    if (permits == null)
+                    {
+                        futures.add(executorService.submit(() -> executeScenario(scenario, executionReporter)));
+                        continue;
+                    }
+                    // Wait for a free permit before starting the next scenario
+                    acquire(permits);
+                    futures.add(executorService.submit(() ->
+                        {
+                            try
+                            {
+                                executeScenario(scenario, executionReporter);
+                            } finally
+                            {
+                                permits.release();
+                            }
+                        }));
+                }
+                else
+                {
+                    futures.add(null);
+                }
+            }
+
+            // Collect the results in the order of the scenarios
+            Throwable unexpected = null;
+            for (int i = 0; i < scenarios.size(); i++)
+            {
+                final Future<?> future = futures.get(i);
+                if (future == null)
+                {
+                    scenarioExceptions.add(new ScenarioException(new IllegalStateException("Scenario is null")));
+                    continue;
+                }
+                try
+                {
+                    future.get();
+                } catch (final ExecutionException e)
+                {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof ScenarioException)
+                    {
+                        scenarioExceptions.add((ScenarioException) cause);
+                    }
+                    else if (cause instanceof ScenarioError)
+                    {
+                        scenarioErrors.add((ScenarioError) cause);
+                    }
+                    else if (unexpected == null)
+                    {
+                        unexpected = cause;
+                    }
+                } catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new FeatureException(classFeatureDefinedIn + ".Feature \"" + description + "\" was interrupted.",
+                            e);
+                }
+                // Replay the report of the scenario
+                if (recorders[i] != null)
+                {
+                    recorders[i].replay(scenarioReporter(scenarios.get(i), featureReport));
+                }
+            }
+
+            // Re-throw anything that would have ended a serial execution as well
+            if (unexpected instanceof RuntimeException)
+            {
+                throw (RuntimeException) unexpected;
+            }
+            else if (unexpected instanceof Error)
+            {
+                throw (Error) unexpected;
+            }
+            else if (unexpected != null)
+            {
+                throw new FeatureException(classFeatureDefinedIn + ".Feature \"" + description + "\" failed.",
+                        unexpected);
+            }
+        } finally
+        {
+            // Only shut down the executor if it was created for this execution
+            if (executorService != executor)
+            {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit of the semaphore.
+     * 
+     * @param permits
+     *            The Semaphore limiting the scenarios running at the same time.
+     * @throws FeatureException
+     *             If the thread is interrupted while waiting.
+     */
+    private void acquire(final Semaphore permits)
+    {
+        try
+        {
+            permits.acquire();
+        } catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new FeatureException(classFeatureDefinedIn + ".Feature \"" + description + "\" was interrupted.", e);
+        }
+    }
+
+    /**
+     * Executes the specified scenario.<br>
+     * Since the feature isn't reported, the scenario is reported on the top level.
      * 
      * @param scenario
      *            The {@link AbstractScenario} that should be executed.
      */
     public void executeScenario(AbstractScenario scenario)
+    {
+        executeScenario(scenario, scenarioReporter(scenario, null));
+    }
+
+    /**
+     * Executes the specified scenario and reports it to the specified reporter.
+     * 
+     * @param scenario
+     *            The {@link AbstractScenario} that should be executed.
+     * @param scenarioReporter
+     *            The {@link ReportInterface} responsible for the scenario.
+     */
+    protected void executeScenario(AbstractScenario scenario, ReportInterface scenarioReporter)
     {
         if (getStatus().contains(Status.SKIP))
         {
-            scenario.skipScenario();
+            scenario.skipScenario(scenarioReporter);
         }
         else
         {
-            scenario.test();
+            scenario.test(scenarioReporter);
         }
     }
 
+    /**
+     * Returns the {@link ReportInterface} responsible for the scenario.<br>
+     * That is the reporter of the scenario if it has one, otherwise the reporter of
+     * the feature. The scenario is reported beneath the specified element.
+     * 
+     * @param scenario
+     *            The {@link AbstractScenario} to report.
+     * @param featureReport
+     *            The {@link ReportElement} of the feature.
+     * @return The ReportInterface for the scenario.
+     */
+    private ReportInterface scenarioReporter(AbstractScenario scenario, ReportElement featureReport)
+    {
+        final ReportInterface scenarioReporter = scenario.getReporter() != null ? scenario.getReporter() : reporter;
+        return scenarioReporter != null ? scenarioReporter.withParent(featureReport) : null;
+    }
+
     /**
      * Creates a {@link ReportElement} for the feature if a reporter is set.<br>
      * Also assigns the feature's status as the report element's category.
@@ -351,6 +602,32 @@ public class Feature implements Statusable
         return status;
     }
 
+    /**
+     * Returns the maximum number of scenarios executed at the same time.
+     * 
+     * @return The configured parallelism or <code>1</code> if none is
+     *         configured.
+     */
+    public int getParallelism()
+    {
+        return Math.max(1, parallelism);
+    }
+
+    /**
+     * Whether the scenarios are executed in parallel.
+     * 
+     * @return True if more than one scenario may run at the same time.
+     */
+    public boolean isParallel()
+    {
+        return parallelism > 1 || executor != null || virtualThreads;
+    }
+
+    public boolean isVirtualThreads()
+    {
+        return virtualThreads;
+    }
+
     public String getClassFeatureDefinedIn()
     {
         return classFeatureDefinedIn;
@@ -377,9 +654,84 @@ public class Feature implements Statusable
         return this;
     }
 
+    public ReportInterface getReporter()
+    {
+        return reporter;
+    }
+
     public Feature withReporter(ReportInterface reporter)
     {
         this.reporter = reporter;
         return this;
     }
+
+    /**
+     * Executes the scenarios in parallel with as many threads as there are
+     * available processors.
+     * 
+     * @return The current Feature.
+     * @see #parallel(int)
+     */
+    public Feature parallel()
+    {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executes up to the specified number of scenarios in parallel.<br>
+     * The report and the thrown {@link FeatureException} or {@link FeatureError}
+     * are the same as for a serial execution, only the console output may be
+     * interleaved.
+     * 
+     * @param parallelism
+     *            The maximum number of scenarios executed at the same time.
+     *            <code>1</code> executes them one after another.
+     * @return The current Feature.
+     * @throws IllegalArgumentException
+     *             If parallelism is less than 1.
+     */
+    public Feature parallel(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Executes the scenarios in parallel with the specified
+     * {@link ExecutorService}.<br>
+     * The executor isn't shut down by the feature.
+     * 
+     * @param executor
+     *            The ExecutorService that executes the scenarios.
+     *            <code>null</code> restores the configured parallelism.
+     * @return The current Feature.
+     * @see #parallel(int)
+     */
+    public Feature withExecutor(ExecutorService executor)
+    {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Executes each scenario on its own virtual thread, so scenarios blocking on
+     * I/O don't occupy a platform thread.<br>
+     * Up to the configured parallelism or, if none is configured,
+     * {@link VirtualThreads#defaultLimit()} scenarios run at the same time. If
+     * virtual threads aren't available, each scenario runs on its own platform
+     * thread. An executor set via {@link #withExecutor(ExecutorService)}
+     * takes precedence.
+     * 
+     * @return The current Feature.
+     * @see VirtualThreads
+     */
+    public Feature virtualThreads()
+    {
+        this.virtualThreads = true;
+        return this;
+    }
 }
@@ -39,12 +39,36 @@ public abstract class AbstractScenario implements Statusable
     /**
      * Executes the scenario.
      */
-    public abstract void test();
+    public void test()
+    {
+        test(getReporter());
+    }
+
+    /**
+     * Executes the scenario and reports it to the specified reporter.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can be
+     *            <code>null</code>.
+     */
+    public abstract void test(ReportInterface reporter);
 
     /**
      * Skips the scenario and reports it as such.
      */
-    public abstract void skipScenario();
+    public void skipScenario()
+    {
+        skipScenario(getReporter());
+    }
+
+    /**
+     * Skips the scenario and reports it as such to the specified reporter.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can be
+     *            <code>null</code>.
+     */
+    public abstract void skipScenario(ReportInterface reporter);
 
     public String getDescription()
     {
@@ -0,0 +1,363 @@
+package com.xceptance.testbddy.core.bdd.scenario;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+/**
+ * Creates {@link TestdataSource}s that read their test data from CSV or JSON
+ * Lines files.<br>
+ * The file is memory-mapped, so it isn't loaded into the heap. Each record is a
+ * single line, which is only decoded and mapped to a test datum once the
+ * {@link ScenarioOutline} reaches it.<br>
+ * Empty lines are ignored. Since each record is a single line, a quoted CSV
+ * field must not contain a line break.
+ *
+ * @author ckeiner
+ */
+public final class FileTestdata
+{
+    /**
+     * The maximum size of a single mapped region of the file.
+     */
+    private final static long REGION_SIZE = Integer.MAX_VALUE;
+
+    private FileTestdata()
+    {
+    }
+
+    /**
+     * Creates a source with a test datum for each record of the specified CSV
+     * file.<br>
+     * Fields are separated by commas and can be enclosed by double quotes. A
+     * double quote within a quoted field is written as two double quotes.
+     *
+     * @param file
+     *            The CSV file encoded in UTF-8.
+     * @param hasHeader
+     *            Whether the first line contains the names of the columns and
+     *            should be skipped.
+     * @param rowMapper
+     *            Maps the fields of a record to a test datum.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data of the file.
+     * @throws UncheckedIOException
+     *             If the file can't be mapped.
+     */
+    public static <T> TestdataSource<T> csv(final Path file, final boolean hasHeader,
+            final Function<String[], T> rowMapper)
+    {
+        return lines(file, hasHeader, line -> rowMapper.apply(parseCsvRecord(line)));
+    }
+
+    /**
+     * Creates a source with a test datum for each line of the specified JSON Lines
+     * file.<br>
+     * The line is handed to the row mapper as it is, so any JSON library can be
+     * used to parse it.
+     *
+     * @param file
+     *            The JSON Lines file encoded in UTF-8.
+     * @param rowMapper
+     *            Maps the JSON of a record to a test datum.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data of the file.
+     * @throws UncheckedIOException
+     *             If the file can't be mapped.
+     */
+    public static <T> TestdataSource<T> jsonLines(final Path file, final Function<String, T> rowMapper)
+    {
+        return lines(file, false, rowMapper);
+    }
+
+    /**
+     * Creates a source with a test datum for each non-empty line of the specified
+     * file.<br>
+     * The source can be iterated more than once, each iteration reads the mapped
+     * file again.
+     *
+     * @param file
+     *            The file encoded in UTF-8.
+     * @param skipFirstLine
+     *            Whether the first line should be skipped.
+     * @param rowMapper
+     *            Maps a line to a test datum.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data of the file.
+     * @throws UncheckedIOException
+     *             If the file can't be mapped.
+     */
+    public static <T> TestdataSource<T> lines(final Path file, final boolean skipFirstLine,
+            final Function<String, T> rowMapper)
+    {
+        final MappedFile mappedFile = new MappedFile(file);
+        final long start = skipFirstLine ? mappedFile.nextRecordStart(0) : 0;
+        return TestdataSource.of(() -> StreamSupport.stream(
+                new RecordSpliterator<T>(mappedFile, start, rowMapper), false));
+    }
+
+    /**
+     * Splits a CSV record into its fields.
+     *
+     * @param record
+     *            The line of the record.
+     * @return The fields of the record.
+     */
+    static String[] parseCsvRecord(final String record)
+    {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++)
+        {
+            final char current = record.charAt(i);
+            if (quoted)
+            {
+                if (current == '"')
+                {
+                    // Two double quotes are an escaped double quote
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"')
+                    {
+                        field.append('"');
+                        i++;
+                    }
+                    else
+                    {
+                        quoted = false;
+                    }
+                }
+                else
+                {
+                    field.append(current);
+                }
+            }
+            else if (current == '"')
+            {
+                quoted = true;
+            }
+            else if (current == ',')
+            {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else
+            {
+                field.append(current);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[fields.size()]);
+    }
+
+    /**
+     * A file that is mapped into memory in regions of up to
+     * {@link FileTestdata#REGION_SIZE} bytes.<br>
+     * It is only read with absolute positions, so it can be read by several
+     * threads at the same time.
+     *
+     * @author ckeiner
+     */
+    private static final class MappedFile
+    {
+        /**
+         * The mapped regions of the file.
+         */
+        private final MappedByteBuffer[] regions;
+
+        /**
+         * The size of the file in bytes.
+         */
+        private final long size;
+
+        /**
+         * Maps the specified file into memory.
+         *
+         * @param file
+         *            The file to map.
+         * @throws UncheckedIOException
+         *             If the file can't be mapped.
+         */
+        private MappedFile(final Path file)
+        {
+            // The mapping stays valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+            {
+                size = channel.size();
+                regions = new MappedByteBuffer[(int) ((size + REGION_SIZE - 1) / REGION_SIZE)];
+                for (int i = 0; i < regions.length; i++)
+                {
+                    final long position = i * REGION_SIZE;
+                    regions[i] = channel.map(MapMode.READ_ONLY, position, Math.min(REGION_SIZE, size - position));
+                }
+            } catch (IOException e)
+            {
+                throw new UncheckedIOException("Could not map " + file, e);
+            }
+        }
+
+        /**
+         * Returns the byte at the specified position.
+         *
+         * @param position
+         *            The position in the file.
+         * @return The byte at the position.
+         */
+        private byte get(final long position)
+        {
+            return regions[(int) (position / REGION_SIZE)].get((int) (position % REGION_SIZE));
+        }
+
+        /**
+         * Returns the position of the next line break at or after the specified
+         * position.
+         *
+         * @param position
+         *            The position to start searching at.
+         * @return The position of the line break or the size of the file if there
+         *         is none.
+         */
+        private long lineEnd(long position)
+        {
+            while (position < size)
+            {
+                // Scan the region the position is in
+                final MappedByteBuffer region = regions[(int) (position / REGION_SIZE)];
+                final long regionStart = position - position % REGION_SIZE;
+                for (int i = (int) (position - regionStart); i < region.limit(); i++)
+                {
+                    if (region.get(i) == '\n')
+                    {
+                        return regionStart + i;
+                    }
+                }
+                position = regionStart + region.limit();
+            }
+            return size;
+        }
+
+        /**
+         * Returns the start of the first record after the specified position.
+         *
+         * @param position
+         *            Any position within the preceding record.
+         * @return The position of the first record after the position or the size
+         *         of the file if there is none.
+         */
+        private long nextRecordStart(final long position)
+        {
+            return Math.min(lineEnd(position) + 1, size);
+        }
+
+        /**
+         * Decodes the bytes between the positions as UTF-8.
+         *
+         * @param start
+         *            The inclusive start position.
+         * @param end
+         *            The exclusive end position.
+         * @return The decoded String.
+         */
+        private String decode(final long start, final long end)
+        {
+            final byte[] bytes = new byte[(int) (end - start)];
+            int copied = 0;
+            while (copied < bytes.length)
+            {
+                // Copy the part within the current region, the duplicate keeps the shared region untouched
+                final long position = start + copied;
+                final ByteBuffer region = regions[(int) (position / REGION_SIZE)].duplicate();
+                region.position((int) (position % REGION_SIZE));
+                final int length = Math.min(bytes.length - copied, region.remaining());
+                region.get(bytes, copied, length);
+                copied += length;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A {@link Spliterator} over the records of a {@link MappedFile}.<br>
+     * It reads the records in order and isn't split, so the outline pulls them
+     * one after another like any other test data.
+     *
+     * @author ckeiner
+     *
+     * @param <T>
+     *            The type of the test data.
+     */
+    private static final class RecordSpliterator<T> implements Spliterator<T>
+    {
+        private final MappedFile file;
+
+        private final Function<String, T> rowMapper;
+
+        /**
+         * The start of the next record.
+         */
+        private long position;
+
+        private RecordSpliterator(final MappedFile file, final long position, final Function<String, T> rowMapper)
+        {
+            this.file = file;
+            this.position = position;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action)
+        {
+            while (position < file.size)
+            {
+                final long lineEnd = file.lineEnd(position);
+                // Remove the carriage return of Windows line breaks
+                final long recordEnd = lineEnd > position && file.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                final long recordStart = position;
+                position = lineEnd + 1;
+                // Ignore empty lines
+                if (recordEnd > recordStart)
+                {
+                    action.accept(rowMapper.apply(file.decode(recordStart, recordEnd)));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            return null;
+        }
+
+        /**
+         * Returns the remaining number of bytes, which is an upper bound of the
+         * remaining number of records.
+         */
+        @Override
+        public long estimateSize()
+        {
+            return Math.max(0, file.size - position);
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return ORDERED | IMMUTABLE;
+        }
+    }
+}
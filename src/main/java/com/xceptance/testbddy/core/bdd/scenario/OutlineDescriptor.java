@@ -32,9 +32,9 @@ public class OutlineDescriptor<T> implements Statusable
     private final TypeSteps<T> steps;
 
     /**
-     * The list of test data
+     * The test data. Either a list or a {@link TestdataSource}.
      */
-    private final List<T> testdata;
+    private final Iterable<T> testdata;
 
     /**
      * Creates a new instance of {@link OutlineDescriptor} with empty
@@ -64,12 +64,30 @@ public class OutlineDescriptor<T> implements Statusable
     public OutlineDescriptor(TypeSteps<T> steps, T... testdata)
     {
         this.steps = steps;
-        this.testdata = new ArrayList<>();
+        final List<T> testdataList = new ArrayList<>();
         // If test data was specified, add it to the list
         if (testdata != null && testdata.length > 0)
         {
-            this.testdata.addAll(Arrays.asList(testdata));
+            testdataList.addAll(Arrays.asList(testdata));
         }
+        this.testdata = testdataList;
+    }
+
+    /**
+     * Creates a new instance of {@link OutlineDescriptor} with the supplied
+     * {@link TypeSteps} and the test data of the specified source.<br>
+     * The test data are pulled from the source one after another during the
+     * execution, so they aren't held in memory all at once.
+     * 
+     * @param steps
+     *            The {@link Steps} of the scenario.
+     * @param testdata
+     *            The {@link TestdataSource} with the test data.
+     */
+    public OutlineDescriptor(TypeSteps<T> steps, TestdataSource<T> testdata)
+    {
+        this.steps = steps;
+        this.testdata = testdata;
     }
 
     public TypeSteps<T> getSteps()
@@ -77,7 +95,19 @@ public class OutlineDescriptor<T> implements Statusable
         return steps;
     }
 
+    /**
+     * Returns the test data if they were supplied as an array.
+     * 
+     * @return The list of test data. <code>null</code> if they are supplied by a
+     *         {@link TestdataSource}, see {@link #getTestdataSource()}.
+     */
+    @SuppressWarnings("unchecked")
     public List<T> getTestdata()
+    {
+        return testdata instanceof List ? (List<T>) testdata : null;
+    }
+
+    public Iterable<T> getTestdataSource()
     {
         return testdata;
     }
@@ -2,11 +2,15 @@ package com.xceptance.testbddy.core.bdd.scenario;
 
 import com.xceptance.testbddy.core.bdd.status.Status;
 import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
 import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
 import com.xceptance.testbddy.core.throwables.errors.ScenarioError;
 import com.xceptance.testbddy.core.throwables.errors.StepError;
 import com.xceptance.testbddy.core.throwables.exceptions.ScenarioException;
 import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+import com.xceptance.testbddy.core.util.Console;
 
 /**
  * Represents a scenario in the BDD Hierarchy.<br>
@@ -57,27 +61,33 @@ public class Scenario extends AbstractScenario
      * {@link ScenarioError} respectively.
      */
     @Override
-    public void test()
+    public void test(final ReportInterface reporter)
     {
         // If the scenario should be executed
-        if (canAndShouldExecuteScenario())
+        if (canAndShouldExecuteScenario(reporter))
         {
             // Set up the report for this element
-            ReportElement scenarioReporter = setUpReporter();
+            ReportElement scenarioReporter = setUpReporter(reporter);
 
-            // Set up the reporter for the bddSteps if none was supplied
-            if (steps.getReporter() == null && this.getReporter() != null)
+            // Print some information to the console
+            if (Console.isEnabled())
             {
-                steps.setReporter(this.getReporter());
+                System.out.println("================\nScenario: " + getDescription() + "\n================");
             }
-            // Print some information to the console
-            System.out.println("================\nScenario: " + getDescription() + "\n================");
+            // Notify the listeners
+            final long startNanos = ExecutionListeners.scenarioStarted(this);
+            // The outcome and failure the listeners are notified about
+            Outcome outcome = null;
+            Throwable failure = null;
             // Execute the steps for the scenario and catch every exception and error.
             try
             {
-                executeScenario(scenarioReporter);
+                executeScenario(scenarioReporter, stepsReporter(reporter, scenarioReporter));
+                outcome = getStatus().contains(Status.SKIP) ? Outcome.SKIP : Outcome.PASS;
             } catch (StepException e)
             {
+                outcome = Outcome.FATAL;
+                failure = e;
                 if (scenarioReporter != null)
                 {
                     // Logs the scenario as fatal
@@ -87,6 +97,8 @@ public class Scenario extends AbstractScenario
                 throw new ScenarioException("Scenario \"" + getDescription() + "\" failed.", e);
             } catch (StepError e)
             {
+                outcome = Outcome.FAIL;
+                failure = e;
                 if (scenarioReporter != null)
                 {
                     // Logs the scenario as failed
@@ -94,8 +106,19 @@ public class Scenario extends AbstractScenario
                 }
                 // Throws the scenario error
                 throw new ScenarioError("Scenario \"" + getDescription() + "\" failed.", e);
+            } catch (RuntimeException | Error e)
+            {
+                outcome = Outcome.of(e);
+                failure = e;
+                throw e;
+            } finally
+            {
+                ExecutionListeners.scenarioFinished(this, startNanos, outcome, failure);
+            }
+            if (Console.isEnabled())
+            {
+                System.out.println("\n\n");
             }
-            System.out.println("\n\n");
         }
     }
 
@@ -103,9 +126,11 @@ public class Scenario extends AbstractScenario
      * Verifies whether the scenario can and should be executed. A scenario should
      * not be executed if it is ignored, has no steps or if they contain no items.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
      * @return true if the ScenarioOutline can be executed, otherwise false.
      */
-    protected boolean canAndShouldExecuteScenario()
+    protected boolean canAndShouldExecuteScenario(final ReportInterface reporter)
     {
         boolean executeScenario = true;
         if (getStatus().contains(Status.IGNORE))
@@ -125,11 +150,13 @@ public class Scenario extends AbstractScenario
             // Add the pending status to the list of stati
             getStatus().add(Status.PENDING);
             // Set up reporting
-            final ReportElement scenarioReporter = setUpReporter();
+            final ReportElement scenarioReporter = setUpReporter(reporter);
             if (scenarioReporter != null)
             {// Set pending for the reporter
                 scenarioReporter.pending("No steps were defined");
             }
+            // Notify the listeners about the pending scenario
+            ExecutionListeners.scenarioFinished(this, ExecutionListeners.scenarioStarted(this), Outcome.PENDING, null);
             // End execution of feature
             executeScenario = false;
         }
@@ -138,21 +165,18 @@ public class Scenario extends AbstractScenario
     }
 
     @Override
-    public void skipScenario()
+    public void skipScenario(final ReportInterface reporter)
     {
         // Set up the report for this element
-        ReportElement scenarioReporter = setUpReporter(false);
-        // Set up the reporter for the bddSteps if none was supplied
-        if (steps.getReporter() == null && this.getReporter() != null)
-        {
-            steps.setReporter(this.getReporter());
-        }
+        ReportElement scenarioReporter = setUpReporter(reporter, false);
+        final long startNanos = ExecutionListeners.scenarioStarted(this);
         // Skip the steps
-        steps.skipSteps();
+        steps.skipSteps(stepsReporter(reporter, scenarioReporter));
         if (scenarioReporter != null)
         {
             scenarioReporter.skip(getDescription());
         }
+        ExecutionListeners.scenarioFinished(this, startNanos, Outcome.SKIP, null);
     }
 
     /**
@@ -160,12 +184,14 @@ public class Scenario extends AbstractScenario
      * 
      * @param scenarioReporter
      *            The ReportElement of the scenario.
+     * @param stepsReporter
+     *            The {@link ReportInterface} responsible for the steps.
      */
-    private void executeScenario(ReportElement scenarioReporter)
+    private void executeScenario(ReportElement scenarioReporter, ReportInterface stepsReporter)
     {
         if (getStatus().contains(Status.SKIP))
         {
-            steps.skipSteps();
+            steps.skipSteps(stepsReporter);
             if (scenarioReporter != null)
             {
                 scenarioReporter.skip(getDescription());
@@ -173,7 +199,7 @@ public class Scenario extends AbstractScenario
         }
         else
         {
-            steps.test();
+            steps.test(stepsReporter);
             if (scenarioReporter != null)
             {
                 scenarioReporter.pass(getDescription());
@@ -185,30 +211,34 @@ public class Scenario extends AbstractScenario
      * Creates a {@link ReportElement} for the scenario if a reporter is set.<br>
      * Also assigns the scenario's status as the report element's category.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @return {@link ReportElement} if a reporter was set, else <code>null</code>.
      */
-    private ReportElement setUpReporter()
+    private ReportElement setUpReporter(ReportInterface reporter)
     {
-        return setUpReporter(true);
+        return setUpReporter(reporter, true);
     }
 
     /**
      * Creates a {@link ReportElement} for the scenario if a reporter is set.<br>
      * Also assigns the scenario's status as the report element's category.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @param reportStatus
      *            Whether the status should be reported or not.
      * 
      * @return {@link ReportElement} if a reporter was set, else <code>null</code>.
      */
-    private ReportElement setUpReporter(boolean reportStatus)
+    private ReportElement setUpReporter(ReportInterface reporter, boolean reportStatus)
     {
         ReportElement scenarioReporter = null;
         // If a reporter was defined
-        if (getReporter() != null)
+        if (reporter != null)
         {
             // Create a ReportElement for the scenario
-            scenarioReporter = getReporter().scenario(getDescription());
+            scenarioReporter = reporter.scenario(getDescription());
             // Assign category if there is one
             if (getStatus() != null && reportStatus)
             {
@@ -219,6 +249,23 @@ public class Scenario extends AbstractScenario
         return scenarioReporter;
     }
 
+    /**
+     * Returns the {@link ReportInterface} responsible for the steps.<br>
+     * That is the reporter of the steps if they have one, otherwise the specified
+     * one. The steps are reported beneath the specified element.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} of the scenario.
+     * @param scenarioReporter
+     *            The {@link ReportElement} of the scenario.
+     * @return The ReportInterface for the steps.
+     */
+    private ReportInterface stepsReporter(ReportInterface reporter, ReportElement scenarioReporter)
+    {
+        final ReportInterface stepsReporter = steps.getReporter() != null ? steps.getReporter() : reporter;
+        return stepsReporter != null ? stepsReporter.withParent(scenarioReporter) : null;
+    }
+
     public Steps getSteps()
     {
         return steps;
@@ -1,17 +1,37 @@
 package com.xceptance.testbddy.core.bdd.scenario;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
 
 import com.xceptance.testbddy.core.bdd.status.Status;
+import com.xceptance.testbddy.core.bdd.steps.StepPlan;
 import com.xceptance.testbddy.core.bdd.steps.Steps;
 import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
+import com.xceptance.testbddy.core.reporting.ReportDetail;
 import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+import com.xceptance.testbddy.core.reporting.recording.RecordingReportInterface;
 import com.xceptance.testbddy.core.throwables.MultipleScenarioWrapperException;
 import com.xceptance.testbddy.core.throwables.errors.ScenarioError;
 import com.xceptance.testbddy.core.throwables.errors.StepError;
 import com.xceptance.testbddy.core.throwables.exceptions.ScenarioException;
 import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+import com.xceptance.testbddy.core.util.Console;
+import com.xceptance.testbddy.core.util.VirtualThreads;
 
 /**
  * Represents a Scenario Outline in the BDD Hierarchy.<br>
@@ -26,15 +46,44 @@ import com.xceptance.testbddy.core.throwables.exceptions.StepException;
  */
 public class ScenarioOutline<T> extends AbstractScenario
 {
+    /**
+     * The number of test data per worker that a parallel execution pulls at once.
+     */
+    private final static int ROWS_PER_WORKER = 16;
+
     /**
      * The steps to execute.
      */
     private TypeSteps<T> steps;
 
     /**
-     * The list of test data
+     * The test data. Either a list or a {@link TestdataSource}.
+     */
+    private final Iterable<T> testdata;
+
+    /**
+     * The maximum number of test data executed at the same time. <code>1</code>
+     * means the test data are executed one after another. <code>0</code> means
+     * no parallelism was configured, so the test data are executed one after
+     * another or, on virtual threads, up to the default limit.
+     */
+    private int parallelism;
+
+    /**
+     * The pool that executes the test data in parallel. If it is
+     * <code>null</code>, a pool is created for each execution.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Whether each test datum is executed on its own virtual thread.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * How detailed the rows are reported.
      */
-    private final List<T> testdata;
+    private ReportDetail reportDetail = ReportDetail.getDefault();
 
     /**
      * Creates a new ScenarioOutline with the specified description, steps and test
@@ -48,6 +97,24 @@ public class ScenarioOutline<T> extends AbstractScenario
      *            The list of test data.
      */
     public ScenarioOutline(String description, TypeSteps<T> steps, List<T> testdata)
+    {
+        this(description, steps, (Iterable<T>) testdata);
+    }
+
+    /**
+     * Creates a new ScenarioOutline with the specified description, steps and test
+     * data.<br>
+     * The test data are pulled one after another during the execution. Hence,
+     * they can be supplied lazily, for example by a {@link TestdataSource}.
+     * 
+     * @param description
+     *            The description of the Scenario.
+     * @param steps
+     *            The {@link Steps} of the scenario.
+     * @param testdata
+     *            The test data.
+     */
+    public ScenarioOutline(String description, TypeSteps<T> steps, Iterable<T> testdata)
     {
         super(description);
         this.steps = steps;
@@ -62,20 +129,106 @@ public class ScenarioOutline<T> extends AbstractScenario
      * Should both, an exception and an error, occur, a ScenarioException is thrown.
      */
     @Override
-    public void test()
+    public void test(final ReportInterface reporter)
     {
-        if (canAndShouldExecuteScenario())
+        if (canAndShouldExecuteScenario(reporter))
         {
-            // Initialize needed variables
-            List<ScenarioException> scenarioExceptions = new ArrayList<>();
-            List<ScenarioError> scenarioErrors = new ArrayList<>();
-            System.out.println("================\nScenarioOutline: " + getDescription() + "\n================");
-            for (final T testdatum : this.testdata)
+            if (Console.isEnabled())
+            {
+                System.out.println("================\nScenarioOutline: " + getDescription() + "\n================");
+            }
+            // Notify the listeners
+            final long startNanos = ExecutionListeners.scenarioStarted(this);
+            RowResults results = null;
+            // An unexpected Throwable escaping the rows
+            Throwable failure = null;
+            try
+            {
+                // Compile the steps once, so the rows share them without copying them
+                final StepPlan<T> plan = getSteps().compile();
+                if (virtualThreads)
+                {
+                    results = doVirtualThreadTest(plan, reporter);
+                }
+                else if (isParallel())
+                {
+                    results = doParallelTest(plan, reporter);
+                }
+                else
+                {
+                    results = new RowResults();
+                    // Pull one test datum after another, so it isn't referenced after its execution
+                    for (final T testdatum : this.testdata)
+                    {
+                        // Record summarized rows, so only the report of failing rows is kept
+                        final RecordingReportInterface recorder = isSummarized(reporter)
+                                && NoOpReportInterface.isReporting(reporter) ? new RecordingReportInterface() : null;
+                        final boolean failed = executeRow(testdatum, plan, recorder != null ? recorder : reporter,
+                                results);
+                        if (failed && recorder != null)
+                        {
+                            recorder.replay(reporter);
+                        }
+                    }
+                }
+                if (Console.isEnabled())
+                {
+                    System.out.println("\n\n");
+                }
+                // Lazily supplied test data can only be found to be empty after iterating them
+                if (results.rows == 0)
+                {
+                    reportNoTestdata(reporter);
+                }
+                else if (isSummarized(reporter))
+                {
+                    reportSummary(reporter, results);
+                }
+            } catch (RuntimeException | Error e)
             {
-                doSingleTest(testdatum, scenarioExceptions, scenarioErrors);
+                failure = e;
+                throw e;
+            } finally
+            {
+                notifyFinished(startNanos, results, failure);
             }
-            System.out.println("\n\n");
-            finishScenario(scenarioExceptions, scenarioErrors);
+            finishScenario(results.scenarioExceptions, results.scenarioErrors);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the outline finished with the specified results.
+     * 
+     * @param startNanos
+     *            The time the outline started.
+     * @param results
+     *            The results of all rows or <code>null</code> if the rows
+     *            failed unexpectedly.
+     * @param failure
+     *            The unexpected Throwable escaping the rows or <code>null</code>.
+     */
+    private void notifyFinished(final long startNanos, final RowResults results, final Throwable failure)
+    {
+        if (failure != null)
+        {
+            ExecutionListeners.scenarioFinished(this, startNanos, Outcome.of(failure), failure);
+        }
+        else if (results.rows == 0)
+        {
+            ExecutionListeners.scenarioFinished(this, startNanos, Outcome.PENDING, null);
+        }
+        else if (!results.scenarioExceptions.isEmpty())
+        {
+            ExecutionListeners.scenarioFinished(this, startNanos, Outcome.FATAL, results.scenarioExceptions.get(0));
+        }
+        else if (!results.scenarioErrors.isEmpty())
+        {
+            ExecutionListeners.scenarioFinished(this, startNanos, Outcome.FAIL, results.scenarioErrors.get(0));
+        }
+        else
+        {
+            ExecutionListeners.scenarioFinished(this, startNanos,
+                    getStatus().contains(Status.SKIP) ? Outcome.SKIP : Outcome.PASS, null);
         }
     }
 
@@ -84,9 +237,11 @@ public class ScenarioOutline<T> extends AbstractScenario
      * ScenarioOutline should not be executed if it is ignored, and cannot be
      * executed if it has no steps, test data, or either is empty.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
      * @return True if the ScenarioOutline can be executed, otherwise false.
      */
-    protected boolean canAndShouldExecuteScenario()
+    protected boolean canAndShouldExecuteScenario(final ReportInterface reporter)
     {
         boolean executeScenario = true;
         if (getStatus().contains(Status.IGNORE))
@@ -100,33 +255,17 @@ public class ScenarioOutline<T> extends AbstractScenario
                     new IllegalStateException("Null steps found"));
         }
 
-        if (getTestdata() == null)
+        if (getTestdataSource() == null)
         {
             throw new ScenarioException("Scenario " + getDescription() + " failed.",
                     new IllegalStateException("Null Testdata found"));
         }
 
-        if (getTestdata().isEmpty())
+        // Only collections can be found to be empty without iterating them
+        if (testdata instanceof Collection && ((Collection<?>) testdata).isEmpty())
         {
-            // Add the pending status to the list of stati
-            getStatus().add(Status.PENDING);
-            // Set up reporting
-            final ReportElement scenarioReporter = setUpReporter(getSteps(), null);
-            // If a scenarioReporter could be built
-            if (scenarioReporter != null)
-            {
-                // And there are also no steps
-                if (getSteps().getSteps().isEmpty())
-                {
-                    // Report that both a not found
-                    scenarioReporter.pending("No Testdata and Steps were defined");
-                }
-                // Otherwise
-                else
-                { // Report that no test data was defined
-                    scenarioReporter.pending("No Testdata were defined");
-                }
-            }
+            reportNoTestdata(reporter);
+            ExecutionListeners.scenarioFinished(this, ExecutionListeners.scenarioStarted(this), Outcome.PENDING, null);
             // End execution of feature
             executeScenario = false;
         }
@@ -136,10 +275,19 @@ public class ScenarioOutline<T> extends AbstractScenario
         {
             // Add the pending status to the list of stati
             getStatus().add(Status.PENDING);
+            ExecutionListeners.scenarioFinished(this, ExecutionListeners.scenarioStarted(this), Outcome.PENDING, null);
+            if (isSummarized(reporter))
+            {
+                // Report a single pending element instead of one per row
+                final long rows = knownRows();
+                setUpSummaryReporter(reporter, true).pending(
+                        rows >= 0 ? "No steps were defined for " + rows + " rows" : "No steps were defined");
+                return false;
+            }
             for (T testdatum : testdata)
             {
                 // Set up reporting
-                final ReportElement scenarioReporter = setUpReporter(getSteps(), testdatum);
+                final ReportElement scenarioReporter = setUpReporter(reporter, testdatum);
                 if (scenarioReporter != null)
                 {// Set pending for the reporter
                     scenarioReporter.pending("No steps were defined");
@@ -152,50 +300,417 @@ public class ScenarioOutline<T> extends AbstractScenario
         return executeScenario;
     }
 
+    /**
+     * Marks the scenario as pending, since there are no test data.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     */
+    private void reportNoTestdata(final ReportInterface reporter)
+    {
+        // Add the pending status to the list of stati
+        getStatus().add(Status.PENDING);
+        // Set up reporting
+        final ReportElement scenarioReporter = setUpReporter(reporter, null);
+        // If a scenarioReporter could be built
+        if (scenarioReporter != null)
+        {
+            // And there are also no steps
+            if (getSteps().getSteps().isEmpty())
+            {
+                // Report that both a not found
+                scenarioReporter.pending("No Testdata and Steps were defined");
+            }
+            // Otherwise
+            else
+            { // Report that no test data was defined
+                scenarioReporter.pending("No Testdata were defined");
+            }
+        }
+    }
+
+    /**
+     * Executes the test data in parallel on a {@link ForkJoinPool}.<br>
+     * The test data are pulled in batches of {@link #ROWS_PER_WORKER} test data
+     * per worker. Each batch is split recursively via its {@link Spliterator} and
+     * executed before the next batch is pulled, so lazily supplied test data are
+     * pulled gradually and only the reports of one batch are held at a time. Each
+     * test datum is executed with the shared {@link StepPlan} and reports to its
+     * own {@link RecordingReportInterface}. The results are joined and replayed in
+     * the order of the test data, so the report and the collected exceptions and
+     * errors are the same as for a serial execution.
+     * 
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @return The results of all test data.
+     */
+    private RowResults doParallelTest(final StepPlan<T> plan, final ReportInterface reporter)
+    {
+        // Use the supplied pool or create one just for this execution
+        final ForkJoinPool forkJoinPool = pool != null ? pool : new ForkJoinPool(getParallelism());
+        final RowResults results = new RowResults();
+        try
+        {
+            final int batchSize = forkJoinPool.getParallelism() * ROWS_PER_WORKER;
+            // Split each batch into a few rows per task, so idle workers can steal them
+            final long leafSize = ROWS_PER_WORKER / 4;
+            final Iterator<T> iterator = testdata.iterator();
+            final List<T> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext())
+            {
+                // Pull the next batch only after the previous one was executed
+                batch.clear();
+                while (batch.size() < batchSize && iterator.hasNext())
+                {
+                    batch.add(iterator.next());
+                }
+                final RowResults batchResults = forkJoinPool.invoke(new RowTask(batch.spliterator(), leafSize,
+                        plan, reporter));
+                // Replay the reports in the order of the test data and release them
+                for (RecordingReportInterface recorder : batchResults.recorders)
+                {
+                    recorder.replay(reporter);
+                }
+                batchResults.recorders.clear();
+                results.append(batchResults);
+            }
+        } finally
+        {
+            // Only shut down the pool if it was created for this execution
+            if (forkJoinPool != pool)
+            {
+                forkJoinPool.shutdown();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Executes the test data at the same time, each on its own virtual thread.<br>
+     * The number of test data executed at the same time is limited by the
+     * configured parallelism or, if none is configured, by
+     * {@link VirtualThreads#defaultLimit()}. The next test datum is only pulled once a row may
+     * start. Like {@link #doParallelTest(StepPlan, ReportInterface)}, each test
+     * datum is executed with the shared {@link StepPlan} and reports to its own
+     * {@link RecordingReportInterface}. The rows are joined and replayed in the
+     * order of the test data as soon as they finished, so only a window of twice
+     * the limit is held at a time and the report and the collected exceptions and
+     * errors are the same as for a serial execution.
+     * 
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @return The results of all test data.
+     */
+    private RowResults doVirtualThreadTest(final StepPlan<T> plan, final ReportInterface reporter)
+    {
+        final int limit = parallelism > 0 ? parallelism : VirtualThreads.defaultLimit();
+        final int windowSize = (int) Math.min(2L * limit, Integer.MAX_VALUE);
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("testbddy-row-");
+        final Semaphore permits = new Semaphore(limit);
+        final Deque<Future<RowResults>> window = new ArrayDeque<>(Math.min(windowSize, 1024));
+        final RowResults results = new RowResults();
+        try
+        {
+            final Iterator<T> iterator = testdata.iterator();
+            while (true)
+            {
+                // Don't hold more rows than the window, even if the first one is slow
+                if (window.size() >= windowSize)
+                {
+                    joinRow(window.poll(), reporter, results);
+                }
+                // Wait for a free permit before pulling the next test datum
+                permits.acquire();
+                if (!iterator.hasNext())
+                {
+                    permits.release();
+                    break;
+                }
+                final T testdatum = iterator.next();
+                window.add(executor.submit(() ->
+                    {
+                        try
+                        {
+                            final RowResults rowResults = new RowResults();
+                            executeRecordedRow(testdatum, plan, reporter, rowResults);
+                            return rowResults;
+                        } finally
+                        {
+                            permits.release();
+                        }
+                    }));
+                // Replay the rows at the start of the window that already finished
+                while (!window.isEmpty() && window.peek().isDone())
+                {
+                    joinRow(window.poll(), reporter, results);
+                }
+            }
+            while (!window.isEmpty())
+            {
+                joinRow(window.poll(), reporter, results);
+            }
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ScenarioException("Scenario " + getDescription() + " was interrupted.", e);
+        } catch (ExecutionException e)
+        {
+            // Re-throw anything that would have ended a serial execution as well
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            else if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw new ScenarioException("Scenario " + getDescription() + " failed.", e.getCause());
+        } finally
+        {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the row, replays its reports and adds it to the results.
+     * 
+     * @param row
+     *            The future of the row.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @param results
+     *            The results of the previous rows.
+     * @throws InterruptedException
+     *             If the current thread was interrupted while waiting.
+     * @throws ExecutionException
+     *             If the row threw an exception.
+     */
+    private void joinRow(final Future<RowResults> row, final ReportInterface reporter, final RowResults results)
+            throws InterruptedException, ExecutionException
+    {
+        final RowResults rowResults = row.get();
+        for (RecordingReportInterface recorder : rowResults.recorders)
+        {
+            recorder.replay(reporter);
+        }
+        rowResults.recorders.clear();
+        results.append(rowResults);
+    }
+
+    /**
+     * Executes a single test datum with its own {@link RecordingReportInterface},
+     * which is added to the results unless the row is only summarized.
+     * 
+     * @param testdatum
+     *            The test datum to execute the steps with.
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @param results
+     *            The results the row is added to.
+     */
+    private void executeRecordedRow(final T testdatum, final StepPlan<T> plan, final ReportInterface reporter,
+            final RowResults results)
+    {
+        // Nothing has to be recorded if nothing is reported
+        final RecordingReportInterface recorder = NoOpReportInterface.isReporting(reporter)
+                ? new RecordingReportInterface() : null;
+        final boolean failed = executeRow(testdatum, plan, recorder != null ? recorder : reporter, results);
+        // Drop the report of rows that are only summarized
+        if (recorder != null && (failed || !isSummarized(reporter)))
+        {
+            results.recorders.add(recorder);
+        }
+    }
+
+    /**
+     * Executes a single test datum and counts it in the results.
+     * 
+     * @param testdatum
+     *            The test datum to execute the steps with.
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for the row.
+     * @param results
+     *            The results the row is added to.
+     * @return True if the row failed, otherwise false.
+     */
+    private boolean executeRow(final T testdatum, final StepPlan<T> plan, final ReportInterface reporter,
+            final RowResults results)
+    {
+        final int failures = results.scenarioExceptions.size() + results.scenarioErrors.size();
+        doSingleTest(testdatum, plan, reporter, results.scenarioExceptions, results.scenarioErrors);
+        results.rows++;
+        if (results.scenarioExceptions.size() + results.scenarioErrors.size() > failures)
+        {
+            results.failed++;
+            return true;
+        }
+        if (getStatus().contains(Status.SKIP))
+        {
+            results.skipped++;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the rows are only reported in detail if they fail.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @return True if a reporter exists and the {@link ReportDetail} is
+     *         {@link ReportDetail#FAILURES}.
+     */
+    private boolean isSummarized(final ReportInterface reporter)
+    {
+        return reporter != null && reportDetail == ReportDetail.FAILURES;
+    }
+
+    /**
+     * Reports a single element summing up all rows.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
+     * @param results
+     *            The results of all rows.
+     */
+    private void reportSummary(final ReportInterface reporter, final RowResults results)
+    {
+        final ReportElement summary = setUpSummaryReporter(reporter, true);
+        final String message = results.rows + " rows: " + (results.rows - results.failed - results.skipped)
+                + " passed, " + results.skipped + " skipped, " + results.failed
+                + " failed. Only failing rows are reported with their steps.";
+        if (results.failed > 0)
+        {
+            summary.fail(message);
+        }
+        else if (results.skipped > 0)
+        {
+            summary.skip(message);
+        }
+        else
+        {
+            summary.pass(message);
+        }
+    }
+
+    /**
+     * Creates the {@link ReportElement} summing up all rows.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
+     * @param reportStatus
+     *            Whether the status should be reported or not.
+     * @return The ReportElement for the summary.
+     */
+    private ReportElement setUpSummaryReporter(final ReportInterface reporter, final boolean reportStatus)
+    {
+        final ReportElement summary = reporter.scenarioOutline(getDescription());
+        if (getStatus() != null && reportStatus)
+        {
+            summary.assignCategory(getStatus());
+        }
+        return summary;
+    }
+
+    /**
+     * Returns the number of test data if it is known without iterating them.<br>
+     * Lazily supplied test data may be expensive to pull or only be pulled once,
+     * so they aren't counted.
+     * 
+     * @return The size of a {@link Collection}, otherwise <code>-1</code>.
+     */
+    private long knownRows()
+    {
+        return testdata instanceof Collection ? ((Collection<?>) testdata).size() : -1;
+    }
+
     /**
      * Executes a test with a single test datum.
      * 
      * @param testdatum
      *            The test datum to execute the steps with.
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution.
      * @param scenarioExceptions
      *            The list of {@link ScenarioException}s.
      * @param scenarioErrors
      *            The list of {@link ScenarioError}s.
      */
-    private void doSingleTest(final T testdatum, final List<ScenarioException> scenarioExceptions,
-            final List<ScenarioError> scenarioErrors)
+    private void doSingleTest(final T testdatum, final StepPlan<T> plan, final ReportInterface reporter,
+            final List<ScenarioException> scenarioExceptions, final List<ScenarioError> scenarioErrors)
     {
-        // Set the testdata
-        TypeSteps<T> typeSteps = getSteps().withData(testdatum);
-
         // If there are no steps, then the scenario is pending
         if (getSteps() == null || getSteps().getSteps().isEmpty())
         {
             // Add the pending status to the list of stati
             getStatus().add(Status.PENDING);
             // Set up reporting
-            final ReportElement scenarioReporter = setUpReporter(typeSteps, testdatum);
+            final ReportElement scenarioReporter = setUpReporter(reporter, testdatum);
             // Set pending for the reporter
-            scenarioReporter.pending("No steps found");
+            if (scenarioReporter != null)
+            {
+                scenarioReporter.pending("No steps found");
+            }
+            ExecutionListeners.rowFinished(this, testdatum, ExecutionListeners.rowStarted(this, testdatum),
+                    Outcome.PENDING, null);
             // End execution of feature
             return;
         }
 
         // Tell the reporter the scenario starts
-        ReportElement scenarioReporter = setUpReporter(typeSteps, testdatum);
+        ReportElement scenarioReporter = setUpReporter(reporter, testdatum);
 
-        System.out.println("Using testdata:\n" + testdatum.toString());
+        if (Console.isEnabled())
+        {
+            System.out.println("Using testdata:\n" + testdatum.toString());
+        }
+        final long startNanos = ExecutionListeners.rowStarted(this, testdatum);
+        // The outcome and failure the listeners are notified about
+        Outcome outcome = null;
+        Throwable failure = null;
         try
         {
-            executeScenario(scenarioReporter, typeSteps);
+            executeScenario(scenarioReporter, plan, testdatum, stepsReporter(plan, reporter, scenarioReporter));
+            outcome = getStatus().contains(Status.SKIP) ? Outcome.SKIP : Outcome.PASS;
         } catch (StepException exception)
         {
-            scenarioExceptions.add(scenarioException(testdatum, exception, scenarioReporter));
+            outcome = Outcome.FATAL;
+            // Keep the cause should reporting the row fail
+            failure = exception;
+            final ScenarioException scenarioException = scenarioException(testdatum, exception, scenarioReporter);
+            failure = scenarioException;
+            scenarioExceptions.add(scenarioException);
         } catch (StepError exception)
         {
-            scenarioErrors.add(scenarioError(testdatum, exception, scenarioReporter));
+            outcome = Outcome.FAIL;
+            // Keep the cause should reporting the row fail
+            failure = exception;
+            final ScenarioError scenarioError = scenarioError(testdatum, exception, scenarioReporter);
+            failure = scenarioError;
+            scenarioErrors.add(scenarioError);
+        } catch (RuntimeException | Error e)
+        {
+            outcome = Outcome.of(e);
+            failure = e;
+            throw e;
+        } finally
+        {
+            ExecutionListeners.rowFinished(this, testdatum, startNanos, outcome, failure);
+        }
+        if (Console.isEnabled())
+        {
+            System.out.println("\n");
         }
-        System.out.println("\n");
     }
 
     /**
@@ -250,42 +765,47 @@ public class ScenarioOutline<T> extends AbstractScenario
     }
 
     @Override
-    public void skipScenario()
+    public void skipScenario(final ReportInterface reporter)
     {
+        final long startNanos = ExecutionListeners.scenarioStarted(this);
+        if (isSummarized(reporter))
+        {
+            // Report a single skipped element instead of one per row and step
+            final long rows = knownRows();
+            setUpSummaryReporter(reporter, false).skip(
+                    rows >= 0 ? rows + " rows: 0 passed, " + rows + " skipped, 0 failed." : "All rows skipped.");
+            ExecutionListeners.scenarioFinished(this, startNanos, Outcome.SKIP, null);
+            return;
+        }
+        final StepPlan<T> plan = getSteps().compile();
         for (T testdatum : testdata)
         {
-            // Get the step definition
-            TypeSteps<T> typeSteps = getSteps();
-            // Set the testdata
-            typeSteps = typeSteps.withData(testdatum);
             // Set up the report for this element
-            ReportElement scenarioReporter = setUpReporter(typeSteps, testdatum, false);
-            // Set up the reporter for the bddSteps if none was supplied
-            if (typeSteps.getReporter() == null && this.getReporter() != null)
+            ReportElement scenarioReporter = setUpReporter(reporter, testdatum, false);
+            // Skip the steps
+            plan.skip(stepsReporter(plan, reporter, scenarioReporter), testdatum);
+            if (scenarioReporter != null)
             {
-                typeSteps.setReporter(this.getReporter());
+                scenarioReporter.skip(getDescription());
             }
-            // Skip the steps
-            typeSteps.skipSteps();
-            scenarioReporter.skip(getDescription());
         }
+        ExecutionListeners.scenarioFinished(this, startNanos, Outcome.SKIP, null);
     }
 
     /**
      * Creates a {@link ReportElement} for the scenario if a reporter is set.<br>
      * Also assigns the scenario's status as the report element's category.
      * 
-     * @param typeSteps
-     *            The {@link TypeSteps} for which to create the reporter.
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @param testdatum
      *            The test datum to execute the steps with.
-     * @return The ReportElement for the Scenario specified by typeSteps.
-     *         <code>null</code> if {@link #getReporter()} returns
-     *         <code>null</code>.
+     * @return The ReportElement for the Scenario with the test datum.
+     *         <code>null</code> if reporter is <code>null</code>.
      */
-    protected ReportElement setUpReporter(TypeSteps<T> typeSteps, T testdatum)
+    protected ReportElement setUpReporter(ReportInterface reporter, T testdatum)
     {
-        return setUpReporter(typeSteps, testdatum, true);
+        return setUpReporter(reporter, testdatum, true);
     }
 
     /**
@@ -293,27 +813,22 @@ public class ScenarioOutline<T> extends AbstractScenario
      * Also assigns the scenario's status as the report element's category if
      * reportStatus is true.
      * 
-     * @param typeSteps
-     *            The {@link TypeSteps} for which to create the reporter.
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @param testdatum
      *            The test datum to execute the steps with.
      * @param reportStatus
      *            Whether the status should be reported or not.
      * 
-     * @return The ReportElement for the Scenario specified by typeSteps.
-     *         <code>null</code> if {@link #getReporter()} returns
-     *         <code>null</code>.
+     * @return The ReportElement for the Scenario with the test datum.
+     *         <code>null</code> if reporter is <code>null</code>.
      */
-    protected ReportElement setUpReporter(TypeSteps<T> typeSteps, T testdatum, boolean reportStatus)
+    protected ReportElement setUpReporter(ReportInterface reporter, T testdatum, boolean reportStatus)
     {
         ReportElement scenarioReporter = null;
-        if (getReporter() != null)
+        if (reporter != null)
         {
-            scenarioReporter = getReporter().scenarioOutline(this.getDescription(), testdatum);
-            if (typeSteps != null && typeSteps.getReporter() == null)
-            {
-                typeSteps.setReporter(this.getReporter());
-            }
+            scenarioReporter = reporter.scenarioOutline(this.getDescription(), testdatum);
             if (this.getStatus() != null && reportStatus)
             {
                 scenarioReporter.assignCategory(getStatus());
@@ -327,10 +842,15 @@ public class ScenarioOutline<T> extends AbstractScenario
      * 
      * @param scenarioReporter
      *            The ReportElement of the scenario.
-     * @param typeSteps
-     *            The {@link TypeSteps} to execute.
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps.
+     * @param testdatum
+     *            The test datum to execute the steps with.
+     * @param stepsReporter
+     *            The {@link ReportInterface} responsible for the steps.
      */
-    protected void executeScenario(ReportElement scenarioReporter, TypeSteps<T> typeSteps)
+    protected void executeScenario(ReportElement scenarioReporter, StepPlan<T> plan, T testdatum,
+            ReportInterface stepsReporter)
     {
         if (getStatus().contains(Status.SKIP))
         {
@@ -341,7 +861,7 @@ public class ScenarioOutline<T> extends AbstractScenario
         }
         else
         {
-            typeSteps.test();
+            plan.test(stepsReporter, testdatum);
             if (scenarioReporter != null)
             {
                 scenarioReporter.pass(getDescription());
@@ -361,22 +881,52 @@ public class ScenarioOutline<T> extends AbstractScenario
      */
     private void finishScenario(List<ScenarioException> scenarioExceptions, List<ScenarioError> scenarioErrors)
     {
-        // Then we collect the throwables
-        MultipleScenarioWrapperException scenarioWrapperException = new MultipleScenarioWrapperException(
-                scenarioExceptions, scenarioErrors);
         // Throw a scenario exception if an exception or exception and error occured
         if (scenarioExceptions != null && !scenarioExceptions.isEmpty())
         {
-            throw new ScenarioException(scenarioWrapperException);
+            throw new ScenarioException(new MultipleScenarioWrapperException(scenarioExceptions, scenarioErrors));
         }
         // Throw a scenario error if an error occured
         else if (scenarioErrors != null && !scenarioErrors.isEmpty())
         {
-            throw new ScenarioError(scenarioWrapperException);
+            throw new ScenarioError(new MultipleScenarioWrapperException(scenarioExceptions, scenarioErrors));
         }
     }
 
+    /**
+     * Returns the {@link ReportInterface} responsible for the steps.<br>
+     * That is the reporter of the steps if they have one, otherwise the specified
+     * one. The steps are reported beneath the specified element.
+     * 
+     * @param plan
+     *            The compiled {@link StepPlan} of the steps to report.
+     * @param reporter
+     *            The {@link ReportInterface} of the scenario.
+     * @param scenarioReporter
+     *            The {@link ReportElement} of the scenario for the current test
+     *            datum.
+     * @return The ReportInterface for the steps.
+     */
+    private ReportInterface stepsReporter(StepPlan<T> plan, ReportInterface reporter,
+            ReportElement scenarioReporter)
+    {
+        final ReportInterface stepsReporter = plan.getReporter() != null ? plan.getReporter() : reporter;
+        return stepsReporter != null ? stepsReporter.withParent(scenarioReporter) : null;
+    }
+
+    /**
+     * Returns the test data if they were supplied as a {@link List}.
+     * 
+     * @return The list of test data. <code>null</code> if there are no test data
+     *         or they are supplied lazily, see {@link #getTestdataSource()}.
+     */
+    @SuppressWarnings("unchecked")
     public List<T> getTestdata()
+    {
+        return testdata instanceof List ? (List<T>) testdata : null;
+    }
+
+    public Iterable<T> getTestdataSource()
     {
         return testdata;
     }
@@ -386,6 +936,121 @@ public class ScenarioOutline<T> extends AbstractScenario
         return steps;
     }
 
+    /**
+     * Returns the maximum number of test data executed at the same time.
+     * 
+     * @return The configured parallelism or <code>1</code> if none is
+     *         configured.
+     */
+    public int getParallelism()
+    {
+        return Math.max(1, parallelism);
+    }
+
+    /**
+     * Whether the test data are executed in parallel.
+     * 
+     * @return True if more than one test datum may run at the same time.
+     */
+    public boolean isParallel()
+    {
+        return parallelism > 1 || pool != null || virtualThreads;
+    }
+
+    public boolean isVirtualThreads()
+    {
+        return virtualThreads;
+    }
+
+    /**
+     * Executes the test data in parallel with as many threads as there are
+     * available processors.
+     * 
+     * @return The current ScenarioOutline.
+     * @see #parallel(int)
+     */
+    public ScenarioOutline<T> parallel()
+    {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executes up to the specified number of test data in parallel.<br>
+     * The report and the thrown {@link ScenarioException} or {@link ScenarioError}
+     * are the same as for a serial execution, only the console output may be
+     * interleaved. Thus, the steps must not depend on the order of the test data.
+     * 
+     * @param parallelism
+     *            The maximum number of test data executed at the same time.
+     *            <code>1</code> executes them one after another.
+     * @return The current ScenarioOutline.
+     * @throws IllegalArgumentException
+     *             If parallelism is less than 1.
+     */
+    public ScenarioOutline<T> parallel(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Executes the test data in parallel on the specified {@link ForkJoinPool}.<br>
+     * The pool isn't shut down by the scenario outline.
+     * 
+     * @param pool
+     *            The ForkJoinPool that executes the test data. <code>null</code>
+     *            restores the configured parallelism.
+     * @return The current ScenarioOutline.
+     * @see #parallel(int)
+     */
+    public ScenarioOutline<T> withExecutor(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Executes each test datum on its own virtual thread, so tens of thousands of
+     * test data blocking on I/O can be executed at the same time.<br>
+     * By default, up to 10,000 test data are executed at the same time. A
+     * parallelism configured via {@link #parallel(int)} replaces this limit, so
+     * <code>parallel(1)</code> executes them one after another. If virtual threads
+     * aren't available, each test datum runs on its own platform thread and only
+     * up to 256 test data are executed at the same time by default.
+     * 
+     * @return The current ScenarioOutline.
+     * @see VirtualThreads
+     */
+    public ScenarioOutline<T> virtualThreads()
+    {
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * Sets how detailed the rows are reported.<br>
+     * By default, it is chosen by the system property
+     * {@link ReportDetail#DETAIL_PROPERTY}.
+     * 
+     * @param reportDetail
+     *            The {@link ReportDetail} of the rows.
+     * @return The current ScenarioOutline.
+     */
+    public ScenarioOutline<T> reportDetail(ReportDetail reportDetail)
+    {
+        this.reportDetail = reportDetail;
+        return this;
+    }
+
+    public ReportDetail getReportDetail()
+    {
+        return reportDetail;
+    }
+
     public void setSteps(TypeSteps<T> steps)
     {
         this.steps = steps;
@@ -412,4 +1077,127 @@ public class ScenarioOutline<T> extends AbstractScenario
         return this;
     }
 
+    /**
+     * The results of executing some test data.
+     * 
+     * @author ckeiner
+     */
+    private static class RowResults
+    {
+        /**
+         * The recorded reports of the test data.
+         */
+        private final List<RecordingReportInterface> recorders = new ArrayList<>();
+
+        /**
+         * The ScenarioExceptions of the test data.
+         */
+        private final List<ScenarioException> scenarioExceptions = new ArrayList<>();
+
+        /**
+         * The ScenarioErrors of the test data.
+         */
+        private final List<ScenarioError> scenarioErrors = new ArrayList<>();
+
+        /**
+         * The number of executed test data.
+         */
+        private long rows;
+
+        /**
+         * The number of failed test data.
+         */
+        private long failed;
+
+        /**
+         * The number of skipped test data.
+         */
+        private long skipped;
+
+        /**
+         * Appends the specified results to these results.
+         * 
+         * @param other
+         *            The results of test data that come after the test data of
+         *            these results.
+         * @return The current RowResults.
+         */
+        private RowResults append(RowResults other)
+        {
+            recorders.addAll(other.recorders);
+            scenarioExceptions.addAll(other.scenarioExceptions);
+            scenarioErrors.addAll(other.scenarioErrors);
+            rows += other.rows;
+            failed += other.failed;
+            skipped += other.skipped;
+            return this;
+        }
+    }
+
+    /**
+     * Executes the test data of a {@link Spliterator}.<br>
+     * As long as the Spliterator has more than leafSize elements, the first part is
+     * split off and executed by another task.
+     * 
+     * @author ckeiner
+     */
+    private class RowTask extends RecursiveTask<RowResults>
+    {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The test data of this task.
+         */
+        private final Spliterator<T> spliterator;
+
+        /**
+         * The number of test data up to which a task stops splitting.
+         */
+        private final long leafSize;
+
+        /**
+         * The compiled steps shared by all test data.
+         */
+        private final StepPlan<T> plan;
+
+        /**
+         * The reporter responsible for the execution.
+         */
+        private final ReportInterface reporter;
+
+        private RowTask(Spliterator<T> spliterator, long leafSize, StepPlan<T> plan, ReportInterface reporter)
+        {
+            this.spliterator = spliterator;
+            this.leafSize = leafSize;
+            this.plan = plan;
+            this.reporter = reporter;
+        }
+
+        @Override
+        protected RowResults compute()
+        {
+            // Split off the first part as long as there are enough test data
+            List<RowTask> prefixTasks = new ArrayList<>();
+            Spliterator<T> prefix;
+            while (spliterator.estimateSize() > leafSize && (prefix = spliterator.trySplit()) != null)
+            {
+                RowTask prefixTask = new RowTask(prefix, leafSize, plan, reporter);
+                prefixTask.fork();
+                prefixTasks.add(prefixTask);
+            }
+
+            // Execute the remaining test data
+            RowResults ownResults = new RowResults();
+            spliterator.forEachRemaining(testdatum -> executeRecordedRow(testdatum, plan, reporter, ownResults));
+
+            // Join the results in the order of the test data
+            RowResults results = new RowResults();
+            for (RowTask prefixTask : prefixTasks)
+            {
+                results.append(prefixTask.join());
+            }
+            return results.append(ownResults);
+        }
+    }
+
 }
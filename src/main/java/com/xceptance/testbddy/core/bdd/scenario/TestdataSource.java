@@ -0,0 +1,173 @@
+package com.xceptance.testbddy.core.bdd.scenario;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The test data of a {@link ScenarioOutline}, which are pulled one after another
+ * during the execution.<br>
+ * Unlike a list, a source doesn't need to hold all test data in memory. Each
+ * test datum is created when the ScenarioOutline reaches it and can be garbage
+ * collected as soon as it was executed. Thus, even outlines with millions of
+ * test data only hold the test data currently executed.<br>
+ * Sources created from a {@link Stream} or an {@link Iterator} can only be
+ * iterated once.
+ *
+ * @author ckeiner
+ *
+ * @param <T>
+ *            The type of the test data.
+ */
+public final class TestdataSource<T> implements Iterable<T>
+{
+    /**
+     * Creates a new Spliterator over the test data for each iteration.
+     */
+    private final Supplier<Spliterator<T>> spliterators;
+
+    /**
+     * Whether the test data can be iterated more than once.
+     */
+    private final boolean reusable;
+
+    /**
+     * Whether the test data were already iterated.
+     */
+    private final AtomicBoolean iterated = new AtomicBoolean();
+
+    /**
+     * Creates a new source.
+     *
+     * @param spliterators
+     *            Creates a new Spliterator over the test data for each iteration.
+     * @param reusable
+     *            Whether the test data can be iterated more than once.
+     */
+    private TestdataSource(final Supplier<Spliterator<T>> spliterators, final boolean reusable)
+    {
+        this.spliterators = spliterators;
+        this.reusable = reusable;
+    }
+
+    /**
+     * Creates a source with the test data of the specified {@link Iterable}.<br>
+     * The source can be iterated as often as the Iterable.
+     *
+     * @param testdata
+     *            The test data.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data.
+     */
+    public static <T> TestdataSource<T> of(final Iterable<T> testdata)
+    {
+        if (testdata instanceof TestdataSource)
+        {
+            return (TestdataSource<T>) testdata;
+        }
+        return new TestdataSource<T>(testdata::spliterator, true);
+    }
+
+    /**
+     * Creates a source with the test data of the specified {@link Stream}.<br>
+     * The source can only be iterated once.
+     *
+     * @param testdata
+     *            The test data.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data.
+     */
+    public static <T> TestdataSource<T> of(final Stream<T> testdata)
+    {
+        return new TestdataSource<T>(testdata::spliterator, false);
+    }
+
+    /**
+     * Creates a source with the test data of the specified {@link Iterator}.<br>
+     * The source can only be iterated once.
+     *
+     * @param testdata
+     *            The test data.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data.
+     */
+    public static <T> TestdataSource<T> of(final Iterator<T> testdata)
+    {
+        return new TestdataSource<T>(() -> Spliterators.spliteratorUnknownSize(testdata, Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * Creates a source that asks the specified {@link Supplier} for a new
+     * {@link Stream} of test data each time it is iterated.<br>
+     * Thus, the source can be iterated as often as needed.
+     *
+     * @param testdata
+     *            Supplies the test data.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data.
+     */
+    public static <T> TestdataSource<T> of(final Supplier<? extends Stream<T>> testdata)
+    {
+        return new TestdataSource<T>(() -> testdata.get().spliterator(), true);
+    }
+
+    /**
+     * Creates a source with the test data of the specified {@link Spliterator}.<br>
+     * The source can only be iterated once. Since the Spliterator is used
+     * directly, it can split the test data for a parallel execution.
+     *
+     * @param testdata
+     *            The test data.
+     * @param <T>
+     *            The type of the test data.
+     * @return A source with the test data.
+     */
+    public static <T> TestdataSource<T> of(final Spliterator<T> testdata)
+    {
+        return new TestdataSource<T>(() -> testdata, false);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a new {@link Spliterator} over the test data.
+     *
+     * @return A Spliterator over the test data.
+     * @throws IllegalStateException
+     *             If the source can only be iterated once and was already
+     *             iterated.
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        if (!reusable && iterated.getAndSet(true))
+        {
+            throw new IllegalStateException("The test data can only be iterated once");
+        }
+        return spliterators.get();
+    }
+
+    /**
+     * Whether the test data can be iterated more than once.
+     *
+     * @return True if the test data can be iterated more than once, otherwise
+     *         false.
+     */
+    public boolean isReusable()
+    {
+        return reusable;
+    }
+
+}
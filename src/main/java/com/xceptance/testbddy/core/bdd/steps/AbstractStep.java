@@ -2,12 +2,14 @@ package com.xceptance.testbddy.core.bdd.steps;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.aventstack.extentreports.GherkinKeyword;
 import com.xceptance.testbddy.api.PendingConsumer;
 import com.xceptance.testbddy.api.PendingRunnable;
 import com.xceptance.testbddy.core.bdd.status.Status;
 import com.xceptance.testbddy.core.bdd.status.Statusable;
+import com.xceptance.testbddy.core.listener.StepResources;
 import com.xceptance.testbddy.core.reporting.ReportElement;
 import com.xceptance.testbddy.core.reporting.ReportInterface;
 import com.xceptance.testbddy.core.throwables.errors.StepError;
@@ -80,94 +82,71 @@ public abstract class AbstractStep<T> implements Statusable
      */
     public void test()
     {
-        if (canAndShouldExecuteStep())
-        {
-            // Create the ReportElement
-            ReportElement stepReporter = setUpReporter();
-            // Print the description of the step
-            System.out.println(getDescription());
-            try
-            {
-                // If it shouldn't be skipped
-                if (!getStatus().contains(Status.SKIP))
-                {
-                    // Execute it
-                    executeStep();
-                    // Mark the node as passed if it exists
-                    if (stepReporter != null)
-                    {
-                        stepReporter.pass("");
-                    }
-                }
-                // If the step should be skipped
-                else
-                {
-                    // Mark the node as skipped
-                    if (stepReporter != null)
-                    {
-                        stepReporter.skip("");
-                    }
-                }
-            }
-            catch (Exception e)
-            {
-                // Mark the node as fatal
-                if (stepReporter != null)
-                {
-                    stepReporter.fatal(e);
-                }
-                // Throw an Exception
-                throw new StepException("Step " + getDescription() + " failed.", e);
-            }
-            catch (Error e)
-            {
-                // Mark the node as failed
-                if (stepReporter != null)
-                {
-                    stepReporter.fail(e);
-                }
-                // Throw an Error
-                throw new StepError("Step " + getDescription() + " failed.", e);
-            }
-        }
+        test(getReporter());
     }
 
     /**
-     * Verifies if the step can and should be executed. If a step is ignores, has a null behavior or the behavior is
-     * either {@link PendingRunnable} or {@link PendingConsumer}, it is not executed.
+     * Executes the step and reports it to the specified reporter.<br>
+     * Apart from that, it behaves exactly like {@link #test()}. If
+     * {@link StepResources} are measured, the report of a passed step shows them.
      * 
-     * @return True if it should be executed. Otherwise false.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can be <code>null</code>.
+     * @throws StepException
+     *             If an Exception occurs. The report shows the step as fatal.
+     * @throws StepError
+     *             If an Error occurs. The report shows the step as failed.
      */
-    protected boolean canAndShouldExecuteStep()
+    public void test(final ReportInterface reporter)
     {
-        boolean executeStep = true;
-        // If the status contains the Ignore-Status, simply don't show
-        if (getStatus().contains(Status.IGNORE))
+        markPending();
+        execute(reporter, false);
+    }
+
+    /**
+     * Adds the pending status to the list of stati if the behavior is either {@link PendingRunnable} or
+     * {@link PendingConsumer}.
+     */
+    void markPending()
+    {
+        if (isPending())
         {
-            executeStep = false;
+            getStatus().add(Status.PENDING);
         }
+    }
 
-        if (behavior == null)
+    /**
+     * Compiles the step into a {@link PlannedStep} and executes or skips it.<br>
+     * Hence, a step executed on its own runs the same code as a step of a {@link StepPlan}.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can be <code>null</code>.
+     * @param skip
+     *            Whether the step is skipped instead of executed.
+     */
+    void execute(final ReportInterface reporter, final boolean skip)
+    {
+        final PlannedStep<Object> step = new PlannedStep<Object>(this,
+                behavior != null ? datum -> executeStep() : null, false);
+        final StepExecution<Object> execution = new StepExecution<Object>(null);
+        if (skip)
         {
-            throw new StepException("Step " + getDescription() + " failed.", new IllegalStateException("Null behavior found"));
+            step.skip(reporter, execution);
         }
-
-        // If the behavior is either a pending runnable or pending consumer
-        if (behavior instanceof PendingRunnable || behavior instanceof PendingConsumer<?>)
+        else
         {
-            // Add the pending status to the list of stati
-            getStatus().add(Status.PENDING);
-            // Set up reporting
-            final ReportElement stepReporter = setUpReporter();
-            if (stepReporter != null)
-            {
-                // Set pending for the reporter
-                stepReporter.pending("No behavior was defined");
-            }
-            // End execution of feature
-            executeStep = false;
+            step.test(reporter, execution);
         }
-        return executeStep;
+    }
+
+    /**
+     * Whether the behavior is either {@link PendingRunnable} or {@link PendingConsumer}.
+     * 
+     * @return True if the step is pending, otherwise false.
+     */
+    public boolean isPending()
+    {
+        return behavior instanceof PendingRunnable || behavior instanceof PendingConsumer<?>;
     }
 
     /**
@@ -175,13 +154,18 @@ public abstract class AbstractStep<T> implements Statusable
      */
     public void skipStep()
     {
-        // Create the ReportElement
-        ReportElement element = setUpReporter(true);
-        // Mark the node as skipped
-        if (element != null)
-        {
-            element.skip(description);
-        }
+        skipStep(getReporter());
+    }
+
+    /**
+     * Skips the step and reports it to the specified reporter.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can be <code>null</code>.
+     */
+    public void skipStep(final ReportInterface reporter)
+    {
+        execute(reporter, true);
     }
 
     /**
@@ -193,51 +177,94 @@ public abstract class AbstractStep<T> implements Statusable
      * Creates a {@link ReportElement} for the step if a reporter is set.<br>
      * Also assigns the step's status as the report element's category.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @return The {@link ReportElement} representing the step.
      */
-    protected ReportElement setUpReporter()
+    protected ReportElement setUpReporter(ReportInterface reporter)
     {
-        return setUpReporter(true);
+        return setUpReporter(reporter, true);
     }
 
     /**
      * Creates a {@link ReportElement} for the step if a reporter is set.<br>
      * Also assigns the step's status as the report element's category if reportStatus is true.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @param reportStatus
      *            Whether the status should be shown in the report.
-     * @return The ReportElement for a Step. <code>null</code> if {@link #getReporter()} returns <code>null</code>.
+     * @return The ReportElement for a Step. <code>null</code> if reporter is <code>null</code>.
      */
-    protected ReportElement setUpReporter(boolean reportStatus)
+    protected ReportElement setUpReporter(ReportInterface reporter, boolean reportStatus)
     {
-        return setUpReporter(reportStatus, getDescription());
+        return setUpReporter(reporter, reportStatus, getDescription());
     }
 
     /**
      * Creates a {@link ReportElement} with a custom description for the step if a reporter is set.<br>
      * Also assigns the step's status as the report element's category if reportStatus is true.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
      * @param reportStatus
      *            Whether the status should be shown in the report.
      * @param description
      *            The description of the {@link ReportElement}.
-     * @return The ReportElement for a Step. <code>null</code> if {@link #getReporter()} returns <code>null</code>.
+     * @return The ReportElement for a Step. <code>null</code> if reporter is <code>null</code>.
      */
-    protected ReportElement setUpReporter(boolean reportStatus, String description)
+    protected ReportElement setUpReporter(ReportInterface reporter, boolean reportStatus, String description)
     {
         ReportElement element = null;
         if (reporter != null)
         {
             element = reporter.step(keyword, description);
-            if (getStatus() != null && reportStatus)
-            {
-                // Assign the status as category
-                element.assignCategory(getStatus());
-            }
+            assignStatus(element, reportStatus);
         }
         return element;
     }
 
+    /**
+     * Creates a {@link ReportElement} with a lazily computed description for the step if a reporter is set.<br>
+     * The description is only computed if the reporter needs it. Hence, nothing is computed without reporter.<br>
+     * Also assigns the step's status as the report element's category if reportStatus is true.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
+     * @param reportStatus
+     *            Whether the status should be shown in the report.
+     * @param description
+     *            Supplies the description of the {@link ReportElement}.
+     * @return The ReportElement for a Step. <code>null</code> if reporter is <code>null</code>.
+     */
+    protected ReportElement setUpReporter(ReportInterface reporter, boolean reportStatus, Supplier<String> description)
+    {
+        ReportElement element = null;
+        if (reporter != null)
+        {
+            element = reporter.step(keyword, description);
+            assignStatus(element, reportStatus);
+        }
+        return element;
+    }
+
+    /**
+     * Assigns the step's status as the category of the element if reportStatus is true.
+     * 
+     * @param element
+     *            The {@link ReportElement} of the step.
+     * @param reportStatus
+     *            Whether the status should be shown in the report.
+     */
+    private void assignStatus(ReportElement element, boolean reportStatus)
+    {
+        if (element != null && getStatus() != null && reportStatus)
+        {
+            // Assign the status as category
+            element.assignCategory(getStatus());
+        }
+    }
+
     protected void setDescription(String description)
     {
         this.description = description;
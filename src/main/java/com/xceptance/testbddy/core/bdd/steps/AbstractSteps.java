@@ -55,16 +55,20 @@ public abstract class AbstractSteps<T extends AbstractStep<?>> implements Status
      * 
      * @param step
      *            The step to skip.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for the step.
      */
-    protected abstract void skipStep(T step);
+    protected abstract void skipStep(T step, ReportInterface reporter);
 
     /**
      * Executes the specified step.
      * 
      * @param step
      *            The step to execute.
+     * @param reporter
+     *            The {@link ReportInterface} responsible for the step.
      */
-    protected abstract void executeStep(T step);
+    protected abstract void executeStep(T step, ReportInterface reporter);
 
     /**
      * Executes all {@link Step}s.<br>
@@ -78,6 +82,24 @@ public abstract class AbstractSteps<T extends AbstractStep<?>> implements Status
      *             If an StepError and no StepExceptions occurred in any Step.
      */
     public void test()
+    {
+        test(getReporter());
+    }
+
+    /**
+     * Executes all {@link Step}s and reports them to the specified reporter,
+     * unless a step has its own reporter.<br>
+     * Apart from that, it behaves exactly like {@link #test()}.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @throws StepException
+     *             If a StepException occurred in any Step.
+     * @throws StepError
+     *             If an StepError and no StepExceptions occurred in any Step.
+     */
+    public void test(final ReportInterface reporter)
     {
         StepException stepException = null;
         StepError stepError = null;
@@ -85,21 +107,19 @@ public abstract class AbstractSteps<T extends AbstractStep<?>> implements Status
         // Execute each step
         for (final T step : getSteps())
         {
-            if (step.getReporter() == null && this.getReporter() != null)
-            {
-                step.setReporter(getReporter());
-            }
+            // Use the reporter of the step if it has one
+            final ReportInterface stepReporter = step.getReporter() != null ? step.getReporter() : reporter;
             try
             {
                 // If an exception or error occured in a previous step, skip this step
                 if (stepException != null || stepError != null)
                 {
-                    skipStep(step);
+                    skipStep(step, stepReporter);
                 }
                 // Otherwise test it
                 else
                 {
-                    executeStep(step);
+                    executeStep(step, stepReporter);
                 }
             } catch (StepException e)
             {
@@ -124,14 +144,23 @@ public abstract class AbstractSteps<T extends AbstractStep<?>> implements Status
      * Doesn't execute the behavior, but shows them in the report as skipped.
      */
     public void skipSteps()
+    {
+        skipSteps(getReporter());
+    }
+
+    /**
+     * Doesn't execute the behavior, but shows them as skipped in the report of
+     * the specified reporter, unless a step has its own reporter.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     */
+    public void skipSteps(final ReportInterface reporter)
     {
         for (final T step : getSteps())
         {
-            if (step.getReporter() == null && this.getReporter() != null)
-            {
-                step.setReporter(getReporter());
-            }
-            skipStep(step);
+            skipStep(step, step.getReporter() != null ? step.getReporter() : reporter);
         }
     }
 
@@ -0,0 +1,313 @@
+package com.xceptance.testbddy.core.bdd.steps;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.status.Status;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
+import com.xceptance.testbddy.core.listener.StepResources;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.throwables.errors.StepError;
+import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+import com.xceptance.testbddy.core.util.Console;
+import com.xceptance.testbddy.core.util.PlaceholderResolver;
+
+/**
+ * A compiled step of a {@link StepPlan}.<br>
+ * The keyword, description, behavior, reporter and status of the definition are
+ * resolved once, including whether the step is ignored, skipped or pending.
+ * Thus, executing the step only branches on these flags. The test datum is
+ * passed with the {@link StepExecution}, so one compiled step can be executed
+ * by several threads at the same time. A step executed on its own via
+ * {@link AbstractStep#test(ReportInterface)} is compiled as well, so both run
+ * the same code.
+ *
+ * @param <T>
+ *            The type of the test data.
+ * @author ckeiner
+ */
+final class PlannedStep<T>
+{
+    /**
+     * The definition of the step, which is passed to the listeners.
+     */
+    private final AbstractStep<?> definition;
+
+    private final GherkinKeyword keyword;
+
+    private final String description;
+
+    /**
+     * The behavior or <code>null</code> if there is none.
+     */
+    private final Consumer<T> behavior;
+
+    /**
+     * The reporter of the step or <code>null</code>.
+     */
+    private final ReportInterface reporter;
+
+    /**
+     * The status assigned as category.
+     */
+    private final Set<Status> status;
+
+    /**
+     * The status assigned as category if the step is pending.
+     */
+    private final Set<Status> pendingStatus;
+
+    private final boolean ignored;
+
+    private final boolean skipped;
+
+    /**
+     * Whether the behavior is {@link com.xceptance.testbddy.api.PendingRunnable}
+     * or {@link com.xceptance.testbddy.api.PendingConsumer}.
+     */
+    private final boolean pending;
+
+    /**
+     * Whether the description has placeholders, which are resolved with the test
+     * datum.
+     */
+    private final boolean placeholders;
+
+    /**
+     * Compiles the specified step.
+     *
+     * @param definition
+     *            The definition of the step.
+     * @param behavior
+     *            The behavior executed with the test datum or <code>null</code>
+     *            if the step has none.
+     * @param typed
+     *            Whether the placeholders of the description are resolved with
+     *            the test datum.
+     */
+    PlannedStep(final AbstractStep<?> definition, final Consumer<T> behavior, final boolean typed)
+    {
+        this.definition = definition;
+        this.keyword = definition.getKeyword();
+        this.description = definition.getDescription();
+        this.behavior = behavior;
+        this.reporter = definition.getReporter();
+        this.status = Collections.unmodifiableSet(new LinkedHashSet<>(definition.getStatus()));
+        this.ignored = status.contains(Status.IGNORE);
+        this.skipped = status.contains(Status.SKIP);
+        this.pending = definition.isPending();
+        if (pending && !status.contains(Status.PENDING))
+        {
+            final Set<Status> pendingStatus = new LinkedHashSet<>(status);
+            pendingStatus.add(Status.PENDING);
+            this.pendingStatus = Collections.unmodifiableSet(pendingStatus);
+        }
+        else
+        {
+            this.pendingStatus = status;
+        }
+        this.placeholders = typed && description != null
+                && PlaceholderResolver.getTemplate(description).hasPlaceholders();
+    }
+
+    /**
+     * Executes the step like {@link AbstractStep#test(ReportInterface)}, but
+     * doesn't mark pending steps as pending in their definition.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} responsible for the step. Can be
+     *            <code>null</code>.
+     * @param execution
+     *            The context of this execution.
+     * @throws StepException
+     *             If an Exception occurs. The report shows the step as fatal.
+     * @throws StepError
+     *             If an Error occurs. The report shows the step as failed.
+     */
+    void test(final ReportInterface reporter, final StepExecution<T> execution)
+    {
+        if (behavior == null)
+        {
+            throw new StepException("Step " + description + " failed.",
+                    new IllegalStateException("Null behavior found"));
+        }
+        if (pending)
+        {
+            final ReportElement stepReporter = setUpReporter(reporter, pendingStatus, execution);
+            if (stepReporter != null)
+            {
+                // Set pending for the reporter
+                stepReporter.pending("No behavior was defined");
+            }
+            // Notify the listeners about the pending step
+            ExecutionListeners.stepFinished(definition, ExecutionListeners.stepStarted(definition), Outcome.PENDING,
+                    null);
+            return;
+        }
+        // If the step is ignored, simply don't show it
+        if (ignored)
+        {
+            return;
+        }
+
+        // Create the ReportElement
+        final ReportElement stepReporter = setUpReporter(reporter, status, execution);
+        // Print the description of the step
+        if (Console.isEnabled())
+        {
+            System.out.println(description);
+        }
+        // Notify the listeners
+        final long startNanos = ExecutionListeners.stepStarted(definition);
+        // Measure the resources of the step if requested
+        final StepResources resources = StepResources.start();
+        // Only the behavior may fail the step, not the reporter or the listeners
+        Throwable failure = null;
+        if (!skipped)
+        {
+            try
+            {
+                // Execute it
+                behavior.accept(execution.getTestdatum());
+            } catch (Exception | Error e)
+            {
+                failure = e;
+            }
+        }
+        stop(resources);
+        if (failure == null)
+        {
+            final Outcome outcome = skipped ? Outcome.SKIP : Outcome.PASS;
+            try
+            {
+                // Mark the node as passed or skipped if it exists
+                if (stepReporter != null)
+                {
+                    if (skipped)
+                    {
+                        stepReporter.skip("");
+                    }
+                    else
+                    {
+                        stepReporter.pass(resources != null ? resources.toString() : "");
+                    }
+                }
+            } finally
+            {
+                ExecutionListeners.stepFinished(definition, startNanos, outcome, null, resources);
+            }
+        }
+        else if (failure instanceof Exception)
+        {
+            try
+            {
+                // Mark the node as fatal
+                if (stepReporter != null)
+                {
+                    stepReporter.fatal(failure);
+                }
+            } finally
+            {
+                ExecutionListeners.stepFinished(definition, startNanos, Outcome.FATAL, failure, resources);
+            }
+            // Throw an Exception
+            throw new StepException("Step " + description + " failed.", failure);
+        }
+        else
+        {
+            try
+            {
+                // Mark the node as failed
+                if (stepReporter != null)
+                {
+                    stepReporter.fail(failure);
+                }
+            } finally
+            {
+                ExecutionListeners.stepFinished(definition, startNanos, Outcome.FAIL, failure, resources);
+            }
+            // Throw an Error
+            throw new StepError("Step " + description + " failed.", failure);
+        }
+    }
+
+    /**
+     * Skips the step like {@link AbstractStep#skipStep(ReportInterface)}.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} responsible for the step. Can be
+     *            <code>null</code>.
+     * @param execution
+     *            The context of this execution.
+     */
+    void skip(final ReportInterface reporter, final StepExecution<T> execution)
+    {
+        // Create the ReportElement
+        final ReportElement element = setUpReporter(reporter, status, execution);
+        // Mark the node as skipped
+        if (element != null)
+        {
+            element.skip(description);
+        }
+        // Notify the listeners about the skipped step
+        ExecutionListeners.stepFinished(definition, ExecutionListeners.stepStarted(definition), Outcome.SKIP, null);
+    }
+
+    /**
+     * Creates the {@link ReportElement} of the step with the specified status as
+     * category if a reporter is set.<br>
+     * Placeholders are only resolved if the reporter needs the description.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
+     * @param status
+     *            The status shown in the report.
+     * @param execution
+     *            The context of this execution.
+     * @return The ReportElement or <code>null</code> if reporter is
+     *         <code>null</code>.
+     */
+    private ReportElement setUpReporter(final ReportInterface reporter, final Set<Status> status,
+            final StepExecution<T> execution)
+    {
+        if (reporter == null)
+        {
+            return null;
+        }
+        final ReportElement element = placeholders ? reporter.step(keyword, () -> execution.resolve(description))
+                : reporter.step(keyword, description);
+        if (element != null)
+        {
+            // Assign the status as category
+            element.assignCategory(status);
+        }
+        return element;
+    }
+
+    /**
+     * Stops the measurement of the resources if it was started.
+     *
+     * @param resources
+     *            The started {@link StepResources} or <code>null</code>.
+     * @return The stopped StepResources or <code>null</code>.
+     */
+    private static StepResources stop(final StepResources resources)
+    {
+        return resources != null ? resources.stop() : null;
+    }
+
+    /**
+     * Returns the reporter of the step.
+     *
+     * @return The {@link ReportInterface} of the step or <code>null</code>.
+     */
+    ReportInterface getReporter()
+    {
+        return reporter;
+    }
+}
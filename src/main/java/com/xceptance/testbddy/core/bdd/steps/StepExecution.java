@@ -0,0 +1,61 @@
+package com.xceptance.testbddy.core.bdd.steps;
+
+import com.xceptance.testbddy.core.util.PlaceholderResolver;
+
+/**
+ * The context of a single execution of a {@link StepPlan}, e.g. of one row of a
+ * scenario outline.<br>
+ * It holds the test datum, so the compiled steps stay free of execution state,
+ * and the {@link PlaceholderResolver}, which is only created once a description
+ * is resolved.
+ *
+ * @param <T>
+ *            The type of the test data.
+ * @author ckeiner
+ */
+final class StepExecution<T>
+{
+    /**
+     * The test datum of this execution.
+     */
+    private final T testdatum;
+
+    /**
+     * The resolver of the placeholders or <code>null</code> if no description was
+     * resolved yet.
+     */
+    private PlaceholderResolver<T> resolver;
+
+    /**
+     * Creates the context of an execution with the specified test datum.
+     *
+     * @param testdatum
+     *            The test datum of this execution.
+     */
+    StepExecution(final T testdatum)
+    {
+        this.testdatum = testdatum;
+    }
+
+    /**
+     * Resolves the placeholders in the description with the test datum of this
+     * execution.
+     *
+     * @param description
+     *            The description with placeholders.
+     * @return The description with resolved placeholders.
+     */
+    String resolve(final String description)
+    {
+        if (resolver == null)
+        {
+            resolver = new PlaceholderResolver<T>();
+        }
+        return resolver.resolvePlaceholders(description, testdatum);
+    }
+
+    T getTestdatum()
+    {
+        return testdatum;
+    }
+}
@@ -0,0 +1,197 @@
+package com.xceptance.testbddy.core.bdd.steps;
+
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.throwables.errors.StepError;
+import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+
+/**
+ * An immutable execution plan of {@link Steps} or {@link TypeSteps}, see
+ * {@link Steps#compile()} and {@link TypeSteps#compile()}.<br>
+ * The steps are compiled once into a flat array of {@link PlannedStep}s with
+ * their keyword, description, behavior, reporter and status, including whether
+ * they are ignored, skipped or pending. Executing the plan neither copies nor
+ * modifies the step definitions. Each execution gets its own
+ * {@link StepExecution} with the test datum instead. Hence, a plan can be
+ * executed by several threads at the same time, e.g. for the rows of a
+ * scenario outline.<br>
+ * Besides that, a plan behaves exactly like {@link AbstractSteps#test()} and
+ * {@link AbstractSteps#skipSteps()}, except that pending steps aren't marked as
+ * pending in their definition. Later changes of the definition don't affect
+ * the plan.
+ *
+ * @param <T>
+ *            The type of the test data.
+ * @author ckeiner
+ */
+public final class StepPlan<T>
+{
+    /**
+     * The compiled steps in the order of their definition.
+     */
+    private final PlannedStep<T>[] steps;
+
+    /**
+     * The reporter of the steps or <code>null</code>.
+     */
+    private final ReportInterface reporter;
+
+    /**
+     * Creates a plan of the specified steps.
+     *
+     * @param steps
+     *            The compiled steps.
+     * @param reporter
+     *            The reporter of the steps or <code>null</code>.
+     */
+    private StepPlan(final PlannedStep<T>[] steps, final ReportInterface reporter)
+    {
+        this.steps = steps;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Compiles the specified {@link TypeSteps}.
+     *
+     * @param typeSteps
+     *            The TypeSteps to compile.
+     * @return The StepPlan of the TypeSteps.
+     */
+    static <T> StepPlan<T> of(final TypeSteps<T> typeSteps)
+    {
+        final PlannedStep<T>[] planned = newArray(typeSteps.getSteps().size());
+        for (int i = 0; i < planned.length; i++)
+        {
+            final TypeStep<T> step = typeSteps.getSteps().get(i);
+            planned[i] = new PlannedStep<T>(step, step.getBehavior() != null ? step::executeStep : null, true);
+        }
+        return new StepPlan<T>(planned, typeSteps.getReporter());
+    }
+
+    /**
+     * Compiles the specified {@link Steps}.
+     *
+     * @param steps
+     *            The Steps to compile.
+     * @return The StepPlan of the Steps, which ignores the test data.
+     */
+    static <T> StepPlan<T> of(final Steps steps)
+    {
+        final PlannedStep<T>[] planned = newArray(steps.getSteps().size());
+        for (int i = 0; i < planned.length; i++)
+        {
+            final Runnable runnable = steps.getSteps().get(i).getBehavior();
+            planned[i] = new PlannedStep<T>(steps.getSteps().get(i), runnable != null ? datum -> runnable.run() : null,
+                    false);
+        }
+        return new StepPlan<T>(planned, steps.getReporter());
+    }
+
+    /**
+     * Creates an array for the specified number of compiled steps.
+     *
+     * @param size
+     *            The number of steps.
+     * @return The empty array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> PlannedStep<T>[] newArray(final int size)
+    {
+        return (PlannedStep<T>[]) new PlannedStep<?>[size];
+    }
+
+    /**
+     * Executes all steps with the specified test datum and reports them to the
+     * specified reporter, unless a step has its own reporter.<br>
+     * If an exception or error occurs in any step, the remaining steps are skipped
+     * and the throwable is re-thrown. Should both, an exception and an error,
+     * occur, a StepException is thrown.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @param testdatum
+     *            The test datum of this execution.
+     * @throws StepException
+     *             If a StepException occurred in any Step.
+     * @throws StepError
+     *             If an StepError and no StepExceptions occurred in any Step.
+     */
+    public void test(final ReportInterface reporter, final T testdatum)
+    {
+        final StepExecution<T> execution = new StepExecution<T>(testdatum);
+        StepException stepException = null;
+        StepError stepError = null;
+
+        for (final PlannedStep<T> step : steps)
+        {
+            // Use the reporter of the step if it has one
+            final ReportInterface stepReporter = step.getReporter() != null ? step.getReporter() : reporter;
+            try
+            {
+                // If an exception or error occured in a previous step, skip this step
+                if (stepException != null || stepError != null)
+                {
+                    step.skip(stepReporter, execution);
+                }
+                else
+                {
+                    step.test(stepReporter, execution);
+                }
+            } catch (StepException e)
+            {
+                stepException = e;
+            } catch (StepError e)
+            {
+                stepError = e;
+            }
+        }
+
+        if (stepException != null)
+        {
+            throw stepException;
+        }
+        else if (stepError != null)
+        {
+            throw stepError;
+        }
+    }
+
+    /**
+     * Doesn't execute the steps, but shows them as skipped in the report of the
+     * specified reporter, unless a step has its own reporter.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @param testdatum
+     *            The test datum of this execution.
+     */
+    public void skip(final ReportInterface reporter, final T testdatum)
+    {
+        final StepExecution<T> execution = new StepExecution<T>(testdatum);
+        for (final PlannedStep<T> step : steps)
+        {
+            step.skip(step.getReporter() != null ? step.getReporter() : reporter, execution);
+        }
+    }
+
+    /**
+     * Returns the reporter of the steps.
+     *
+     * @return The {@link ReportInterface} of the steps or <code>null</code>.
+     */
+    public ReportInterface getReporter()
+    {
+        return reporter;
+    }
+
+    /**
+     * Returns the number of compiled steps, including ignored ones.
+     *
+     * @return The number of steps.
+     */
+    public int size()
+    {
+        return steps.length;
+    }
+}
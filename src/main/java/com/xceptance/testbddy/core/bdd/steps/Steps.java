@@ -3,6 +3,7 @@ package com.xceptance.testbddy.core.bdd.steps;
 import java.util.ArrayList;
 
 import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
 
 /**
  * Describes a BDD Scenario.<br>
@@ -23,15 +24,15 @@ public class Steps extends AbstractSteps<Step>
     }
 
     @Override
-    protected void executeStep(Step step)
+    protected void executeStep(Step step, ReportInterface reporter)
     {
-        step.test();
+        step.test(reporter);
     }
 
     @Override
-    protected void skipStep(Step step)
+    protected void skipStep(Step step, ReportInterface reporter)
     {
-        step.skipStep();
+        step.skipStep(reporter);
     }
 
     /**
@@ -142,6 +143,19 @@ public class Steps extends AbstractSteps<Step>
         return this;
     }
 
+    /**
+     * Compiles the steps into an immutable {@link StepPlan}, which ignores the
+     * test data it is executed with.
+     * 
+     * @param <T>
+     *            The type of the test data of the plan.
+     * @return The StepPlan of the current steps.
+     */
+    public <T> StepPlan<T> compile()
+    {
+        return StepPlan.of(this);
+    }
+
     @Override
     public Steps ignore()
     {
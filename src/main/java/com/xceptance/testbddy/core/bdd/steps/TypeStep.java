@@ -4,6 +4,7 @@ import java.util.function.Consumer;
 
 import com.aventstack.extentreports.GherkinKeyword;
 import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
 import com.xceptance.testbddy.core.util.PlaceholderResolver;
 
 /**
@@ -87,18 +88,96 @@ public class TypeStep<T> extends AbstractStep<Consumer<T>>
     }
 
     /**
-     * First, resolves the placeholders in the description, then sets up the
-     * {@link ReportElement} for this component.<br>
-     * Also assigns the step's status as the report element's category.
+     * Executes the step with the specified test datum without setting it on this
+     * step, so the step can be shared by several executions.
      * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @param testdata
+     *            The test datum of this execution.
+     */
+    void test(final ReportInterface reporter, final T testdata)
+    {
+        markPending();
+        execute(reporter, testdata, false);
+    }
+
+    /**
+     * Skips the step with the specified test datum without setting it on this
+     * step.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @param testdata
+     *            The test datum of this execution.
+     */
+    void skipStep(final ReportInterface reporter, final T testdata)
+    {
+        execute(reporter, testdata, true);
+    }
+
+    @Override
+    void execute(final ReportInterface reporter, final boolean skip)
+    {
+        execute(reporter, testdata, skip);
+    }
+
+    /**
+     * Compiles the step into a {@link PlannedStep} and executes or skips it with
+     * the specified test datum.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} responsible for this execution. Can
+     *            be <code>null</code>.
+     * @param testdata
+     *            The test datum of this execution.
+     * @param skip
+     *            Whether the step is skipped instead of executed.
+     */
+    private void execute(final ReportInterface reporter, final T testdata, final boolean skip)
+    {
+        final PlannedStep<T> step = new PlannedStep<T>(this, getBehavior() != null ? this::executeStep : null, true);
+        final StepExecution<T> execution = new StepExecution<T>(testdata);
+        if (skip)
+        {
+            step.skip(reporter, execution);
+        }
+        else
+        {
+            step.test(reporter, execution);
+        }
+    }
+
+    /**
+     * Sets up the {@link ReportElement} for this component with a description, in
+     * which the placeholders are resolved.<br>
+     * The placeholders are only resolved if the reporter needs the description.
+     * Thus, nothing is resolved without reporter.<br>
+     * Also assigns the step's status as the report element's category if
+     * reportStatus is true.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} that creates the element.
+     * @param reportStatus
+     *            Whether the status should be shown in the report.
      * @return The {@link ReportElement} representing the step.
      */
     @Override
-    protected ReportElement setUpReporter()
+    protected ReportElement setUpReporter(ReportInterface reporter, boolean reportStatus)
     {
-        PlaceholderResolver<T> resolver = new PlaceholderResolver<>();
-        String resolvedDescription = resolver.resolvePlaceholders(getDescription(), testdata);
-        return super.setUpReporter(true, resolvedDescription);
+        return super.setUpReporter(reporter, reportStatus, this::resolveDescription);
+    }
+
+    /**
+     * Resolves the placeholders in the description with the {@link #testdata}.
+     * 
+     * @return The description with resolved placeholders.
+     */
+    public String resolveDescription()
+    {
+        return new PlaceholderResolver<T>().resolvePlaceholders(getDescription(), testdata);
     }
 
     /**
@@ -109,6 +188,19 @@ public class TypeStep<T> extends AbstractStep<Consumer<T>>
      */
     @Override
     protected void executeStep()
+    {
+        executeStep(testdata);
+    }
+
+    /**
+     * Executes the consumer with the specified test datum as parameter.
+     * 
+     * @param testdata
+     *            The test datum of this execution.
+     * @throws IllegalStateException
+     *             If testdata is <code>null</code>.
+     */
+    void executeStep(T testdata)
     {
         // Throw an error if the testdata is null
         if (testdata == null)
@@ -10,6 +10,7 @@ import com.aventstack.extentreports.gherkin.model.Then;
 import com.aventstack.extentreports.gherkin.model.When;
 import com.xceptance.testbddy.api.PendingConsumer;
 import com.xceptance.testbddy.api.PendingRunnable;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
 
 /**
  * Describes a scenario with only one data set.<br>
@@ -37,15 +38,16 @@ public class TypeSteps<T> extends AbstractSteps<TypeStep<T>>
     }
 
     @Override
-    protected void executeStep(TypeStep<T> step)
+    protected void executeStep(TypeStep<T> step, ReportInterface reporter)
     {
-        step.withData(data).test();
+        // Pass the data instead of setting it on the step, so the step can be shared
+        step.test(reporter, data);
     }
 
     @Override
-    protected void skipStep(TypeStep<T> step)
+    protected void skipStep(TypeStep<T> step, ReportInterface reporter)
     {
-        step.withData(data).skipStep();
+        step.skipStep(reporter, data);
     }
 
     /**
@@ -311,6 +313,17 @@ public class TypeSteps<T> extends AbstractSteps<TypeStep<T>>
         return this;
     }
 
+    /**
+     * Compiles the steps into an immutable {@link StepPlan}, which executes them
+     * with a test datum without copying or modifying them.
+     * 
+     * @return The StepPlan of the current steps.
+     */
+    public StepPlan<T> compile()
+    {
+        return StepPlan.of(this);
+    }
+
     /**
      * Creates a {@link Consumer} out of the specified {@link Runnable}.
      * 
@@ -0,0 +1,187 @@
+package com.xceptance.testbddy.core.listener;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+
+/**
+ * Is notified when features, scenarios, rows of scenario outlines and steps
+ * start and finish.<br>
+ * Timestamps are taken with {@link System#nanoTime()}, so only differences
+ * between them are meaningful. Each finish callback carries the timestamp of
+ * the start as well, so listeners don't have to keep track of running
+ * executions.<br>
+ * Listeners are registered with {@link ExecutionListeners#register} and are
+ * called on the thread executing the component. Hence, they have to be usable
+ * by several threads at the same time if features, scenarios or outlines run in
+ * parallel. Every method does nothing by default.
+ *
+ * @author ckeiner
+ */
+public interface ExecutionListener
+{
+    /**
+     * Called when a feature starts.
+     *
+     * @param feature
+     *            The started {@link Feature}.
+     * @param startNanos
+     *            The time the feature started.
+     */
+    public default void featureStarted(Feature feature, long startNanos)
+    {
+    }
+
+    /**
+     * Called when a feature finished.
+     *
+     * @param feature
+     *            The finished {@link Feature}.
+     * @param startNanos
+     *            The time the feature started.
+     * @param endNanos
+     *            The time the feature finished.
+     * @param outcome
+     *            The {@link Outcome} of the feature.
+     * @param throwable
+     *            The Throwable the feature failed with, otherwise
+     *            <code>null</code>.
+     */
+    public default void featureFinished(Feature feature, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+    }
+
+    /**
+     * Called when a scenario or scenario outline starts.
+     *
+     * @param scenario
+     *            The started {@link AbstractScenario}.
+     * @param startNanos
+     *            The time the scenario started.
+     */
+    public default void scenarioStarted(AbstractScenario scenario, long startNanos)
+    {
+    }
+
+    /**
+     * Called when a scenario or scenario outline finished.<br>
+     * A scenario outline is finished once all its rows are finished.
+     *
+     * @param scenario
+     *            The finished {@link AbstractScenario}.
+     * @param startNanos
+     *            The time the scenario started.
+     * @param endNanos
+     *            The time the scenario finished.
+     * @param outcome
+     *            The {@link Outcome} of the scenario.
+     * @param throwable
+     *            The Throwable the scenario failed with, otherwise
+     *            <code>null</code>.
+     */
+    public default void scenarioFinished(AbstractScenario scenario, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+    }
+
+    /**
+     * Called when a row of a scenario outline starts.
+     *
+     * @param outline
+     *            The {@link ScenarioOutline} executing the row.
+     * @param testdatum
+     *            The test datum of the row.
+     * @param startNanos
+     *            The time the row started.
+     */
+    public default void rowStarted(ScenarioOutline<?> outline, Object testdatum, long startNanos)
+    {
+    }
+
+    /**
+     * Called when a row of a scenario outline finished.
+     *
+     * @param outline
+     *            The {@link ScenarioOutline} executing the row.
+     * @param testdatum
+     *            The test datum of the row.
+     * @param startNanos
+     *            The time the row started.
+     * @param endNanos
+     *            The time the row finished.
+     * @param outcome
+     *            The {@link Outcome} of the row.
+     * @param throwable
+     *            The Throwable the row failed with, otherwise <code>null</code>.
+     */
+    public default void rowFinished(ScenarioOutline<?> outline, Object testdatum, long startNanos, long endNanos,
+            Outcome outcome, Throwable throwable)
+    {
+    }
+
+    /**
+     * Called when a step starts.
+     *
+     * @param step
+     *            The started {@link AbstractStep}.
+     * @param startNanos
+     *            The time the step started.
+     */
+    public default void stepStarted(AbstractStep<?> step, long startNanos)
+    {
+    }
+
+    /**
+     * Called when a step finished.
+     *
+     * @param step
+     *            The finished {@link AbstractStep}.
+     * @param startNanos
+     *            The time the step started.
+     * @param endNanos
+     *            The time the step finished.
+     * @param outcome
+     *            The {@link Outcome} of the step.
+     * @param throwable
+     *            The Throwable the step failed with, otherwise <code>null</code>.
+     */
+    public default void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+    }
+
+    /**
+     * Called when a step finished, together with the resources it used.<br>
+     * By default, it calls
+     * {@link #stepFinished(AbstractStep, long, long, Outcome, Throwable)}.
+     *
+     * @param step
+     *            The finished {@link AbstractStep}.
+     * @param startNanos
+     *            The time the step started.
+     * @param endNanos
+     *            The time the step finished.
+     * @param outcome
+     *            The {@link Outcome} of the step.
+     * @param throwable
+     *            The Throwable the step failed with, otherwise <code>null</code>.
+     * @param resources
+     *            The {@link StepResources} the step used. <code>null</code> if
+     *            they aren't measured.
+     */
+    public default void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable, StepResources resources)
+    {
+        stepFinished(step, startNanos, endNanos, outcome, throwable);
+    }
+
+    /**
+     * Called once when the JVM shuts down after all tests were executed.<br>
+     * Listeners can use it to export what they collected during the run.
+     */
+    public default void runFinished()
+    {
+    }
+}
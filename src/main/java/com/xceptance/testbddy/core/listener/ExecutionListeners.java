@@ -0,0 +1,447 @@
+package com.xceptance.testbddy.core.listener;
+
+import java.util.Arrays;
+import java.util.ServiceLoader;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+
+/**
+ * The globally registered {@link ExecutionListener}s and their dispatch.<br>
+ * The listeners are kept in an array that is replaced on each registration.
+ * Thus, a dispatch only reads a volatile field and iterates the array. Without
+ * any listener, it doesn't even take a timestamp and allocates nothing. A
+ * RuntimeException thrown by a listener is printed and otherwise ignored.<br>
+ * Listeners listed in
+ * <code>META-INF/services/com.xceptance.testbddy.core.listener.ExecutionListener</code>
+ * or in the system property {@link #LISTENERS_PROPERTY} are registered
+ * automatically. Once the first listener is registered, a shutdown hook calls
+ * {@link ExecutionListener#runFinished()} on all listeners registered at that
+ * time.
+ *
+ * @author ckeiner
+ */
+public final class ExecutionListeners
+{
+    /**
+     * The system property holding the comma separated fully qualified class names
+     * of listeners to register. Each class needs a public constructor without
+     * parameters.
+     */
+    public final static String LISTENERS_PROPERTY = "testbddy.listeners";
+
+    /**
+     * The array without any listener.
+     */
+    private final static ExecutionListener[] NONE = new ExecutionListener[0];
+
+    /**
+     * The registered listeners in the order they were registered.
+     */
+    private static volatile ExecutionListener[] listeners = NONE;
+
+    /**
+     * Whether the shutdown hook finishing the run was registered.
+     */
+    private static boolean shutdownHookRegistered;
+
+    static
+    {
+        for (ExecutionListener listener : ServiceLoader.load(ExecutionListener.class))
+        {
+            register(listener);
+        }
+        for (String className : System.getProperty(LISTENERS_PROPERTY, "").split(","))
+        {
+            if (!className.trim().isEmpty())
+            {
+                register(instantiate(className.trim()));
+            }
+        }
+    }
+
+    private ExecutionListeners()
+    {
+    }
+
+    /**
+     * Registers the listener for all subsequent executions.
+     *
+     * @param listener
+     *            The {@link ExecutionListener} to register.
+     * @throws IllegalArgumentException
+     *             If the listener is <code>null</code>.
+     */
+    public static synchronized void register(ExecutionListener listener)
+    {
+        if (listener == null)
+        {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        final ExecutionListener[] registered = Arrays.copyOf(listeners, listeners.length + 1);
+        registered[listeners.length] = listener;
+        listeners = registered;
+        if (!shutdownHookRegistered)
+        {
+            Runtime.getRuntime().addShutdownHook(new Thread(ExecutionListeners::runFinished, "testbddy-run-finished"));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    /**
+     * Creates the listener with the specified class name.
+     *
+     * @param className
+     *            The fully qualified class name of the listener.
+     * @return The new ExecutionListener.
+     * @throws IllegalArgumentException
+     *             If the class isn't a listener or can't be instantiated.
+     */
+    private static ExecutionListener instantiate(final String className)
+    {
+        try
+        {
+            return Class.forName(className).asSubclass(ExecutionListener.class).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e)
+        {
+            // A LinkageError means the listener needs an API the JVM lacks
+            throw new IllegalArgumentException("Could not create the listener " + className, e);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the run finished.
+     */
+    static void runFinished()
+    {
+        for (ExecutionListener listener : listeners)
+        {
+            try
+            {
+                listener.runFinished();
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+    }
+
+    /**
+     * Handles the failure of a listener.<br>
+     * A failing listener must neither keep the others from being notified nor
+     * change the outcome of the execution. Thus, the failure is only printed.
+     *
+     * @param e
+     *            The RuntimeException the listener threw.
+     */
+    private static void failed(RuntimeException e)
+    {
+        e.printStackTrace();
+    }
+
+    /**
+     * Removes the listener.
+     *
+     * @param listener
+     *            The {@link ExecutionListener} to remove.
+     * @return True if the listener was registered, otherwise false.
+     */
+    public static synchronized boolean unregister(ExecutionListener listener)
+    {
+        for (int i = 0; i < listeners.length; i++)
+        {
+            if (listeners[i] == listener)
+            {
+                final ExecutionListener[] registered = new ExecutionListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, registered, 0, i);
+                System.arraycopy(listeners, i + 1, registered, i, registered.length - i);
+                listeners = registered;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether any listener is registered.
+     *
+     * @return True if at least one listener is registered, otherwise false.
+     */
+    public static boolean isActive()
+    {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Notifies the listeners that the feature started.
+     *
+     * @param feature
+     *            The started {@link Feature}.
+     * @return The start time, <code>0</code> if no listener is registered.
+     */
+    public static long featureStarted(Feature feature)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return 0;
+        }
+        final long startNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.featureStarted(feature, startNanos);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+        return startNanos;
+    }
+
+    /**
+     * Notifies the listeners that the feature finished.
+     *
+     * @param feature
+     *            The finished {@link Feature}.
+     * @param startNanos
+     *            The start time returned by {@link #featureStarted(Feature)}.
+     * @param outcome
+     *            The {@link Outcome} of the feature.
+     * @param throwable
+     *            The Throwable the feature failed with, otherwise
+     *            <code>null</code>.
+     */
+    public static void featureFinished(Feature feature, long startNanos, Outcome outcome, Throwable throwable)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.featureFinished(feature, startNanos, endNanos, outcome, throwable);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that the scenario started.
+     *
+     * @param scenario
+     *            The started {@link AbstractScenario}.
+     * @return The start time, <code>0</code> if no listener is registered.
+     */
+    public static long scenarioStarted(AbstractScenario scenario)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return 0;
+        }
+        final long startNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.scenarioStarted(scenario, startNanos);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+        return startNanos;
+    }
+
+    /**
+     * Notifies the listeners that the scenario finished.
+     *
+     * @param scenario
+     *            The finished {@link AbstractScenario}.
+     * @param startNanos
+     *            The start time returned by
+     *            {@link #scenarioStarted(AbstractScenario)}.
+     * @param outcome
+     *            The {@link Outcome} of the scenario.
+     * @param throwable
+     *            The Throwable the scenario failed with, otherwise
+     *            <code>null</code>.
+     */
+    public static void scenarioFinished(AbstractScenario scenario, long startNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.scenarioFinished(scenario, startNanos, endNanos, outcome, throwable);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that a row of the outline started.
+     *
+     * @param outline
+     *            The {@link ScenarioOutline} executing the row.
+     * @param testdatum
+     *            The test datum of the row.
+     * @return The start time, <code>0</code> if no listener is registered.
+     */
+    public static long rowStarted(ScenarioOutline<?> outline, Object testdatum)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return 0;
+        }
+        final long startNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.rowStarted(outline, testdatum, startNanos);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+        return startNanos;
+    }
+
+    /**
+     * Notifies the listeners that a row of the outline finished.
+     *
+     * @param outline
+     *            The {@link ScenarioOutline} executing the row.
+     * @param testdatum
+     *            The test datum of the row.
+     * @param startNanos
+     *            The start time returned by
+     *            {@link #rowStarted(ScenarioOutline, Object)}.
+     * @param outcome
+     *            The {@link Outcome} of the row.
+     * @param throwable
+     *            The Throwable the row failed with, otherwise <code>null</code>.
+     */
+    public static void rowFinished(ScenarioOutline<?> outline, Object testdatum, long startNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.rowFinished(outline, testdatum, startNanos, endNanos, outcome, throwable);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that the step started.
+     *
+     * @param step
+     *            The started {@link AbstractStep}.
+     * @return The start time, <code>0</code> if no listener is registered.
+     */
+    public static long stepStarted(AbstractStep<?> step)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return 0;
+        }
+        final long startNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.stepStarted(step, startNanos);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+        return startNanos;
+    }
+
+    /**
+     * Notifies the listeners that the step finished.
+     *
+     * @param step
+     *            The finished {@link AbstractStep}.
+     * @param startNanos
+     *            The start time returned by {@link #stepStarted(AbstractStep)}.
+     * @param outcome
+     *            The {@link Outcome} of the step.
+     * @param throwable
+     *            The Throwable the step failed with, otherwise <code>null</code>.
+     */
+    public static void stepFinished(AbstractStep<?> step, long startNanos, Outcome outcome, Throwable throwable)
+    {
+        stepFinished(step, startNanos, outcome, throwable, null);
+    }
+
+    /**
+     * Notifies the listeners that the step finished and which resources it used.
+     *
+     * @param step
+     *            The finished {@link AbstractStep}.
+     * @param startNanos
+     *            The start time returned by {@link #stepStarted(AbstractStep)}.
+     * @param outcome
+     *            The {@link Outcome} of the step.
+     * @param throwable
+     *            The Throwable the step failed with, otherwise <code>null</code>.
+     * @param resources
+     *            The stopped {@link StepResources} or <code>null</code> if they
+     *            aren't measured.
+     */
+    public static void stepFinished(AbstractStep<?> step, long startNanos, Outcome outcome, Throwable throwable,
+            StepResources resources)
+    {
+        final ExecutionListener[] current = listeners;
+        if (current.length == 0)
+        {
+            return;
+        }
+        final long endNanos = System.nanoTime();
+        for (ExecutionListener listener : current)
+        {
+            try
+            {
+                listener.stepFinished(step, startNanos, endNanos, outcome, throwable, resources);
+            } catch (RuntimeException e)
+            {
+                failed(e);
+            }
+        }
+    }
+}
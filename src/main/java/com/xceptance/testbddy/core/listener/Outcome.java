@@ -0,0 +1,44 @@
+package com.xceptance.testbddy.core.listener;
+
+/**
+ * The outcome of a feature, scenario, outline row or step reported to an
+ * {@link ExecutionListener}.
+ *
+ * @author ckeiner
+ */
+public enum Outcome
+{
+    /**
+     * The execution passed.
+     */
+    PASS,
+    /**
+     * The execution failed with an {@link Error}, e.g. a failed assertion.
+     */
+    FAIL,
+    /**
+     * The execution failed with an {@link Exception}.
+     */
+    FATAL,
+    /**
+     * The execution was skipped.
+     */
+    SKIP,
+    /**
+     * The execution is pending, since nothing was defined to execute.
+     */
+    PENDING;
+
+    /**
+     * Returns the outcome of an execution that failed with the specified
+     * Throwable.
+     *
+     * @param throwable
+     *            The Throwable the execution failed with.
+     * @return {@link #FAIL} for an {@link Error}, otherwise {@link #FATAL}.
+     */
+    public static Outcome of(Throwable throwable)
+    {
+        return throwable instanceof Error ? FAIL : FATAL;
+    }
+}
@@ -0,0 +1,251 @@
+package com.xceptance.testbddy.core.listener;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * The wall time, CPU time and allocated bytes of a single step execution on its
+ * thread.<br>
+ * Comparing CPU and wall time tells steps busy computing from steps waiting,
+ * e.g. for I/O. The allocated bytes show which step definitions put pressure on
+ * the garbage collector.<br>
+ * Measuring costs some hundred nanoseconds per step, so it is only done if the
+ * system property {@link #PROPERTY} is <code>true</code> or
+ * {@link #setEnabled(boolean)} was called. CPU time and allocated bytes are
+ * <code>-1</code> if the JVM can't measure them.
+ *
+ * @author ckeiner
+ */
+public final class StepResources
+{
+    /**
+     * The system property enabling the measurement.
+     */
+    public final static String PROPERTY = "testbddy.step.resources";
+
+    /**
+     * The bean measuring the CPU time and allocated bytes of threads.
+     */
+    private final static ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * The bean measuring allocated bytes. <code>null</code> if the JVM doesn't
+     * support it.
+     */
+    private final static com.sun.management.ThreadMXBean ALLOCATIONS = allocationBean();
+
+    /**
+     * Whether the CPU time of the current thread can be measured.
+     */
+    private final static boolean CPU_TIME_SUPPORTED = cpuTimeSupported();
+
+    /**
+     * Whether steps are measured.
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * The wall time in nanoseconds at the start, the elapsed wall time once
+     * stopped.
+     */
+    private long wallNanos;
+
+    /**
+     * The CPU time in nanoseconds at the start, the elapsed CPU time once
+     * stopped.
+     */
+    private long cpuNanos;
+
+    /**
+     * The allocated bytes at the start, the bytes allocated in between once
+     * stopped.
+     */
+    private long allocatedBytes;
+
+    /**
+     * Whether the measurement was stopped.
+     */
+    private boolean stopped;
+
+    private StepResources()
+    {
+        allocatedBytes = allocatedBytes();
+        cpuNanos = cpuTime();
+        wallNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring the current thread.
+     *
+     * @return The started measurement or <code>null</code> if measuring is
+     *         disabled.
+     */
+    public static StepResources start()
+    {
+        return enabled ? new StepResources() : null;
+    }
+
+    /**
+     * Stops measuring and computes the resources used since the start.<br>
+     * Must be called on the thread that started the measurement. Further calls
+     * don't change the measurement.
+     *
+     * @return This measurement.
+     */
+    public StepResources stop()
+    {
+        if (stopped)
+        {
+            return this;
+        }
+        stopped = true;
+        final long endWall = System.nanoTime();
+        final long endCpu = cpuTime();
+        final long endAllocated = allocatedBytes();
+        wallNanos = endWall - wallNanos;
+        cpuNanos = cpuNanos < 0 || endCpu < 0 ? -1 : endCpu - cpuNanos;
+        allocatedBytes = allocatedBytes < 0 || endAllocated < 0 ? -1 : endAllocated - allocatedBytes;
+        return this;
+    }
+
+    /**
+     * Returns the CPU time of the current thread.
+     *
+     * @return The CPU time in nanoseconds or <code>-1</code> if it can't be
+     *         measured.
+     */
+    private static long cpuTime()
+    {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread.
+     *
+     * @return The allocated bytes or <code>-1</code> if they can't be measured.
+     */
+    private static long allocatedBytes()
+    {
+        return ALLOCATIONS != null ? ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    /**
+     * Enables measuring the CPU time of threads if the JVM supports it.
+     *
+     * @return True if the CPU time can be measured, otherwise false.
+     */
+    private static boolean cpuTimeSupported()
+    {
+        try
+        {
+            if (THREADS.isCurrentThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled())
+            {
+                THREADS.setThreadCpuTimeEnabled(true);
+            }
+            return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException | SecurityException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the bean measuring allocated bytes and enables it if needed.
+     *
+     * @return The bean or <code>null</code> if the JVM doesn't support it.
+     */
+    private static com.sun.management.ThreadMXBean allocationBean()
+    {
+        try
+        {
+            // Only HotSpot based JVMs implement the extended bean
+            if (THREADS instanceof com.sun.management.ThreadMXBean)
+            {
+                final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREADS;
+                if (bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled())
+                {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean
+                        : null;
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e)
+        {
+            // The JVM lacks the extended bean
+        }
+        return null;
+    }
+
+    /**
+     * Enables or disables measuring steps.
+     *
+     * @param enabled
+     *            Whether steps should be measured.
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        StepResources.enabled = enabled;
+    }
+
+    /**
+     * Whether steps are measured.
+     *
+     * @return True if steps are measured, otherwise false.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Returns the elapsed wall time.
+     *
+     * @return The wall time in nanoseconds.
+     */
+    public long getWallNanos()
+    {
+        return wallNanos;
+    }
+
+    /**
+     * Returns the CPU time the thread used.
+     *
+     * @return The CPU time in nanoseconds or <code>-1</code> if it wasn't
+     *         measured.
+     */
+    public long getCpuNanos()
+    {
+        return cpuNanos;
+    }
+
+    /**
+     * Returns the bytes the thread allocated.
+     *
+     * @return The allocated bytes or <code>-1</code> if they weren't measured.
+     */
+    public long getAllocatedBytes()
+    {
+        return allocatedBytes;
+    }
+
+    /**
+     * Describes the resources for the report, e.g.
+     * <code>Wall time: 12.500 ms, CPU time: 2.100 ms, Allocated: 10240 bytes</code>.
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "Wall time: %.3f ms", wallNanos / 1_000_000.0));
+        if (cpuNanos >= 0)
+        {
+            builder.append(String.format(Locale.ROOT, ", CPU time: %.3f ms", cpuNanos / 1_000_000.0));
+        }
+        if (allocatedBytes >= 0)
+        {
+            builder.append(", Allocated: ").append(allocatedBytes).append(" bytes");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The fields shared by all Flight Recorder events of testbddy.
+ *
+ * @author ckeiner
+ */
+@Category("testbddy")
+abstract class BddEvent extends Event
+{
+    /**
+     * The description of the component.
+     */
+    @Label("Description")
+    String description;
+
+    /**
+     * The outcome of the component.
+     */
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * The Throwable the component failed with.
+     */
+    @Label("Failure")
+    String failure;
+}
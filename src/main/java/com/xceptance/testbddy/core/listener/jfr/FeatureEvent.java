@@ -0,0 +1,17 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The execution of a feature.
+ *
+ * @author ckeiner
+ */
+@Name("testbddy.Feature")
+@Label("Feature")
+@Description("The execution of a feature.")
+final class FeatureEvent extends BddEvent
+{
+}
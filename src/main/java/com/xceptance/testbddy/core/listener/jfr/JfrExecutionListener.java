@@ -0,0 +1,163 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import java.util.ArrayDeque;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+import com.xceptance.testbddy.core.listener.ExecutionListener;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
+import com.xceptance.testbddy.core.listener.StepResources;
+import com.xceptance.testbddy.core.util.GherkinKeywords;
+
+import jdk.jfr.Event;
+
+/**
+ * Emits a Java Flight Recorder event for each feature, scenario, row of a
+ * scenario outline and step.<br>
+ * The events are named <code>testbddy.Feature</code>,
+ * <code>testbddy.Scenario</code>, <code>testbddy.Row</code> and
+ * <code>testbddy.Step</code>. Since they span the execution on the executing
+ * thread, the samples and allocations of a recording can be attributed to the
+ * step that caused them. Step events carry the CPU time and allocated bytes if
+ * {@link StepResources} are measured. Events are only committed if they are enabled in the
+ * running recording, their fields are only filled in then.<br>
+ * The Flight Recorder API exists since Java 11 and OpenJDK 8u272. Hence, the
+ * listener isn't registered by default. To use it, add its class name to the
+ * system property {@link ExecutionListeners#LISTENERS_PROPERTY}.
+ *
+ * @author ckeiner
+ */
+public class JfrExecutionListener implements ExecutionListener
+{
+    /**
+     * The events begun but not ended yet on the current thread.<br>
+     * Components are executed nested on a single thread, so the last begun event
+     * is always the first to end.
+     */
+    private final ThreadLocal<ArrayDeque<BddEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void featureStarted(Feature feature, long startNanos)
+    {
+        begin(new FeatureEvent());
+    }
+
+    @Override
+    public void featureFinished(Feature feature, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        final BddEvent event = end(outcome, throwable);
+        if (event != null)
+        {
+            event.description = feature.getDescription();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void scenarioStarted(AbstractScenario scenario, long startNanos)
+    {
+        begin(new ScenarioEvent());
+    }
+
+    @Override
+    public void scenarioFinished(AbstractScenario scenario, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        final BddEvent event = end(outcome, throwable);
+        if (event != null)
+        {
+            event.description = scenario.getDescription();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void rowStarted(ScenarioOutline<?> outline, Object testdatum, long startNanos)
+    {
+        begin(new RowEvent());
+    }
+
+    @Override
+    public void rowFinished(ScenarioOutline<?> outline, Object testdatum, long startNanos, long endNanos,
+            Outcome outcome, Throwable throwable)
+    {
+        final BddEvent event = end(outcome, throwable);
+        if (event != null)
+        {
+            event.description = outline.getDescription();
+            ((RowEvent) event).testdatum = String.valueOf(testdatum);
+            event.commit();
+        }
+    }
+
+    @Override
+    public void stepStarted(AbstractStep<?> step, long startNanos)
+    {
+        begin(new StepEvent());
+    }
+
+    @Override
+    public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable, StepResources resources)
+    {
+        final BddEvent event = end(outcome, throwable);
+        if (event != null)
+        {
+            final StepEvent stepEvent = (StepEvent) event;
+            stepEvent.description = step.getDescription();
+            stepEvent.keyword = GherkinKeywords.getName(step.getKeyword());
+            if (resources != null)
+            {
+                stepEvent.cpuTime = resources.getCpuNanos();
+                stepEvent.allocated = resources.getAllocatedBytes();
+            }
+            stepEvent.commit();
+        }
+    }
+
+    /**
+     * Begins the event and remembers it until the component finishes.
+     *
+     * @param event
+     *            The {@link Event} of the started component.
+     */
+    private void begin(final BddEvent event)
+    {
+        event.begin();
+        events.get().push(event);
+    }
+
+    /**
+     * Ends the event of the finished component.
+     *
+     * @param outcome
+     *            The {@link Outcome} of the component.
+     * @param throwable
+     *            The Throwable the component failed with or <code>null</code>.
+     * @return The event if it should be committed, otherwise <code>null</code>.
+     */
+    private BddEvent end(final Outcome outcome, final Throwable throwable)
+    {
+        final BddEvent event = events.get().poll();
+        if (event == null)
+        {
+            return null;
+        }
+        event.end();
+        // Only fill in the fields if the event is recorded
+        if (!event.shouldCommit())
+        {
+            return null;
+        }
+        event.outcome = outcome.name();
+        if (throwable != null)
+        {
+            event.failure = throwable.toString();
+        }
+        return event;
+    }
+}
@@ -0,0 +1,22 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The execution of a scenario outline with a single test datum.
+ *
+ * @author ckeiner
+ */
+@Name("testbddy.Row")
+@Label("Outline Row")
+@Description("The execution of a scenario outline with a single test datum.")
+final class RowEvent extends BddEvent
+{
+    /**
+     * The test datum of the row.
+     */
+    @Label("Test Data")
+    String testdatum;
+}
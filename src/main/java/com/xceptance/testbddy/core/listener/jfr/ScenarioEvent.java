@@ -0,0 +1,17 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The execution of a scenario or a scenario outline with all its rows.
+ *
+ * @author ckeiner
+ */
+@Name("testbddy.Scenario")
+@Label("Scenario")
+@Description("The execution of a scenario or a scenario outline with all its rows.")
+final class ScenarioEvent extends BddEvent
+{
+}
@@ -0,0 +1,38 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The execution of a step.
+ *
+ * @author ckeiner
+ */
+@Name("testbddy.Step")
+@Label("Step")
+@Description("The execution of a step.")
+final class StepEvent extends BddEvent
+{
+    /**
+     * The keyword of the step, for example <code>Given</code>.
+     */
+    @Label("Keyword")
+    String keyword;
+
+    /**
+     * The CPU time the step used. <code>-1</code> if it wasn't measured.
+     */
+    @Label("CPU Time")
+    @Timespan
+    long cpuTime = -1;
+
+    /**
+     * The bytes the step allocated. <code>-1</code> if they weren't measured.
+     */
+    @Label("Allocated")
+    @DataAmount
+    long allocated = -1;
+}
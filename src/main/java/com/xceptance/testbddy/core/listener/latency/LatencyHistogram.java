@@ -0,0 +1,206 @@
+package com.xceptance.testbddy.core.listener.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds with a fixed memory footprint.<br>
+ * Durations below {@link #SUB_BUCKETS} nanoseconds are counted exactly. Above,
+ * each power of two is divided into {@link #SUB_BUCKETS} buckets of equal width,
+ * so a percentile is off by at most about 3% of its value. Durations of
+ * {@link #MAX_TRACKABLE} nanoseconds or more, roughly 4.9 hours, are counted in
+ * the last bucket. Hence, a histogram always takes about 10 KB, no matter how
+ * many durations are recorded. The maximum is kept exactly.<br>
+ * A histogram can be recorded to by several threads at the same time.
+ *
+ * @author ckeiner
+ */
+public final class LatencyHistogram
+{
+    /**
+     * The number of bits to divide each power of two into buckets.
+     */
+    private final static int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets of each power of two.
+     */
+    final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The exponent of the largest power of two with its own buckets.
+     */
+    private final static int MAX_EXPONENT = 43;
+
+    /**
+     * The smallest duration that is counted in the last bucket only.
+     */
+    final static long MAX_TRACKABLE = 1L << (MAX_EXPONENT + 1);
+
+    /**
+     * The number of buckets.
+     */
+    final static int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /**
+     * The number of durations per bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of recorded durations.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * The sum of all recorded durations.
+     */
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * The longest recorded duration.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos
+     *            The duration in nanoseconds. Negative durations are recorded as
+     *            <code>0</code>.
+     */
+    public void record(long nanos)
+    {
+        if (nanos < 0)
+        {
+            nanos = 0;
+        }
+        counts.incrementAndGet(bucket(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        // Only write the maximum if the duration exceeds it
+        long currentMax = max.get();
+        while (nanos > currentMax && !max.compareAndSet(currentMax, nanos))
+        {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Returns the duration the specified percentage of the recorded durations
+     * doesn't exceed.
+     *
+     * @param percentile
+     *            The percentile between <code>0</code> and <code>100</code>.
+     * @return The largest duration in nanoseconds of the bucket holding the
+     *         percentile, but at most the maximum. <code>0</code> if nothing was
+     *         recorded.
+     * @throws IllegalArgumentException
+     *             If the percentile is out of range.
+     */
+    public long getValueAtPercentile(final double percentile)
+    {
+        if (percentile < 0 || percentile > 100)
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + percentile);
+        }
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            recorded += counts.get(i);
+        }
+        if (recorded == 0)
+        {
+            return 0;
+        }
+        // The rank of the duration within all recorded durations
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            cumulated += counts.get(i);
+            if (cumulated >= rank)
+            {
+                return Math.min(highestValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the index of the bucket counting the duration.
+     *
+     * @param nanos
+     *            The non-negative duration in nanoseconds.
+     * @return The index of the bucket.
+     */
+    static int bucket(final long nanos)
+    {
+        if (nanos < SUB_BUCKETS)
+        {
+            return (int) nanos;
+        }
+        if (nanos >= MAX_TRACKABLE)
+        {
+            return BUCKETS - 1;
+        }
+        // The highest bit selects the power of two, the following bits the bucket within it
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest duration counted in the bucket.
+     *
+     * @param bucket
+     *            The index of the bucket.
+     * @return The largest duration in nanoseconds of the bucket.
+     */
+    static long highestValue(final int bucket)
+    {
+        if (bucket < SUB_BUCKETS)
+        {
+            return bucket;
+        }
+        if (bucket == BUCKETS - 1)
+        {
+            return Long.MAX_VALUE;
+        }
+        final int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        final long lowest = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return The number of recorded durations.
+     */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return The mean in nanoseconds or <code>0</code> if nothing was recorded.
+     */
+    public double getMean()
+    {
+        final long recorded = count.get();
+        return recorded == 0 ? 0 : (double) total.get() / recorded;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return The longest duration in nanoseconds or <code>0</code> if nothing was
+     *         recorded.
+     */
+    public long getMax()
+    {
+        return max.get();
+    }
+}
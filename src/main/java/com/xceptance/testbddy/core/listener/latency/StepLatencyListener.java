@@ -0,0 +1,241 @@
+package com.xceptance.testbddy.core.listener.latency;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+import com.xceptance.testbddy.core.listener.ExecutionListener;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.Outcome;
+import com.xceptance.testbddy.core.listener.StepResources;
+import com.xceptance.testbddy.core.reporting.ReportFiles;
+import com.xceptance.testbddy.core.util.GherkinKeywords;
+
+/**
+ * Records the duration of every executed step into a {@link LatencyHistogram}
+ * per step definition.<br>
+ * A step definition is identified by its keyword and its description with
+ * unresolved placeholders. Thus, all rows of a scenario outline are recorded
+ * into the same histogram and its percentiles show how the durations are
+ * distributed. Skipped and pending steps aren't recorded. If
+ * {@link StepResources} are measured, their means are summed up as well.<br>
+ * When the run finished, the p50, p90, p99 and maximum of each step definition
+ * are printed to the console and written to {@link #FILE_NAME} in the report
+ * directory. To use it, register it with {@link ExecutionListeners#register} or
+ * add its class name to the system property
+ * {@link ExecutionListeners#LISTENERS_PROPERTY}.
+ *
+ * @author ckeiner
+ */
+public class StepLatencyListener implements ExecutionListener
+{
+    /**
+     * The name of the CSV file the summary is written to.
+     */
+    public final static String FILE_NAME = "step-latency.csv";
+
+    /**
+     * The histograms by keyword and description.
+     */
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * The resources used by keyword and description, if {@link StepResources}
+     * are measured.
+     */
+    private final Map<String, ResourceTotals> resources = new ConcurrentHashMap<>();
+
+    @Override
+    public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable, StepResources stepResources)
+    {
+        // Only steps that were executed have a duration
+        if (outcome == Outcome.PASS || outcome == Outcome.FAIL || outcome == Outcome.FATAL)
+        {
+            final String name = GherkinKeywords.getStepName(step.getKeyword(), step.getDescription());
+            histograms.computeIfAbsent(name, key -> new LatencyHistogram()).record(endNanos - startNanos);
+            if (stepResources != null)
+            {
+                resources.computeIfAbsent(name, key -> new ResourceTotals()).add(stepResources);
+            }
+        }
+    }
+
+    @Override
+    public void runFinished()
+    {
+        if (!histograms.isEmpty())
+        {
+            printSummary(System.out);
+            writeSummary(ReportFiles.getPath(FILE_NAME));
+        }
+    }
+
+    /**
+     * Prints a table with the percentiles in milliseconds of each step definition,
+     * the slowest p99 first.<br>
+     * If {@link StepResources} were measured, the mean CPU time in milliseconds and
+     * the mean allocated kilobytes are printed as well.
+     *
+     * @param out
+     *            The stream to print to.
+     */
+    public void printSummary(PrintStream out)
+    {
+        out.println("================\nStep latencies in ms\n================");
+        out.println(String.format(Locale.ROOT, "%10s %10s %10s %10s %10s %10s %10s  %s", "count", "p50", "p90",
+                "p99", "max", "cpu", "alloc KB", "step"));
+        for (Map.Entry<String, LatencyHistogram> entry : getSortedHistograms())
+        {
+            final LatencyHistogram histogram = entry.getValue();
+            final ResourceTotals totals = resources.get(entry.getKey());
+            final long cpuMean = totals != null ? totals.getCpuMean() : -1;
+            final long allocatedMean = totals != null ? totals.getAllocatedMean() : -1;
+            out.println(String.format(Locale.ROOT, "%10d %10.3f %10.3f %10.3f %10.3f %10s %10s  %s",
+                    histogram.getCount(), millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMax()),
+                    cpuMean >= 0 ? String.format(Locale.ROOT, "%.3f", millis(cpuMean)) : "-",
+                    allocatedMean >= 0 ? String.valueOf(allocatedMean / 1024) : "-", entry.getKey()));
+        }
+    }
+
+    /**
+     * Writes the percentiles in nanoseconds of each step definition as CSV, the
+     * slowest p99 first.<br>
+     * The columns <code>cpuMean</code> and <code>allocatedMean</code> hold the mean
+     * CPU time in nanoseconds and the mean allocated bytes, <code>-1</code> if
+     * they weren't measured.
+     *
+     * @param file
+     *            The file to write to.
+     * @throws UncheckedIOException
+     *             If the file can't be written.
+     */
+    public void writeSummary(Path file)
+    {
+        try
+        {
+            if (file.getParent() != null)
+            {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+            {
+                writer.write("step,count,mean,p50,p90,p99,max,cpuMean,allocatedMean\n");
+                for (Map.Entry<String, LatencyHistogram> entry : getSortedHistograms())
+                {
+                    final LatencyHistogram histogram = entry.getValue();
+                    final ResourceTotals totals = resources.get(entry.getKey());
+                    // Quote the step, since its description may contain commas
+                    writer.write('"' + entry.getKey().replace("\"", "\"\"") + "\"," + histogram.getCount() + ","
+                            + Math.round(histogram.getMean()) + "," + histogram.getValueAtPercentile(50) + ","
+                            + histogram.getValueAtPercentile(90) + "," + histogram.getValueAtPercentile(99) + ","
+                            + histogram.getMax() + "," + (totals != null ? totals.getCpuMean() : -1) + ","
+                            + (totals != null ? totals.getAllocatedMean() : -1) + "\n");
+                }
+            }
+        } catch (IOException e)
+        {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+
+    /**
+     * Returns the histograms ordered by their p99, the slowest first.
+     *
+     * @return The ordered histograms with their step definition.
+     */
+    private List<Map.Entry<String, LatencyHistogram>> getSortedHistograms()
+    {
+        final List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getValueAtPercentile(99)).reversed());
+        return entries;
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds.
+     *
+     * @param nanos
+     *            The duration in nanoseconds.
+     * @return The duration in milliseconds.
+     */
+    private static double millis(long nanos)
+    {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns the histograms by keyword and description of the step definition,
+     * e.g. <code>Given a user &lt;name&gt;</code>.
+     *
+     * @return An unmodifiable view on the histograms.
+     */
+    public Map<String, LatencyHistogram> getHistograms()
+    {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Sums up the {@link StepResources} of a step definition.
+     *
+     * @author ckeiner
+     */
+    private static final class ResourceTotals
+    {
+        private final LongAdder cpuMeasured = new LongAdder();
+
+        private final LongAdder cpuNanos = new LongAdder();
+
+        private final LongAdder allocationsMeasured = new LongAdder();
+
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        /**
+         * Adds the resources of a single execution.
+         *
+         * @param resources
+         *            The stopped {@link StepResources}.
+         */
+        private void add(final StepResources resources)
+        {
+            // Only count what the JVM could measure
+            if (resources.getCpuNanos() >= 0)
+            {
+                cpuMeasured.increment();
+                cpuNanos.add(resources.getCpuNanos());
+            }
+            if (resources.getAllocatedBytes() >= 0)
+            {
+                allocationsMeasured.increment();
+                allocatedBytes.add(resources.getAllocatedBytes());
+            }
+        }
+
+        private long getCpuMean()
+        {
+            final long measured = cpuMeasured.sum();
+            return measured == 0 ? -1 : cpuNanos.sum() / measured;
+        }
+
+        private long getAllocatedMean()
+        {
+            final long measured = allocationsMeasured.sum();
+            return measured == 0 ? -1 : allocatedBytes.sum() / measured;
+        }
+    }
+}
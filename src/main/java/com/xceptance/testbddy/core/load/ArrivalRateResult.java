@@ -0,0 +1,157 @@
+package com.xceptance.testbddy.core.load;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+import com.xceptance.testbddy.core.listener.latency.LatencyHistogram;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * The result of an {@link ArrivalRateTest}.<br>
+ * Additionally to the {@link LoadResult}, it holds the latency of the
+ * iterations measured from their intended start, their service time and their
+ * start delay as well as the number of late and dropped iterations. The number
+ * of users is the number of threads.
+ *
+ * @author ckeiner
+ */
+public class ArrivalRateResult extends LoadResult
+{
+    /**
+     * The intended number of iterations per second.
+     */
+    private final double rate;
+
+    /**
+     * The number of iterations that were scheduled, including the dropped ones.
+     */
+    private final long scheduledIterations;
+
+    /**
+     * The number of iterations that started later than the tolerance.
+     */
+    private final long lateIterations;
+
+    /**
+     * The number of iterations that weren't executed, since they were too late.
+     */
+    private final long droppedIterations;
+
+    /**
+     * The time from the intended start to the end of each iteration.
+     */
+    private final LatencyHistogram latency;
+
+    /**
+     * The time from the actual start to the end of each iteration.
+     */
+    private final LatencyHistogram serviceTime;
+
+    /**
+     * The time from the intended to the actual start of each iteration.
+     */
+    private final LatencyHistogram startDelay;
+
+    ArrivalRateResult(final String description, final int threads, final long elapsedNanos, final long iterations,
+            final long failedIterations, final Map<String, LoadStatistics> scenarios,
+            final Map<String, LoadStatistics> steps, final double rate, final long scheduledIterations,
+            final long lateIterations, final long droppedIterations, final LatencyHistogram latency,
+            final LatencyHistogram serviceTime, final LatencyHistogram startDelay)
+    {
+        super(description, threads, elapsedNanos, iterations, failedIterations, scenarios, steps);
+        this.rate = rate;
+        this.scheduledIterations = scheduledIterations;
+        this.lateIterations = lateIterations;
+        this.droppedIterations = droppedIterations;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.startDelay = startDelay;
+    }
+
+    @Override
+    public void printSummary(final PrintStream out)
+    {
+        super.printSummary(out);
+        out.println(String.format("Arrival rate %.2f/s: %d scheduled, %d late, %d dropped", rate,
+                scheduledIterations, lateIterations, droppedIterations));
+        out.println(String.format("%-50s %10s %10s %10s %10s", "Iteration", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        printLatencies(out, "Latency (from intended start)", latency);
+        printLatencies(out, "Service time (from actual start)", serviceTime);
+        printLatencies(out, "Start delay", startDelay);
+    }
+
+    /**
+     * Prints a row with the latencies of the histogram.
+     *
+     * @param out
+     *            The {@link PrintStream} to print to.
+     * @param name
+     *            The name of the row.
+     * @param histogram
+     *            The {@link LatencyHistogram} to print.
+     */
+    private void printLatencies(final PrintStream out, final String name, final LatencyHistogram histogram)
+    {
+        out.println(String.format("%-50s %s", name, formatLatencies(histogram, "%10.3f %10.3f %10.3f %10.3f")));
+    }
+
+    /**
+     * Reports the iterations first. They fail if an iteration failed, was late or
+     * was dropped.
+     */
+    @Override
+    protected void reportStatistics(final ReportInterface scenarioReporter)
+    {
+        final ReportElement element = scenarioReporter.scenario("Iterations");
+        final String latencies = "p50: %.3f ms, p90: %.3f ms, p99: %.3f ms, max: %.3f ms";
+        final String message = String.format("%.2f/s intended, %.2f/s achieved, %d scheduled, %d failed, %d late, "
+                + "%d dropped, latency %s, service time %s", rate, getThroughput(), scheduledIterations,
+                getFailedIterations(), lateIterations, droppedIterations, formatLatencies(latency, latencies),
+                formatLatencies(serviceTime, latencies));
+        if (getFailedIterations() > 0 || lateIterations > 0 || droppedIterations > 0)
+        {
+            element.fail(message);
+        }
+        else
+        {
+            element.pass(message);
+        }
+        super.reportStatistics(scenarioReporter);
+    }
+
+    public double getRate()
+    {
+        return rate;
+    }
+
+    public long getScheduledIterations()
+    {
+        return scheduledIterations;
+    }
+
+    public long getLateIterations()
+    {
+        return lateIterations;
+    }
+
+    public long getDroppedIterations()
+    {
+        return droppedIterations;
+    }
+
+    public LatencyHistogram getLatency()
+    {
+        return latency;
+    }
+
+    public LatencyHistogram getServiceTime()
+    {
+        return serviceTime;
+    }
+
+    public LatencyHistogram getStartDelay()
+    {
+        return startDelay;
+    }
+}
@@ -0,0 +1,380 @@
+package com.xceptance.testbddy.core.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.listener.latency.LatencyHistogram;
+import com.xceptance.testbddy.core.throwables.exceptions.FeatureException;
+import com.xceptance.testbddy.core.util.Console;
+
+/**
+ * Executes the scenarios of a {@link Feature} at a fixed arrival rate, i.e. an
+ * open workload model.<br>
+ * Each iteration executes all scenarios of the feature one after another and
+ * has an intended start time given by the rate. New iterations start at their
+ * intended time, regardless of whether the previous ones are finished. If all
+ * threads are busy, iterations wait and start late, instead of being silently
+ * skipped. Hence, the latency of an iteration is measured from its intended
+ * start, which corrects the coordinated omission of a closed model. The
+ * service time, measured from the actual start, is recorded as well.<br>
+ * An iteration is late if it starts later than the configured tolerance after
+ * its intended start. It is dropped, i.e. not executed at all, if it would
+ * start later than the configured maximum delay. Iterations waiting for a
+ * thread are held in a backlog of {@link #DEFAULT_BACKLOG} iterations by
+ * default. If the backlog is full, further iterations are dropped as well, so
+ * an overloaded system can't make the backlog grow without limit.<br>
+ * The load test stops after the configured iterations or once the duration is
+ * over, whatever comes first. Without both, one iteration is executed. Like
+ * {@link LoadTest}, scenarios and steps aren't reported or printed
+ * individually, but aggregated in the {@link ArrivalRateResult}.
+ *
+ * @author ckeiner
+ */
+public class ArrivalRateTest
+{
+    /**
+     * The maximum number of iterations waiting for a thread if no backlog is
+     * configured.
+     */
+    public final static int DEFAULT_BACKLOG = 10_000;
+
+    /**
+     * The feature whose scenarios are executed.
+     */
+    private final Feature feature;
+
+    /**
+     * The number of iterations started per second.
+     */
+    private double rate = 1;
+
+    /**
+     * The maximum number of iterations executed at the same time.
+     */
+    private int threads = 1;
+
+    /**
+     * The maximum duration of the load test in nanoseconds.<br>
+     * <code>0</code> if it isn't limited.
+     */
+    private long duration;
+
+    /**
+     * The number of iterations.<br>
+     * <code>0</code> if it isn't limited.
+     */
+    private long iterations;
+
+    /**
+     * The delay in nanoseconds after which an iteration is late.
+     */
+    private long lateAfter = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The delay in nanoseconds after which an iteration is dropped.<br>
+     * <code>0</code> if iterations are never dropped.
+     */
+    private long dropAfter;
+
+    /**
+     * The maximum number of iterations waiting for a thread.
+     */
+    private int backlog = DEFAULT_BACKLOG;
+
+    /**
+     * Creates an arrival rate test for the specified feature.
+     *
+     * @param feature
+     *            The {@link Feature} whose scenarios are executed.
+     */
+    public ArrivalRateTest(final Feature feature)
+    {
+        if (feature == null)
+        {
+            throw new IllegalArgumentException("Feature must not be null");
+        }
+        this.feature = feature;
+    }
+
+    /**
+     * Sets the number of iterations started per second.
+     *
+     * @param rate
+     *            The iterations per second, more than 0.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest rate(final double rate)
+    {
+        if (!(rate > 0) || Double.isInfinite(rate))
+        {
+            throw new IllegalArgumentException("Rate must be more than 0 but was " + rate);
+        }
+        this.rate = rate;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of iterations executed at the same time.
+     *
+     * @param threads
+     *            The number of threads, at least 1.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest threads(final int threads)
+    {
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException("Threads must be at least 1 but was " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration of the load test.<br>
+     * No iteration is intended to start after it, but started iterations are
+     * always finished.
+     *
+     * @param duration
+     *            The duration, at least 1.
+     * @param unit
+     *            The {@link TimeUnit} of the duration.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest duration(final long duration, final TimeUnit unit)
+    {
+        if (duration < 1)
+        {
+            throw new IllegalArgumentException("Duration must be at least 1 but was " + duration);
+        }
+        this.duration = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the number of iterations.
+     *
+     * @param iterations
+     *            The number of iterations, at least 1.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest iterations(final long iterations)
+    {
+        if (iterations < 1)
+        {
+            throw new IllegalArgumentException("Iterations must be at least 1 but was " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Sets the delay after the intended start after which an iteration is late.
+     * By default, it is 10 milliseconds.
+     *
+     * @param lateAfter
+     *            The delay, at least 0.
+     * @param unit
+     *            The {@link TimeUnit} of the delay.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest lateAfter(final long lateAfter, final TimeUnit unit)
+    {
+        if (lateAfter < 0)
+        {
+            throw new IllegalArgumentException("Late delay must not be negative but was " + lateAfter);
+        }
+        this.lateAfter = unit.toNanos(lateAfter);
+        return this;
+    }
+
+    /**
+     * Sets the delay after the intended start after which an iteration is
+     * dropped. By default, iterations are never dropped.
+     *
+     * @param dropAfter
+     *            The delay, at least 1.
+     * @param unit
+     *            The {@link TimeUnit} of the delay.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest dropAfter(final long dropAfter, final TimeUnit unit)
+    {
+        if (dropAfter < 1)
+        {
+            throw new IllegalArgumentException("Drop delay must be at least 1 but was " + dropAfter);
+        }
+        this.dropAfter = unit.toNanos(dropAfter);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of iterations waiting for a thread. Once it is
+     * reached, further iterations are dropped until a thread is free again. By
+     * default, it is {@link #DEFAULT_BACKLOG}.
+     *
+     * @param backlog
+     *            The number of iterations, at least 1.
+     * @return The ArrivalRateTest.
+     */
+    public ArrivalRateTest backlog(final int backlog)
+    {
+        if (backlog < 1)
+        {
+            throw new IllegalArgumentException("Backlog must be at least 1 but was " + backlog);
+        }
+        this.backlog = backlog;
+        return this;
+    }
+
+    /**
+     * Executes the load test and reports its result to the reporter of the
+     * feature, if it has one.
+     *
+     * @return The {@link ArrivalRateResult} of the load test.
+     */
+    public ArrivalRateResult run()
+    {
+        LoadTest.checkFeature(feature);
+        final long scheduledIterations = iterations == 0 ? (duration == 0 ? 1 : Long.MAX_VALUE) : iterations;
+        final double interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        final LoadListener listener = new LoadListener();
+        final Iterations recorded = new Iterations();
+        final ExecutorService executor = LoadTest.newExecutor(threads, backlog);
+
+        ExecutionListeners.register(listener);
+        // Printing every execution would only flood the console
+        Console.mute();
+        final long start = System.nanoTime();
+        long scheduled = 0;
+        try
+        {
+            for (; scheduled < scheduledIterations; scheduled++)
+            {
+                // Derive each intended start from the start, so delays of this thread don't add up
+                final long offset = (long) (scheduled * interval);
+                if (duration > 0 && offset >= duration)
+                {
+                    break;
+                }
+                final long intendedStart = start + offset;
+                TimeUnit.NANOSECONDS.sleep(intendedStart - System.nanoTime());
+                try
+                {
+                    executor.execute(() -> executeIteration(intendedStart, recorded));
+                } catch (RejectedExecutionException e)
+                {
+                    // The backlog is full
+                    recorded.startDelay.record(System.nanoTime() - intendedStart);
+                    recorded.dropped.increment();
+                }
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new FeatureException("Load test of \"" + feature.getDescription() + "\" was interrupted", e);
+        } finally
+        {
+            executor.shutdownNow();
+            ExecutionListeners.unregister(listener);
+            Console.unmute();
+        }
+        if (recorded.failure.get() != null)
+        {
+            throw new FeatureException("Load test of \"" + feature.getDescription() + "\" failed",
+                    recorded.failure.get());
+        }
+
+        final ArrivalRateResult result = new ArrivalRateResult(feature.getDescription(), threads,
+                System.nanoTime() - start, recorded.executed.sum(), recorded.failed.sum(), listener.scenarios,
+                listener.steps, rate, scheduled, recorded.late.sum(), recorded.dropped.sum(), recorded.latency,
+                recorded.serviceTime, recorded.startDelay);
+        if (feature.getReporter() != null)
+        {
+            result.report(feature.getReporter());
+        }
+        return result;
+    }
+
+    /**
+     * Executes one iteration, unless it is dropped.
+     *
+     * @param intendedStart
+     *            The time in nanoseconds the iteration should have started.
+     * @param recorded
+     *            The {@link Iterations} to record to.
+     */
+    private void executeIteration(final long intendedStart, final Iterations recorded)
+    {
+        final long actualStart = System.nanoTime();
+        final long delay = actualStart - intendedStart;
+        recorded.startDelay.record(delay);
+        if (dropAfter > 0 && delay > dropAfter)
+        {
+            recorded.dropped.increment();
+            return;
+        }
+        if (delay > lateAfter)
+        {
+            recorded.late.increment();
+        }
+        try
+        {
+            if (LoadTest.executeIteration(feature))
+            {
+                recorded.failed.increment();
+            }
+        } catch (RuntimeException e)
+        {
+            recorded.failure.compareAndSet(null, e);
+        }
+        final long end = System.nanoTime();
+        recorded.latency.record(end - intendedStart);
+        recorded.serviceTime.record(end - actualStart);
+        recorded.executed.increment();
+    }
+
+    /**
+     * The iterations recorded by all threads.
+     *
+     * @author ckeiner
+     */
+    private static class Iterations
+    {
+        /**
+         * The time from the intended start to the end of each iteration.
+         */
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        /**
+         * The time from the actual start to the end of each iteration.
+         */
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+        /**
+         * The time from the intended to the actual start of each iteration,
+         * including the dropped ones.
+         */
+        private final LatencyHistogram startDelay = new LatencyHistogram();
+
+        private final LongAdder executed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder late = new LongAdder();
+
+        private final LongAdder dropped = new LongAdder();
+
+        /**
+         * The first unexpected exception of an iteration.
+         */
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    }
+}
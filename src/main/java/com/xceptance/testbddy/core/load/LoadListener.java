@@ -0,0 +1,66 @@
+package com.xceptance.testbddy.core.load;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+import com.xceptance.testbddy.core.listener.ExecutionListener;
+import com.xceptance.testbddy.core.listener.Outcome;
+import com.xceptance.testbddy.core.util.GherkinKeywords;
+
+/**
+ * Aggregates the durations of the scenarios and steps executed during a
+ * {@link LoadTest} by their description.<br>
+ * Skipped and pending components aren't recorded.
+ *
+ * @author ckeiner
+ */
+class LoadListener implements ExecutionListener
+{
+    /**
+     * The statistics by description of the scenario.
+     */
+    final Map<String, LoadStatistics> scenarios = new ConcurrentHashMap<>();
+
+    /**
+     * The statistics by keyword and description of the step.
+     */
+    final Map<String, LoadStatistics> steps = new ConcurrentHashMap<>();
+
+    @Override
+    public void scenarioFinished(AbstractScenario scenario, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        record(scenarios, scenario.getDescription(), endNanos - startNanos, outcome);
+    }
+
+    @Override
+    public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+            Throwable throwable)
+    {
+        record(steps, GherkinKeywords.getStepName(step.getKeyword(), step.getDescription()), endNanos - startNanos,
+                outcome);
+    }
+
+    /**
+     * Records the execution if it was executed at all.
+     *
+     * @param statistics
+     *            The statistics to record to.
+     * @param name
+     *            The name of the component.
+     * @param nanos
+     *            The duration of the execution.
+     * @param outcome
+     *            The {@link Outcome} of the execution.
+     */
+    private void record(final Map<String, LoadStatistics> statistics, final String name, final long nanos,
+            final Outcome outcome)
+    {
+        if (outcome == Outcome.PASS || outcome == Outcome.FAIL || outcome == Outcome.FATAL)
+        {
+            statistics.computeIfAbsent(name, key -> new LoadStatistics()).record(nanos, outcome != Outcome.PASS);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.xceptance.testbddy.core.load;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.xceptance.testbddy.core.listener.latency.LatencyHistogram;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * The result of a {@link LoadTest}.<br>
+ * It holds the aggregated {@link LoadStatistics} of each scenario and step
+ * definition, sorted by their description.
+ *
+ * @author ckeiner
+ */
+public class LoadResult
+{
+    /**
+     * The description of the feature.
+     */
+    private final String description;
+
+    /**
+     * The number of virtual users.
+     */
+    private final int users;
+
+    /**
+     * The duration of the load test in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * The number of executed iterations of all users.
+     */
+    private final long iterations;
+
+    /**
+     * The number of iterations with at least one failed scenario.
+     */
+    private final long failedIterations;
+
+    /**
+     * The statistics by description of the scenario.
+     */
+    private final Map<String, LoadStatistics> scenarios;
+
+    /**
+     * The statistics by keyword and description of the step.
+     */
+    private final Map<String, LoadStatistics> steps;
+
+    LoadResult(final String description, final int users, final long elapsedNanos, final long iterations,
+            final long failedIterations, final Map<String, LoadStatistics> scenarios,
+            final Map<String, LoadStatistics> steps)
+    {
+        this.description = description;
+        this.users = users;
+        this.elapsedNanos = elapsedNanos;
+        this.iterations = iterations;
+        this.failedIterations = failedIterations;
+        this.scenarios = Collections.unmodifiableMap(new TreeMap<>(scenarios));
+        this.steps = Collections.unmodifiableMap(new TreeMap<>(steps));
+    }
+
+    /**
+     * Prints the statistics of all scenarios and steps.
+     *
+     * @param out
+     *            The {@link PrintStream} to print to.
+     */
+    public void printSummary(final PrintStream out)
+    {
+        out.println(String.format("Load test \"%s\": %d users, %d iterations (%d failed) in %.1f s, %.2f/s",
+                description, users, iterations, failedIterations, elapsedNanos / 1e9, getThroughput()));
+        printStatistics(out, "Scenario", scenarios);
+        printStatistics(out, "Step", steps);
+    }
+
+    /**
+     * Prints a table of the specified statistics.
+     *
+     * @param out
+     *            The {@link PrintStream} to print to.
+     * @param type
+     *            The type of the components.
+     * @param statistics
+     *            The statistics by name.
+     */
+    private void printStatistics(final PrintStream out, final String type, final Map<String, LoadStatistics> statistics)
+    {
+        out.println(String.format("%-50s %8s %8s %10s %10s %10s %10s %10s", type, "count", "failed", "per s",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        statistics.forEach((name, statistic) -> out.println(String.format("%-50s %8d %8d %10.2f %s", name,
+                statistic.getCount(), statistic.getFailures(), statistic.getThroughput(elapsedNanos),
+                formatLatencies(statistic.getHistogram(), "%10.3f %10.3f %10.3f %10.3f"))));
+    }
+
+    /**
+     * Reports the result as one feature, which contains one element per scenario
+     * and step definition. An element fails if at least one of its executions
+     * failed.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} to report to.
+     */
+    public void report(final ReportInterface reporter)
+    {
+        final ReportElement featureElement = reporter.feature("Load test: " + description);
+        reportStatistics(reporter.withParent(featureElement));
+        reporter.finishFeature();
+    }
+
+    /**
+     * Reports one element per scenario and step definition.
+     *
+     * @param scenarioReporter
+     *            The {@link ReportInterface} responsible for the elements of the
+     *            feature.
+     */
+    protected void reportStatistics(final ReportInterface scenarioReporter)
+    {
+        scenarios.forEach((name, statistic) -> report(scenarioReporter.scenario(name), statistic));
+        steps.forEach((name, statistic) -> report(scenarioReporter.scenario("Step: " + name), statistic));
+    }
+
+    /**
+     * Reports the specified statistics to the element.
+     *
+     * @param element
+     *            The {@link ReportElement} of the component.
+     * @param statistic
+     *            The {@link LoadStatistics} of the component.
+     */
+    private void report(final ReportElement element, final LoadStatistics statistic)
+    {
+        final String message = String.format("%d executions, %d failed, %.2f/s, %s", statistic.getCount(),
+                statistic.getFailures(), statistic.getThroughput(elapsedNanos),
+                formatLatencies(statistic.getHistogram(), "p50: %.3f ms, p90: %.3f ms, p99: %.3f ms, max: %.3f ms"));
+        if (statistic.getFailures() > 0)
+        {
+            element.fail(message);
+        }
+        else
+        {
+            element.pass(message);
+        }
+    }
+
+    /**
+     * Formats the percentiles and the maximum of the histogram in milliseconds.
+     *
+     * @param histogram
+     *            The {@link LatencyHistogram} to format.
+     * @param format
+     *            The format with four floating point values.
+     * @return The formatted latencies.
+     */
+    static String formatLatencies(final LatencyHistogram histogram, final String format)
+    {
+        final double millis = TimeUnit.MILLISECONDS.toNanos(1);
+        return String.format(format, histogram.getValueAtPercentile(50) / millis,
+                histogram.getValueAtPercentile(90) / millis, histogram.getValueAtPercentile(99) / millis,
+                histogram.getMax() / millis);
+    }
+
+    /**
+     * Returns the number of iterations per second.
+     *
+     * @return The iterations per second.
+     */
+    public double getThroughput()
+    {
+        return elapsedNanos <= 0 ? 0 : iterations * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public String getDescription()
+    {
+        return description;
+    }
+
+    public int getUsers()
+    {
+        return users;
+    }
+
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    public long getIterations()
+    {
+        return iterations;
+    }
+
+    public long getFailedIterations()
+    {
+        return failedIterations;
+    }
+
+    public Map<String, LoadStatistics> getScenarios()
+    {
+        return scenarios;
+    }
+
+    public Map<String, LoadStatistics> getSteps()
+    {
+        return steps;
+    }
+}
@@ -0,0 +1,70 @@
+package com.xceptance.testbddy.core.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.xceptance.testbddy.core.listener.latency.LatencyHistogram;
+
+/**
+ * The aggregated executions of a scenario or step definition during a
+ * {@link LoadTest}.<br>
+ * It can be recorded to by several threads at the same time.
+ *
+ * @author ckeiner
+ */
+public final class LoadStatistics
+{
+    /**
+     * The durations of all executions, failed or not.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * The number of failed executions.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Records an execution.
+     *
+     * @param nanos
+     *            The duration of the execution in nanoseconds.
+     * @param failed
+     *            Whether the execution failed.
+     */
+    void record(final long nanos, final boolean failed)
+    {
+        histogram.record(nanos);
+        if (failed)
+        {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Returns the number of executions per second.
+     *
+     * @param elapsedNanos
+     *            The duration of the load test in nanoseconds.
+     * @return The executions per second.
+     */
+    public double getThroughput(final long elapsedNanos)
+    {
+        return elapsedNanos <= 0 ? 0 : getCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public long getCount()
+    {
+        return histogram.getCount();
+    }
+
+    public long getFailures()
+    {
+        return failures.sum();
+    }
+
+    public LatencyHistogram getHistogram()
+    {
+        return histogram;
+    }
+}
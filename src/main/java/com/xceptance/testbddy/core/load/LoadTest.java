@@ -0,0 +1,325 @@
+package com.xceptance.testbddy.core.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.status.Status;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.throwables.errors.ScenarioError;
+import com.xceptance.testbddy.core.throwables.exceptions.FeatureException;
+import com.xceptance.testbddy.core.throwables.exceptions.ScenarioException;
+import com.xceptance.testbddy.core.util.Console;
+
+/**
+ * Executes the scenarios of a {@link Feature} repeatedly with a fixed number of
+ * virtual users, i.e. a closed workload model.<br>
+ * Each user runs on its own thread and executes all scenarios of the feature
+ * one after another per iteration. A new iteration only starts once the
+ * previous one is finished, so the load depends on the response times. The
+ * users are started evenly distributed over the ramp-up time. Each user stops
+ * after the configured iterations or once the duration is over, whatever comes
+ * first. Without both, each user executes one iteration.<br>
+ * Failed scenarios don't stop the load test, but are counted. Scenarios and
+ * steps aren't reported individually. Instead, the {@link LoadResult} holds
+ * their aggregated durations and is reported to the reporter of the feature
+ * once the load test is over.<br>
+ * While the load test runs, the executions of all threads are recorded and
+ * nothing is printed to the {@link Console}. Hence, other features shouldn't be
+ * executed at the same time.
+ *
+ * @author ckeiner
+ */
+public class LoadTest
+{
+    /**
+     * The feature whose scenarios are executed.
+     */
+    private final Feature feature;
+
+    /**
+     * The number of virtual users.
+     */
+    private int users = 1;
+
+    /**
+     * The time in nanoseconds until all users are started.
+     */
+    private long rampUp;
+
+    /**
+     * The maximum duration of the load test in nanoseconds.<br>
+     * <code>0</code> if it isn't limited.
+     */
+    private long duration;
+
+    /**
+     * The number of iterations per user.<br>
+     * <code>0</code> if it isn't limited.
+     */
+    private int iterations;
+
+    /**
+     * Creates a load test for the specified feature.
+     *
+     * @param feature
+     *            The {@link Feature} whose scenarios are executed.
+     */
+    public LoadTest(final Feature feature)
+    {
+        if (feature == null)
+        {
+            throw new IllegalArgumentException("Feature must not be null");
+        }
+        this.feature = feature;
+    }
+
+    /**
+     * Sets the number of virtual users.
+     *
+     * @param users
+     *            The number of users, at least 1.
+     * @return The LoadTest.
+     */
+    public LoadTest users(final int users)
+    {
+        if (users < 1)
+        {
+            throw new IllegalArgumentException("Users must be at least 1 but was " + users);
+        }
+        this.users = users;
+        return this;
+    }
+
+    /**
+     * Sets the time until all users are started.
+     *
+     * @param rampUp
+     *            The ramp-up time, at least 0.
+     * @param unit
+     *            The {@link TimeUnit} of the ramp-up time.
+     * @return The LoadTest.
+     */
+    public LoadTest rampUp(final long rampUp, final TimeUnit unit)
+    {
+        if (rampUp < 0)
+        {
+            throw new IllegalArgumentException("Ramp-up must not be negative but was " + rampUp);
+        }
+        this.rampUp = unit.toNanos(rampUp);
+        return this;
+    }
+
+    /**
+     * Sets the maximum duration of the load test.<br>
+     * A started iteration is always finished.
+     *
+     * @param duration
+     *            The duration, at least 1.
+     * @param unit
+     *            The {@link TimeUnit} of the duration.
+     * @return The LoadTest.
+     */
+    public LoadTest duration(final long duration, final TimeUnit unit)
+    {
+        if (duration < 1)
+        {
+            throw new IllegalArgumentException("Duration must be at least 1 but was " + duration);
+        }
+        this.duration = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the number of iterations per user.
+     *
+     * @param iterations
+     *            The number of iterations, at least 1.
+     * @return The LoadTest.
+     */
+    public LoadTest iterations(final int iterations)
+    {
+        if (iterations < 1)
+        {
+            throw new IllegalArgumentException("Iterations must be at least 1 but was " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Executes the load test and reports its result to the reporter of the
+     * feature, if it has one.
+     *
+     * @return The {@link LoadResult} of the load test.
+     */
+    public LoadResult run()
+    {
+        checkFeature(feature);
+        final int iterationsPerUser = iterations == 0 && duration == 0 ? 1 : iterations;
+        final LoadListener listener = new LoadListener();
+        final LongAdder executedIterations = new LongAdder();
+        final LongAdder failedIterations = new LongAdder();
+        final ExecutorService executor = newExecutor(users);
+
+        ExecutionListeners.register(listener);
+        // Printing every execution would only flood the console
+        Console.mute();
+        final long start = System.nanoTime();
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>(users);
+            for (int user = 0; user < users; user++)
+            {
+                final long userStart = start + rampUp * user / users;
+                futures.add(executor.submit(() -> executeUser(userStart, start, iterationsPerUser, executedIterations,
+                        failedIterations)));
+            }
+            for (final Future<?> future : futures)
+            {
+                future.get();
+            }
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new FeatureException("Load test of \"" + feature.getDescription() + "\" was interrupted", e);
+        } catch (ExecutionException e)
+        {
+            throw new FeatureException("Load test of \"" + feature.getDescription() + "\" failed", e.getCause());
+        } finally
+        {
+            executor.shutdownNow();
+            ExecutionListeners.unregister(listener);
+            Console.unmute();
+        }
+
+        final LoadResult result = new LoadResult(feature.getDescription(), users, System.nanoTime() - start,
+                executedIterations.sum(), failedIterations.sum(), listener.scenarios, listener.steps);
+        if (feature.getReporter() != null)
+        {
+            result.report(feature.getReporter());
+        }
+        return result;
+    }
+
+    /**
+     * Executes the iterations of one user.
+     *
+     * @param userStart
+     *            The time in nanoseconds the user starts.
+     * @param start
+     *            The time in nanoseconds the load test started.
+     * @param iterationsPerUser
+     *            The number of iterations or <code>0</code> if only the duration
+     *            limits them.
+     * @param executedIterations
+     *            Counts the executed iterations.
+     * @param failedIterations
+     *            Counts the iterations with at least one failed scenario.
+     * @throws InterruptedException
+     *             If the user is interrupted while waiting for its start.
+     */
+    private Void executeUser(final long userStart, final long start, final int iterationsPerUser,
+            final LongAdder executedIterations, final LongAdder failedIterations) throws InterruptedException
+    {
+        // Wait for the ramp-up
+        TimeUnit.NANOSECONDS.sleep(userStart - System.nanoTime());
+        for (int iteration = 0; iterationsPerUser == 0 || iteration < iterationsPerUser; iteration++)
+        {
+            if ((duration > 0 && System.nanoTime() - start >= duration) || Thread.currentThread().isInterrupted())
+            {
+                break;
+            }
+            final boolean failed = executeIteration(feature);
+            executedIterations.increment();
+            if (failed)
+            {
+                failedIterations.increment();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifies that the scenarios of the feature can be executed.
+     *
+     * @param feature
+     *            The {@link Feature} of the load test.
+     */
+    static void checkFeature(final Feature feature)
+    {
+        if (feature.getStatus().contains(Status.IGNORE) || feature.getStatus().contains(Status.SKIP))
+        {
+            throw new IllegalStateException("Feature \"" + feature.getDescription() + "\" is ignored or skipped");
+        }
+    }
+
+    /**
+     * Creates the executor running the virtual users on daemon threads.
+     *
+     * @param threads
+     *            The number of threads.
+     * @return The ExecutorService.
+     */
+    static ExecutorService newExecutor(final int threads)
+    {
+        return newExecutor(threads, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates the executor running the iterations on daemon threads, whose queue
+     * holds at most the specified number of waiting tasks.
+     *
+     * @param threads
+     *            The number of threads.
+     * @param backlog
+     *            The maximum number of tasks waiting for a thread. Further tasks
+     *            are rejected with a
+     *            {@link java.util.concurrent.RejectedExecutionException}.
+     * @return The ExecutorService.
+     */
+    static ExecutorService newExecutor(final int threads, final int backlog)
+    {
+        final AtomicInteger number = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(backlog), runnable ->
+        {
+            final Thread thread = new Thread(runnable, "testbddy-user-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Executes all scenarios of the feature once without reporting them.
+     *
+     * @param feature
+     *            The {@link Feature} whose scenarios are executed.
+     * @return True if at least one scenario failed, otherwise false.
+     */
+    static boolean executeIteration(final Feature feature)
+    {
+        boolean failed = false;
+        for (final AbstractScenario scenario : feature.getScenarios())
+        {
+            try
+            {
+                // The scenarios aren't reported individually
+                scenario.test(null);
+            } catch (ScenarioException | ScenarioError e)
+            {
+                failed = true;
+            }
+        }
+        return failed;
+    }
+}
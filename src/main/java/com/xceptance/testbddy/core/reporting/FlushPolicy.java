@@ -0,0 +1,143 @@
+package com.xceptance.testbddy.core.reporting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides when a {@link ReportInterface} writes its report while the suite is
+ * still running.<br>
+ * Writing a report usually means rendering all of it again. Hence, writing it
+ * after every feature makes the time spent on reporting grow quadratically with
+ * the number of features. By default, the report is only written once by
+ * {@link ReportInterface#finishReport()} or when the JVM shuts down. It can
+ * additionally be written after a number of features or after an interval, so
+ * intermediate results are available during long runs.<br>
+ * A policy can be used by several threads at the same time.
+ *
+ * @author ckeiner
+ */
+public final class FlushPolicy
+{
+    /**
+     * The system property holding the number of finished features after which the
+     * report is written. <code>0</code> or less only writes the report at the end.
+     */
+    public final static String FEATURES_PROPERTY = "testbddy.report.flushFeatures";
+
+    /**
+     * The system property holding the interval in milliseconds after which the
+     * report is written once the next feature is finished. <code>0</code> or less
+     * only writes the report at the end.
+     */
+    public final static String INTERVAL_PROPERTY = "testbddy.report.flushInterval";
+
+    /**
+     * The number of finished features after which the report is written.
+     */
+    private final int features;
+
+    /**
+     * The interval in nanoseconds after which the report is written.
+     */
+    private final long interval;
+
+    /**
+     * The number of features finished since the report was written last.
+     */
+    private final AtomicInteger unflushedFeatures = new AtomicInteger();
+
+    /**
+     * Whether the report changed since it was written last.
+     */
+    private volatile boolean changed;
+
+    /**
+     * The time in nanoseconds the report was written last.
+     */
+    private volatile long lastFlush = System.nanoTime();
+
+    /**
+     * Creates a policy that writes the report after the specified number of
+     * features or the specified interval, whatever comes first.
+     *
+     * @param features
+     *            The number of finished features after which the report is
+     *            written. <code>0</code> or less disables it.
+     * @param intervalMillis
+     *            The interval in milliseconds after which the report is written
+     *            once the next feature is finished. <code>0</code> or less
+     *            disables it.
+     */
+    public FlushPolicy(final int features, final long intervalMillis)
+    {
+        this.features = features;
+        this.interval = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Creates a policy configured by the system properties {@link #FEATURES_PROPERTY}
+     * and {@link #INTERVAL_PROPERTY}.<br>
+     * Without them, the report is only written at the end.
+     *
+     * @return The configured FlushPolicy.
+     */
+    public static FlushPolicy fromSystemProperties()
+    {
+        return new FlushPolicy(Integer.getInteger(FEATURES_PROPERTY, 0), Long.getLong(INTERVAL_PROPERTY, 0));
+    }
+
+    /**
+     * Notes that the report changed.
+     */
+    public void changed()
+    {
+        // Avoid writing the volatile field for every element
+        if (!changed)
+        {
+            changed = true;
+        }
+    }
+
+    /**
+     * Notes that a feature was finished and decides whether the report should be
+     * written now.
+     *
+     * @return True if the report should be written, otherwise false.
+     */
+    public boolean featureFinished()
+    {
+        changed();
+        final int finished = unflushedFeatures.incrementAndGet();
+        return (features > 0 && finished >= features) || (interval > 0 && System.nanoTime() - lastFlush >= interval);
+    }
+
+    /**
+     * Notes that the report was written.
+     */
+    public void flushed()
+    {
+        changed = false;
+        unflushedFeatures.set(0);
+        lastFlush = System.nanoTime();
+    }
+
+    /**
+     * Whether the report changed since it was written last.
+     *
+     * @return True if the report has to be written, otherwise false.
+     */
+    public boolean hasChanges()
+    {
+        return changed;
+    }
+
+    public int getFeatures()
+    {
+        return features;
+    }
+
+    public long getIntervalMillis()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(interval);
+    }
+}
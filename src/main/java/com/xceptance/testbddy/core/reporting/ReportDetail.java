@@ -0,0 +1,41 @@
+package com.xceptance.testbddy.core.reporting;
+
+/**
+ * Decides how detailed the rows of a scenario outline are reported.<br>
+ * Outlines with many test data create a scenario and its steps for every row.
+ * With {@link #FAILURES}, only failing rows are reported in detail, while all
+ * other rows are summed up in a single summary. Thus, the size of the report
+ * grows with the failures instead of the rows.
+ *
+ * @author ckeiner
+ */
+public enum ReportDetail
+{
+    /**
+     * Every row is reported with its steps.
+     */
+    FULL,
+
+    /**
+     * Only failing rows are reported with their steps. Passed, skipped and pending
+     * rows are only counted in a summary.
+     */
+    FAILURES;
+
+    /**
+     * The system property holding the default detail of scenario outlines.
+     */
+    public final static String DETAIL_PROPERTY = "testbddy.report.outlineDetail";
+
+    /**
+     * Returns the detail chosen by the system property {@link #DETAIL_PROPERTY}.
+     *
+     * @return The ReportDetail of the property, {@link #FULL} if it isn't set.
+     * @throws IllegalArgumentException
+     *             If the property names no ReportDetail.
+     */
+    public static ReportDetail getDefault()
+    {
+        return valueOf(System.getProperty(DETAIL_PROPERTY, FULL.name()).trim().toUpperCase());
+    }
+}
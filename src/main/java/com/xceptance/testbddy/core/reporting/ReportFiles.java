@@ -0,0 +1,88 @@
+package com.xceptance.testbddy.core.reporting;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Determines the files reporters write to.<br>
+ * Several JVMs, like the forks of surefire, must not write to the same file.
+ * Hence, if the system property {@link #SHARD_PROPERTY} is set, its value is
+ * added to the name of each file, e.g. <code>report/extent-2.html</code> for
+ * the shard <code>2</code>. The value <code>pid</code> uses the process id of
+ * the JVM.
+ *
+ * @author ckeiner
+ */
+public final class ReportFiles
+{
+    /**
+     * The system property holding the shard of this JVM, for example the fork
+     * number of surefire.
+     */
+    public final static String SHARD_PROPERTY = "testbddy.report.shard";
+
+    /**
+     * The value of the shard property that uses the process id.
+     */
+    public final static String PID_SHARD = "pid";
+
+    private ReportFiles()
+    {
+    }
+
+    /**
+     * Returns the shard of this JVM.
+     *
+     * @return The shard or <code>null</code> if the JVM writes the only report.
+     */
+    public static String getShard()
+    {
+        final String shard = System.getProperty(SHARD_PROPERTY);
+        if (shard == null || shard.trim().isEmpty())
+        {
+            return null;
+        }
+        if (PID_SHARD.equalsIgnoreCase(shard.trim()))
+        {
+            // The name of the runtime is pid@host
+            final String name = ManagementFactory.getRuntimeMXBean().getName();
+            return name.contains("@") ? name.substring(0, name.indexOf('@')) : name;
+        }
+        return shard.trim();
+    }
+
+    /**
+     * Returns the path of the specified file in {@link ReportInterface#PATH} for
+     * the shard of this JVM.
+     *
+     * @param fileName
+     *            The name of the file without shard, e.g.
+     *            <code>extent.html</code>.
+     * @return The path of the file.
+     */
+    public static Path getPath(String fileName)
+    {
+        return Paths.get(ReportInterface.PATH, getShardFileName(fileName, getShard()));
+    }
+
+    /**
+     * Adds the shard to the file name in front of its extension.
+     *
+     * @param fileName
+     *            The name of the file without shard.
+     * @param shard
+     *            The shard or <code>null</code>.
+     * @return The name of the file of the shard.
+     */
+    public static String getShardFileName(String fileName, String shard)
+    {
+        if (shard == null)
+        {
+            return fileName;
+        }
+        final int extension = fileName.lastIndexOf('.');
+        return extension < 0 ? fileName + "-" + shard
+                : fileName.substring(0, extension) + "-" + shard + fileName.substring(extension);
+    }
+}
@@ -1,5 +1,7 @@
 package com.xceptance.testbddy.core.reporting;
 
+import java.util.function.Supplier;
+
 import com.aventstack.extentreports.GherkinKeyword;
 
 /**
@@ -72,7 +74,56 @@ public interface ReportInterface
     public ReportElement step(GherkinKeyword keyword, String description);
 
     /**
-     * Completes the report.
+     * Creates a {@link ReportElement} for a step, whose description is only
+     * computed once it is needed.<br>
+     * The default implementation computes the description right away and calls
+     * {@link #step(GherkinKeyword, String)}.
+     * 
+     * @param keyword
+     *            The {@link GherkinKeyword} of the step.
+     * @param description
+     *            Supplies the description of the step.
+     * @return A ReportElement depicting the step.
+     */
+    public default ReportElement step(GherkinKeyword keyword, Supplier<String> description)
+    {
+        return step(keyword, description.get());
+    }
+
+    /**
+     * Returns a {@link ReportInterface} that creates its elements beneath the
+     * specified parent.<br>
+     * This is the report context of a single execution: a feature hands it to its
+     * scenarios and a scenario to its steps. Hence, components running at the same
+     * time on different threads always report to the correct parent.<br>
+     * The default implementation returns this instance, so the implementation has
+     * to determine the parent itself.
+     * 
+     * @param parent
+     *            The {@link ReportElement} new elements are created beneath. If it
+     *            is <code>null</code>, elements are created at the top level.
+     * @return A ReportInterface creating elements beneath the parent.
+     */
+    public default ReportInterface withParent(ReportElement parent)
+    {
+        return this;
+    }
+
+    /**
+     * Signals that a feature was finished.<br>
+     * Reporters that render their whole report at once should only do so at the
+     * end of the suite, see {@link FlushPolicy}. The default implementation
+     * completes the report by calling {@link #finishReport()}.
+     */
+    public default void finishFeature()
+    {
+        finishReport();
+    }
+
+    /**
+     * Completes the report.<br>
+     * This is the end of the suite, so everything reported so far has to be
+     * written.
      */
     public void finishReport();
 
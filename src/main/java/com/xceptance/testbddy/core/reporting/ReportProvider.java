@@ -0,0 +1,31 @@
+package com.xceptance.testbddy.core.reporting;
+
+import java.util.ServiceLoader;
+
+/**
+ * Provides a {@link ReportInterface} that features report to by default.<br>
+ * Providers are found with the {@link ServiceLoader}, so a reporter is plugged
+ * in by listing its provider in
+ * <code>META-INF/services/com.xceptance.testbddy.core.reporting.ReportProvider</code>.
+ * The providers used are chosen by their name, see {@link ReportProviders}.
+ *
+ * @author ckeiner
+ */
+public interface ReportProvider
+{
+    /**
+     * Returns the name the provider is chosen by.
+     *
+     * @return The unique name of the provider.
+     */
+    public String getName();
+
+    /**
+     * Returns the {@link ReportInterface} of the provider.<br>
+     * The reporter is shared by all features, so it has to be usable by several
+     * threads at the same time.
+     *
+     * @return The ReportInterface features report to.
+     */
+    public ReportInterface getReporter();
+}
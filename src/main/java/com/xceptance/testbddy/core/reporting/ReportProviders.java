@@ -0,0 +1,153 @@
+package com.xceptance.testbddy.core.reporting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.xceptance.testbddy.core.reporting.async.AsyncReportInterface;
+import com.xceptance.testbddy.core.reporting.composite.CompositeReportInterface;
+
+/**
+ * Looks up the {@link ReportInterface} features report to by default.<br>
+ * The reporters are chosen by the system property {@link #REPORTER_PROPERTY},
+ * which contains the names of one or more {@link ReportProvider}s separated by
+ * commas. Several reporters are combined by a {@link CompositeReportInterface}.
+ * Without the property, the {@link #DEFAULT_REPORTER} is used. If the system
+ * property {@link AsyncReportInterface#ASYNC_PROPERTY} is <code>true</code>,
+ * the reporter is wrapped in an {@link AsyncReportInterface}.<br>
+ * Built-in providers are <code>extent</code> for ExtentReports,
+ * <code>jsonl</code> for a stream of JSON Lines and <code>none</code>, which
+ * doesn't report anything.<br>
+ * The reports are written by {@link #finishReports()} once the suite finished,
+ * e.g. by the {@link ReportRunListener}.
+ *
+ * @author ckeiner
+ */
+public final class ReportProviders
+{
+    /**
+     * The system property with the names of the reporters.
+     */
+    public final static String REPORTER_PROPERTY = "testbddy.reporter";
+
+    /**
+     * The name of the reporter used if the property isn't set.
+     */
+    public final static String DEFAULT_REPORTER = "extent";
+
+    /**
+     * The reporters by the value of the property they were created for. Thus, the
+     * providers are only looked up once.
+     */
+    private final static Map<String, ReportInterface> REPORTERS = new ConcurrentHashMap<>();
+
+    private ReportProviders()
+    {
+    }
+
+    /**
+     * Returns the {@link ReportInterface} chosen by the system property
+     * {@link #REPORTER_PROPERTY}.
+     *
+     * @return The ReportInterface features report to.
+     * @throws IllegalArgumentException
+     *             If no provider with a specified name exists.
+     */
+    public static ReportInterface getReporter()
+    {
+        return getReporter(System.getProperty(REPORTER_PROPERTY, DEFAULT_REPORTER));
+    }
+
+    /**
+     * Returns the {@link ReportInterface} for the specified names of
+     * providers.<br>
+     * The result is cached, so subsequent calls return the same reporter.
+     *
+     * @param names
+     *            The names of the {@link ReportProvider}s separated by commas.
+     * @return The reporter of the provider or a {@link CompositeReportInterface}
+     *         if several are named.
+     * @throws IllegalArgumentException
+     *             If no provider with a specified name exists.
+     */
+    public static ReportInterface getReporter(String names)
+    {
+        return REPORTERS.computeIfAbsent(names, ReportProviders::createReporter);
+    }
+
+    /**
+     * Finishes the report of every reporter returned so far by calling
+     * {@link ReportInterface#finishReport()} once.<br>
+     * The finished reporters are removed, so each one is only finished once, even
+     * if this is called concurrently. Features created afterwards look their
+     * reporter up again.
+     */
+    public static void finishReports()
+    {
+        for (String names : REPORTERS.keySet())
+        {
+            final ReportInterface reporter = REPORTERS.remove(names);
+            // Another thread may have finished it already
+            if (reporter != null)
+            {
+                reporter.finishReport();
+            }
+        }
+    }
+
+    /**
+     * Creates the {@link ReportInterface} for the specified names of providers.
+     *
+     * @param names
+     *            The names of the {@link ReportProvider}s separated by commas.
+     * @return The reporter of the provider or a {@link CompositeReportInterface}
+     *         if several are named, possibly wrapped in an
+     *         {@link AsyncReportInterface}.
+     */
+    private static ReportInterface createReporter(String names)
+    {
+        final List<ReportInterface> reporters = new ArrayList<>();
+        for (String name : names.split(","))
+        {
+            name = name.trim();
+            if (!name.isEmpty())
+            {
+                reporters.add(findProvider(name).getReporter());
+            }
+        }
+        if (reporters.isEmpty())
+        {
+            throw new IllegalArgumentException("No reporter is named in \"" + names + "\"");
+        }
+        final ReportInterface reporter = reporters.size() == 1 ? reporters.get(0)
+                : new CompositeReportInterface(reporters.toArray(new ReportInterface[reporters.size()]));
+        // Move the reporting off the test threads if requested
+        return Boolean.getBoolean(AsyncReportInterface.ASYNC_PROPERTY)
+                ? AsyncReportInterface.fromSystemProperties(reporter) : reporter;
+    }
+
+    /**
+     * Finds the {@link ReportProvider} with the specified name.
+     *
+     * @param name
+     *            The name of the provider.
+     * @return The ReportProvider with the name.
+     * @throws IllegalArgumentException
+     *             If no provider with the name exists.
+     */
+    private static ReportProvider findProvider(String name)
+    {
+        final List<String> available = new ArrayList<>();
+        for (ReportProvider provider : ServiceLoader.load(ReportProvider.class))
+        {
+            if (provider.getName().equals(name))
+            {
+                return provider;
+            }
+            available.add(provider.getName());
+        }
+        throw new IllegalArgumentException("Unknown reporter \"" + name + "\", available are " + available);
+    }
+}
@@ -0,0 +1,22 @@
+package com.xceptance.testbddy.core.reporting;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * A JUnit {@link RunListener} that writes the reports once all tests of the run
+ * finished, see {@link ReportProviders#finishReports()}.<br>
+ * Register it with the runner, e.g. as <code>listener</code> property of the
+ * Maven Surefire plugin. Without it, the reports are only written when the JVM
+ * shuts down.
+ *
+ * @author ckeiner
+ */
+public class ReportRunListener extends RunListener
+{
+    @Override
+    public void testRunFinished(Result result)
+    {
+        ReportProviders.finishReports();
+    }
+}
@@ -0,0 +1,599 @@
+package com.xceptance.testbddy.core.reporting.async;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * A {@link ReportInterface} that reports to another ReportInterface on a
+ * background thread.<br>
+ * Every call is turned into an immutable event and added to a bounded
+ * {@link RingBuffer}. A single consumer thread takes the events in order and
+ * applies them to the delegate. Hence, the test threads only pay for adding an
+ * event, while the delegate doesn't have to be usable by several threads.<br>
+ * If the buffer is full, the {@link Backpressure} decides whether the test
+ * thread waits or the event is dropped. {@link #finishFeature()} and
+ * {@link #finishReport()} are never dropped and, if drain on finish is enabled,
+ * wait until the delegate processed them. Once the reporter is closed, they are
+ * applied on the calling thread instead.<br>
+ * Lazily supplied step descriptions are computed on the test thread, since the
+ * test datum may change once the step is executed.
+ *
+ * @author ckeiner
+ */
+public class AsyncReportInterface implements ReportInterface, AutoCloseable
+{
+    /**
+     * The system property enabling asynchronous reporting for the reporters of
+     * {@link com.xceptance.testbddy.core.reporting.ReportProviders}.
+     */
+    public final static String ASYNC_PROPERTY = "testbddy.reporter.async";
+
+    /**
+     * The system property holding the capacity of the buffer.
+     */
+    public final static String CAPACITY_PROPERTY = "testbddy.reporter.async.capacity";
+
+    /**
+     * The system property holding the name of the {@link Backpressure}.
+     */
+    public final static String BACKPRESSURE_PROPERTY = "testbddy.reporter.async.backpressure";
+
+    /**
+     * The system property holding whether finishing waits for the delegate.
+     */
+    public final static String DRAIN_ON_FINISH_PROPERTY = "testbddy.reporter.async.drainOnFinish";
+
+    /**
+     * The default capacity of the buffer.
+     */
+    public final static int DEFAULT_CAPACITY = 64 * 1024;
+
+    /**
+     * The time in nanoseconds the consumer waits if the buffer is empty.
+     */
+    private final static long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Decides what happens to an event if the buffer is full.
+     *
+     * @author ckeiner
+     */
+    public enum Backpressure
+    {
+        /**
+         * The test thread waits until there is space.
+         */
+        BLOCK,
+        /**
+         * The event is dropped and counted. Results of dropped elements are lost as
+         * well.
+         */
+        DROP
+    }
+
+    /**
+     * The buffer and the consumer shared by all instances for the same delegate.
+     */
+    private final Pipeline pipeline;
+
+    /**
+     * The element new elements are created beneath. <code>null</code> if they are
+     * created beneath the delegate itself.
+     */
+    private final AsyncElement parent;
+
+    /**
+     * Creates a reporter with the default capacity that blocks if the buffer is
+     * full and waits for the delegate when finishing.
+     *
+     * @param delegate
+     *            The ReportInterface the events are applied to.
+     */
+    public AsyncReportInterface(ReportInterface delegate)
+    {
+        this(delegate, DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+    }
+
+    /**
+     * Creates a reporter and starts its consumer thread.
+     *
+     * @param delegate
+     *            The ReportInterface the events are applied to.
+     * @param capacity
+     *            The number of events the buffer can hold.
+     * @param backpressure
+     *            Decides what happens to an event if the buffer is full.
+     * @param drainOnFinish
+     *            Whether finishing waits until the delegate processed every event.
+     * @throws IllegalArgumentException
+     *             If the capacity is less than 1.
+     */
+    public AsyncReportInterface(ReportInterface delegate, int capacity, Backpressure backpressure,
+            boolean drainOnFinish)
+    {
+        this(new Pipeline(delegate, capacity, backpressure, drainOnFinish), null);
+    }
+
+    /**
+     * Creates a reporter that shares the pipeline and creates its elements beneath
+     * the parent.
+     *
+     * @param pipeline
+     *            The buffer and the consumer.
+     * @param parent
+     *            The element new elements are created beneath.
+     */
+    private AsyncReportInterface(Pipeline pipeline, AsyncElement parent)
+    {
+        this.pipeline = pipeline;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a reporter configured by the system properties
+     * {@link #CAPACITY_PROPERTY}, {@link #BACKPRESSURE_PROPERTY} and
+     * {@link #DRAIN_ON_FINISH_PROPERTY}.
+     *
+     * @param delegate
+     *            The ReportInterface the events are applied to.
+     * @return The configured AsyncReportInterface.
+     */
+    public static AsyncReportInterface fromSystemProperties(ReportInterface delegate)
+    {
+        return new AsyncReportInterface(delegate, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY),
+                Backpressure.valueOf(System.getProperty(BACKPRESSURE_PROPERTY, Backpressure.BLOCK.name())),
+                Boolean.parseBoolean(System.getProperty(DRAIN_ON_FINISH_PROPERTY, "true")));
+    }
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        final AsyncElement element = new AsyncElement();
+        publish(reporter -> element.target = scope(reporter).feature(description));
+        return element;
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        final AsyncElement element = new AsyncElement();
+        publish(reporter -> element.target = scope(reporter).scenario(description));
+        return element;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        final AsyncElement element = new AsyncElement();
+        publish(reporter -> element.target = scope(reporter).scenarioOutline(description, testdata));
+        return element;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        final AsyncElement element = new AsyncElement();
+        publish(reporter -> element.target = scope(reporter).scenarioOutline(description));
+        return element;
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        final AsyncElement element = new AsyncElement();
+        publish(reporter -> element.target = scope(reporter).step(keyword, description));
+        return element;
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, Supplier<String> description)
+    {
+        return step(keyword, description.get());
+    }
+
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        // Only elements of the same pipeline have a target for its delegate
+        if (parent instanceof AsyncElement && ((AsyncElement) parent).getPipeline() == pipeline)
+        {
+            return new AsyncReportInterface(pipeline, (AsyncElement) parent);
+        }
+        return this.parent == null ? this : new AsyncReportInterface(pipeline, null);
+    }
+
+    @Override
+    public void finishFeature()
+    {
+        pipeline.finish(ReportInterface::finishFeature);
+    }
+
+    @Override
+    public void finishReport()
+    {
+        pipeline.finish(ReportInterface::finishReport);
+    }
+
+    /**
+     * Applies every event added so far to the delegate and stops the consumer
+     * thread.<br>
+     * Events added afterwards are dropped and counted, except for finishing
+     * events, which are applied on the calling thread.
+     */
+    @Override
+    public void close()
+    {
+        pipeline.close();
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full or the
+     * reporter was closed.
+     *
+     * @return The number of dropped events.
+     */
+    public long getDroppedEvents()
+    {
+        return pipeline.dropped.get();
+    }
+
+    /**
+     * Adds the event to the buffer.
+     *
+     * @param event
+     *            The event to add.
+     */
+    private void publish(Consumer<ReportInterface> event)
+    {
+        if (!pipeline.publish(event, pipeline.backpressure))
+        {
+            pipeline.dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the reporter of the consumer that is responsible for new elements of
+     * this instance.
+     *
+     * @param reporter
+     *            The delegate.
+     * @return The delegate scoped to the target of the {@link #parent}.
+     */
+    private ReportInterface scope(ReportInterface reporter)
+    {
+        return parent == null ? reporter : reporter.withParent(parent.target);
+    }
+
+    /**
+     * The buffer and the consumer thread applying its events to the delegate.
+     *
+     * @author ckeiner
+     */
+    private static final class Pipeline implements Runnable
+    {
+        private final ReportInterface delegate;
+
+        private final RingBuffer<Consumer<ReportInterface>> buffer;
+
+        private final Backpressure backpressure;
+
+        private final boolean drainOnFinish;
+
+        /**
+         * The number of dropped events.
+         */
+        private final AtomicLong dropped = new AtomicLong();
+
+        /**
+         * The thread applying the events.
+         */
+        private final Thread consumer;
+
+        /**
+         * Whether the consumer should keep waiting for events.
+         */
+        private volatile boolean running = true;
+
+        /**
+         * The number of threads currently adding an event. The consumer doesn't
+         * stop while a thread may still add an event.
+         */
+        private final AtomicInteger publishers = new AtomicInteger();
+
+        private Pipeline(ReportInterface delegate, int capacity, Backpressure backpressure, boolean drainOnFinish)
+        {
+            this.delegate = delegate;
+            this.buffer = new RingBuffer<>(capacity);
+            this.backpressure = backpressure;
+            this.drainOnFinish = drainOnFinish;
+            consumer = new Thread(this, "testbddy-async-reporter");
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+
+        /**
+         * Adds the event to the buffer unless the pipeline is closed.
+         *
+         * @param event
+         *            The event to add.
+         * @param backpressure
+         *            Decides what happens if the buffer is full.
+         * @return False if the pipeline is closed and the event wasn't added,
+         *         otherwise true, even if the event was dropped.
+         */
+        private boolean publish(Consumer<ReportInterface> event, Backpressure backpressure)
+        {
+            // Announce the event before checking the flag, so the consumer waits for it
+            publishers.incrementAndGet();
+            try
+            {
+                if (!running)
+                {
+                    return false;
+                }
+                while (!buffer.offer(event))
+                {
+                    // Don't wait for a consumer that stopped
+                    if (!running)
+                    {
+                        return false;
+                    }
+                    if (backpressure == Backpressure.DROP)
+                    {
+                        dropped.incrementAndGet();
+                        return true;
+                    }
+                    // Wake up the consumer and give it time to free some space
+                    LockSupport.unpark(consumer);
+                    Thread.yield();
+                }
+                return true;
+            } finally
+            {
+                publishers.decrementAndGet();
+            }
+        }
+
+        /**
+         * Adds the finishing event, which is never dropped, and waits for it if
+         * drain on finish is enabled.
+         *
+         * @param event
+         *            The finishing event.
+         */
+        private void finish(Consumer<ReportInterface> event)
+        {
+            final CountDownLatch processed = new CountDownLatch(1);
+            final Consumer<ReportInterface> finishing = reporter ->
+                {
+                    try
+                    {
+                        event.accept(reporter);
+                    } finally
+                    {
+                        processed.countDown();
+                    }
+                };
+            if (!publish(finishing, Backpressure.BLOCK))
+            {
+                applyAfterClose(finishing);
+                return;
+            }
+            LockSupport.unpark(consumer);
+            if (drainOnFinish)
+            {
+                try
+                {
+                    processed.await();
+                } catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Stops the consumer once it applied every event and waits for it.
+         */
+        private void close()
+        {
+            running = false;
+            LockSupport.unpark(consumer);
+            try
+            {
+                consumer.join();
+            } catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Applies the event on the calling thread once the consumer stopped, so the
+         * delegate is still only used by one thread at a time.
+         *
+         * @param event
+         *            The event to apply.
+         */
+        private void applyAfterClose(Consumer<ReportInterface> event)
+        {
+            try
+            {
+                consumer.join();
+            } catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                dropped.incrementAndGet();
+                return;
+            }
+            synchronized (this)
+            {
+                apply(event);
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                consume();
+            } finally
+            {
+                // Should the consumer die nevertheless, further events are applied on the calling threads
+                running = false;
+            }
+        }
+
+        /**
+         * Applies the events until the pipeline is closed and every event was
+         * applied.
+         */
+        private void consume()
+        {
+            while (true)
+            {
+                // Read the flag first, so no event added before the stop is missed
+                final boolean stopping = !running;
+                final Consumer<ReportInterface> event = buffer.poll();
+                if (event != null)
+                {
+                    apply(event);
+                }
+                else if (stopping)
+                {
+                    // Only stop once no thread is adding an event and every claimed event was applied
+                    if (publishers.get() == 0 && buffer.isEmpty())
+                    {
+                        return;
+                    }
+                    Thread.yield();
+                }
+                else
+                {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                }
+            }
+        }
+
+        /**
+         * Applies the event to the delegate. A failing event doesn't stop the
+         * consumer, not even if it fails with an Error. Otherwise, blocked
+         * producers and finishing events would wait for it forever.
+         *
+         * @param event
+         *            The event to apply.
+         */
+        private void apply(Consumer<ReportInterface> event)
+        {
+            try
+            {
+                event.accept(delegate);
+            } catch (Throwable e)
+            {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * The {@link ReportElement} handed out by the {@link AsyncReportInterface}.<br>
+     * Its target is created by the consumer thread, which is the only thread using
+     * it.
+     *
+     * @author ckeiner
+     */
+    private final class AsyncElement implements ReportElement
+    {
+        /**
+         * The element created by the delegate.
+         */
+        private ReportElement target;
+
+        private Pipeline getPipeline()
+        {
+            return pipeline;
+        }
+
+        /**
+         * Adds an event applying the action to the target.
+         *
+         * @param action
+         *            The action to apply.
+         */
+        private void publish(Consumer<ReportElement> action)
+        {
+            AsyncReportInterface.this.publish(reporter ->
+                {
+                    // The target can be null, if the delegate didn't create an element or it was dropped
+                    if (target != null)
+                    {
+                        action.accept(target);
+                    }
+                });
+        }
+
+        @Override
+        public void assignCategory(String... categories)
+        {
+            publish(element -> element.assignCategory(categories));
+        }
+
+        @Override
+        public void fail(String description)
+        {
+            publish(element -> element.fail(description));
+        }
+
+        @Override
+        public void fail(Throwable throwable)
+        {
+            publish(element -> element.fail(throwable));
+        }
+
+        @Override
+        public void fatal(String description)
+        {
+            publish(element -> element.fatal(description));
+        }
+
+        @Override
+        public void fatal(Throwable throwable)
+        {
+            publish(element -> element.fatal(throwable));
+        }
+
+        @Override
+        public void pass(String description)
+        {
+            publish(element -> element.pass(description));
+        }
+
+        @Override
+        public void pending(String description)
+        {
+            publish(element -> element.pending(description));
+        }
+
+        @Override
+        public void skip(String description)
+        {
+            publish(element -> element.skip(description));
+        }
+
+        @Override
+        public void skip(Throwable throwable)
+        {
+            publish(element -> element.skip(throwable));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.xceptance.testbddy.core.reporting.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer.<br>
+ * Each slot has a sequence number telling whether it is free for the producer
+ * of a position or filled for the consumer. A producer claims a position with a
+ * single compare-and-set on the tail and publishes its element by advancing
+ * the sequence of the slot. The consumer is the only one moving the head, so it
+ * needs no atomic operation except the publication of the freed slot.
+ *
+ * @author ckeiner
+ *
+ * @param <E>
+ *            The type of the elements.
+ */
+final class RingBuffer<E>
+{
+    /**
+     * The elements in their slots.
+     */
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * The sequence number of each slot. If it equals a position, the slot is free
+     * for that position. If it is one more, the element of the position is
+     * published.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * Maps a position to its slot.
+     */
+    private final int mask;
+
+    /**
+     * The next position a producer claims.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position the consumer reads. Only used by the consumer.
+     */
+    private long head;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity
+     *            The minimum number of elements the buffer can hold. It is
+     *            rounded up to the next power of two.
+     * @throws IllegalArgumentException
+     *             If the capacity is less than 1 or greater than 2^30.
+     */
+    RingBuffer(int capacity)
+    {
+        if (capacity < 1 || capacity > 1 << 30)
+        {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30 but was " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        elements = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        mask = size - 1;
+        for (int i = 0; i < size; i++)
+        {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the element if there is space left.<br>
+     * Can be called by any thread.
+     *
+     * @param element
+     *            The element to add, must not be <code>null</code>.
+     * @return True if the element was added, false if the buffer is full.
+     */
+    boolean offer(E element)
+    {
+        while (true)
+        {
+            final long position = tail.get();
+            final int slot = (int) position & mask;
+            final long difference = sequences.get(slot) - position;
+            if (difference == 0)
+            {
+                // The slot is free, try to claim the position
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    elements.lazySet(slot, element);
+                    // Publish the element to the consumer
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            }
+            else if (difference < 0)
+            {
+                // The consumer didn't free the slot yet
+                return false;
+            }
+            // Otherwise another producer claimed the position, try the next one
+        }
+    }
+
+    /**
+     * Removes the oldest element.<br>
+     * Must only be called by the consumer.
+     *
+     * @return The oldest element or <code>null</code> if the oldest position isn't
+     *         published yet.
+     */
+    E poll()
+    {
+        final int slot = (int) head & mask;
+        if (sequences.get(slot) != head + 1)
+        {
+            return null;
+        }
+        final E element = elements.get(slot);
+        elements.lazySet(slot, null);
+        // Free the slot for the producer of the position one round later
+        sequences.set(slot, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Whether every claimed position was read.<br>
+     * Unlike a <code>null</code> from {@link #poll()}, this is false while a
+     * producer claimed a position but didn't publish its element yet. Must only
+     * be called by the consumer.
+     *
+     * @return True if no element was added or is being added, otherwise false.
+     */
+    boolean isEmpty()
+    {
+        return head == tail.get();
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return The capacity.
+     */
+    int capacity()
+    {
+        return mask + 1;
+    }
+}
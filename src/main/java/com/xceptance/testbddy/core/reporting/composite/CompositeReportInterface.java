@@ -0,0 +1,286 @@
+package com.xceptance.testbddy.core.reporting.composite;
+
+import java.util.function.Supplier;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * A {@link ReportInterface} that reports every call to several reporters.<br>
+ * Each created element is a {@link CompositeReportElement} holding the elements
+ * of all reporters, so results and children of an element reach every reporter
+ * in the correct place. A description supplied lazily is computed at most once
+ * for all reporters.
+ *
+ * @author ckeiner
+ */
+public class CompositeReportInterface implements ReportInterface
+{
+    /**
+     * The reporters every call is reported to.
+     */
+    private final ReportInterface[] reporters;
+
+    /**
+     * Creates a reporter that reports to each of the specified reporters.
+     *
+     * @param reporters
+     *            The reporters every call is reported to.
+     */
+    public CompositeReportInterface(ReportInterface... reporters)
+    {
+        this.reporters = reporters.clone();
+    }
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].feature(description);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].scenario(description);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].scenarioOutline(description, testdata);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].scenarioOutline(description);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].step(keyword, description);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, Supplier<String> description)
+    {
+        // Compute the description at most once, no matter how many reporters need it
+        final Supplier<String> once = new Supplier<String>()
+            {
+                private String value;
+
+                @Override
+                public String get()
+                {
+                    if (value == null)
+                    {
+                        value = description.get();
+                    }
+                    return value;
+                }
+            };
+        final ReportElement[] elements = new ReportElement[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            elements[i] = reporters[i].step(keyword, once);
+        }
+        return new CompositeReportElement(elements);
+    }
+
+    /**
+     * Returns a composite whose reporters create their elements beneath their part
+     * of the specified parent.
+     */
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        final ReportInterface[] scoped = new ReportInterface[reporters.length];
+        for (int i = 0; i < reporters.length; i++)
+        {
+            // Each reporter only knows its own part of a composite element
+            if (parent instanceof CompositeReportElement
+                    && ((CompositeReportElement) parent).elements.length == reporters.length)
+            {
+                scoped[i] = reporters[i].withParent(((CompositeReportElement) parent).elements[i]);
+            }
+            else
+            {
+                scoped[i] = reporters[i].withParent(parent);
+            }
+        }
+        return new CompositeReportInterface(scoped);
+    }
+
+    @Override
+    public void finishFeature()
+    {
+        for (ReportInterface reporter : reporters)
+        {
+            reporter.finishFeature();
+        }
+    }
+
+    @Override
+    public void finishReport()
+    {
+        for (ReportInterface reporter : reporters)
+        {
+            reporter.finishReport();
+        }
+    }
+
+    /**
+     * The {@link ReportElement} of the {@link CompositeReportInterface}, which
+     * forwards every call to the elements of all reporters.
+     *
+     * @author ckeiner
+     */
+    private static final class CompositeReportElement implements ReportElement
+    {
+        /**
+         * The elements created by the reporters, in the order of the reporters.
+         * An element can be <code>null</code> if its reporter didn't create one.
+         */
+        private final ReportElement[] elements;
+
+        private CompositeReportElement(ReportElement[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public void assignCategory(String... categories)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.assignCategory(categories);
+                }
+            }
+        }
+
+        @Override
+        public void fail(String description)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.fail(description);
+                }
+            }
+        }
+
+        @Override
+        public void fail(Throwable throwable)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.fail(throwable);
+                }
+            }
+        }
+
+        @Override
+        public void fatal(String description)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.fatal(description);
+                }
+            }
+        }
+
+        @Override
+        public void fatal(Throwable throwable)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.fatal(throwable);
+                }
+            }
+        }
+
+        @Override
+        public void pass(String description)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.pass(description);
+                }
+            }
+        }
+
+        @Override
+        public void pending(String description)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.pending(description);
+                }
+            }
+        }
+
+        @Override
+        public void skip(String description)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.skip(description);
+                }
+            }
+        }
+
+        @Override
+        public void skip(Throwable throwable)
+        {
+            for (ReportElement element : elements)
+            {
+                if (element != null)
+                {
+                    element.skip(throwable);
+                }
+            }
+        }
+    }
+}
@@ -6,11 +6,20 @@ import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.GherkinKeyword;
 import com.aventstack.extentreports.reporter.ExtentHtmlReporter;
+import com.xceptance.testbddy.core.reporting.FlushPolicy;
+import com.xceptance.testbddy.core.reporting.ReportFiles;
 import com.xceptance.testbddy.core.reporting.ReportElement;
 import com.xceptance.testbddy.core.reporting.ReportInterface;
 
 /**
- * The class for reporting with {@link ExtentReports}.
+ * The class for reporting with {@link ExtentReports}.<br>
+ * The instance returned by {@link #getInstance()} creates its elements at the top level of the report. Elements beneath
+ * a feature or scenario are created by the instance returned by {@link #withParent(ReportElement)}. Since an instance
+ * never changes its parent, it can be used by several threads at the same time.<br>
+ * ExtentReports renders the whole report each time it is written. Thus, finished features don't write the report
+ * unless the {@link FlushPolicy} configured by the system properties demands it. The report is written by
+ * {@link #finishReport()}, which {@link com.xceptance.testbddy.core.reporting.ReportRunListener} calls at the end
+ * of the run, and, as a safety net, when the JVM shuts down.
  * 
  * @author ckeiner
  *
@@ -18,48 +27,88 @@ import com.xceptance.testbddy.core.reporting.ReportInterface;
 public class ExtentReportInterface implements ReportInterface
 {
     /**
-     * The report interface to ExtentReports.
+     * The name of the report in {@link ReportInterface#PATH}, see {@link ReportFiles} for the name of a shard.
      */
-    public ExtentReports extentReports;
+    public final static String FILE_NAME = "extent.html";
 
     /**
-     * The {@link ExtentElement} for a feature.
+     * The report interface to ExtentReports.
      */
-    public ExtentElement feature;
+    private final ExtentReports extentReports;
 
     /**
-     * The {@link ExtentElement} for a scenario.
+     * The {@link ExtentElement} new elements are created beneath. <code>null</code> for the top level.
      */
-    public ExtentElement scenario;
+    private final ExtentElement parent;
 
     /**
-     * The {@link ExtentElement} for a step.
+     * Decides when the report is written, shared by all instances.
      */
-    public ExtentElement step;
+    private final FlushPolicy flushPolicy;
 
     /**
-     * Creates a new {@link ExtentReportInterface} and only sets new values if they
-     * aren't set yet.
+     * Creates the shared {@link ExtentReportInterface}, which writes to {@link #FILE_NAME} of this shard and writes
+     * the report once the JVM shuts down.
      */
     private ExtentReportInterface()
     {
-        File file = new File("./" + ReportInterface.PATH);
+        this(ReportFiles.getPath(FILE_NAME).toFile(), FlushPolicy.fromSystemProperties());
+        // Write whatever wasn't written yet once the JVM shuts down
+        Runtime.getRuntime().addShutdownHook(new Thread(() ->
+            {
+                if (flushPolicy.hasChanges())
+                {
+                    flush();
+                }
+            }, "testbddy-report-flush"));
+    }
+
+    /**
+     * Creates a new {@link ExtentReportInterface} with its own report, which is independent of the one returned by
+     * {@link #getInstance()}.<br>
+     * Unlike the shared report, it is only written by {@link #finishReport()} or when the FlushPolicy demands it.
+     * 
+     * @param file
+     *            The file the report is written to.
+     * @param flushPolicy
+     *            Decides when the report is written.
+     */
+    public ExtentReportInterface(File file, FlushPolicy flushPolicy)
+    {
         // Create directory if it doesn't exist yet
-        if (!file.isDirectory())
+        if (file.getParentFile() != null && !file.getParentFile().isDirectory())
         {
-            file.mkdirs();
+            file.getParentFile().mkdirs();
         }
         // Initialize the HtmlReporter
-        ExtentHtmlReporter htmlReporter = new ExtentHtmlReporter("./" + ReportInterface.PATH + "extent.html");
+        ExtentHtmlReporter htmlReporter = new ExtentHtmlReporter(file.getPath());
         // Initialize ExtentReports
         extentReports = new ExtentReports();
         // Attach the HtmlReporter
         extentReports.attachReporter(htmlReporter);
+        parent = null;
+        this.flushPolicy = flushPolicy;
     }
 
     /**
-     * Optimizes concurrent access to the instance (Initialization-on-demand holder
-     * idiom)
+     * Creates a new {@link ExtentReportInterface} that creates its elements beneath the specified parent.
+     * 
+     * @param extentReports
+     *            The report interface to ExtentReports.
+     * @param parent
+     *            The ExtentElement new elements are created beneath.
+     * @param flushPolicy
+     *            Decides when the report is written.
+     */
+    private ExtentReportInterface(ExtentReports extentReports, ExtentElement parent, FlushPolicy flushPolicy)
+    {
+        this.extentReports = extentReports;
+        this.parent = parent;
+        this.flushPolicy = flushPolicy;
+    }
+
+    /**
+     * Optimizes concurrent access to the instance (Initialization-on-demand holder idiom)
      * 
      * @author ckeiner
      */
@@ -81,80 +130,137 @@ public class ExtentReportInterface implements ReportInterface
     @Override
     public ReportElement feature(String description)
     {
-        try
-        {
-            feature = new ExtentElement(extentReports.createTest(new GherkinKeyword("Feature"), description));
-        } catch (ClassNotFoundException e)
-        {
-            e.printStackTrace();
-        }
-        return feature;
+        return createElement("Feature", description);
     }
 
     @Override
     public ReportElement scenario(String description)
     {
-        try
-        {
-            ExtentTest scenarioNode = feature.getElement().createNode(new GherkinKeyword("Scenario"), description);
-            scenario = new ExtentElement(scenarioNode);
-        } catch (ClassNotFoundException e)
-        {
-            e.printStackTrace();
-        }
-        return scenario;
+        return createElement("Scenario", description);
     }
 
     @Override
     public <T> ReportElement scenarioOutline(String description, T testdata)
     {
-        try
+        if (testdata != null)
         {
-            ExtentTest scenarioNode;
-            if (testdata != null)
-            {
-                scenarioNode = feature.getElement().createNode(new GherkinKeyword("Scenario"),
-                        description + " with Data: " + testdata.toString());
-            }
-            else
-            {
-                scenarioNode = feature.getElement().createNode(new GherkinKeyword("Scenario"),
-                        description + " with no Data supplied");
-            }
-            scenario = new ExtentElement(scenarioNode);
-        } catch (ClassNotFoundException e)
+            return createElement("Scenario", description + " with Data: " + testdata.toString());
+        }
+        else
         {
-            e.printStackTrace();
+            return createElement("Scenario", description + " with no Data supplied");
         }
-        return scenario;
     }
 
     @Override
     public ReportElement step(GherkinKeyword keyword, String description)
     {
-        ExtentTest stepNode = scenario.getElement().createNode(keyword, description);
-        step = new ExtentElement(stepNode);
-        return step;
+        return createElement(keyword, description);
+    }
+
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        // Only elements of ExtentReports can be parents
+        if (parent instanceof ExtentElement)
+        {
+            return new ExtentReportInterface(extentReports, (ExtentElement) parent, flushPolicy);
+        }
+        return LazyHolder.INSTANCE == this ? this : new ExtentReportInterface(extentReports, null, flushPolicy);
+    }
+
+    /**
+     * Writes the report if the {@link FlushPolicy} demands it.
+     */
+    @Override
+    public void finishFeature()
+    {
+        if (flushPolicy.featureFinished())
+        {
+            flush();
+        }
     }
 
     @Override
     public void finishReport()
     {
-        extentReports.flush();
+        flush();
+    }
+
+    /**
+     * Writes the report.<br>
+     * All instances of a report share it, so only one of them writes it at a time.
+     */
+    private void flush()
+    {
+        synchronized (extentReports)
+        {
+            // Note the flush first, so changes made during it are written the next time
+            flushPolicy.flushed();
+            extentReports.flush();
+        }
     }
 
     @Override
     public <T> ReportElement scenarioOutline(String description)
+    {
+        return createElement("Scenario", description);
+    }
+
+    public ExtentReports getExtentReports()
+    {
+        return extentReports;
+    }
+
+    public FlushPolicy getFlushPolicy()
+    {
+        return flushPolicy;
+    }
+
+    /**
+     * Creates an {@link ExtentElement} with the specified keyword and description beneath the {@link #parent}.
+     * 
+     * @param keyword
+     *            The name of the {@link GherkinKeyword}.
+     * @param description
+     *            The description of the element.
+     * @return The created ExtentElement. <code>null</code> if the keyword is unknown.
+     */
+    private ExtentElement createElement(String keyword, String description)
     {
         try
         {
-            ExtentTest scenarioNode = feature.getElement().createNode(new GherkinKeyword("Scenario"), description);
-            scenario = new ExtentElement(scenarioNode);
+            return createElement(new GherkinKeyword(keyword), description);
         } catch (ClassNotFoundException e)
         {
             e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Creates an {@link ExtentElement} with the specified keyword and description beneath the {@link #parent}.<br>
+     * Without a parent, the element is created at the top level of the report.
+     * 
+     * @param keyword
+     *            The {@link GherkinKeyword} of the element.
+     * @param description
+     *            The description of the element.
+     * @return The created ExtentElement.
+     */
+    private ExtentElement createElement(GherkinKeyword keyword, String description)
+    {
+        ExtentTest test;
+        if (parent != null)
+        {
+            test = parent.getElement().createNode(keyword, description);
+        }
+        else
+        {
+            test = extentReports.createTest(keyword, description);
         }
-        return scenario;
+        flushPolicy.changed();
+        return new ExtentElement(test);
     }
 
 }
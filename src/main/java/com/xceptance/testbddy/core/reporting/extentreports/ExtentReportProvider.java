@@ -0,0 +1,24 @@
+package com.xceptance.testbddy.core.reporting.extentreports;
+
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.ReportProvider;
+
+/**
+ * Provides the {@link ExtentReportInterface} with the name <code>extent</code>.
+ *
+ * @author ckeiner
+ */
+public class ExtentReportProvider implements ReportProvider
+{
+    @Override
+    public String getName()
+    {
+        return "extent";
+    }
+
+    @Override
+    public ReportInterface getReporter()
+    {
+        return ExtentReportInterface.getInstance();
+    }
+}
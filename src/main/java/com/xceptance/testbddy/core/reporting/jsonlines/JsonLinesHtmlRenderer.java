@@ -0,0 +1,462 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * Renders the events written by the {@link JsonLinesReportInterface} to a
+ * self-contained HTML report.<br>
+ * The events are read in a single pass. Only the elements of top-level features
+ * and scenarios that aren't finished yet are held in memory. Once such an
+ * element receives its result, it is written with all its children and
+ * forgotten. Hence, the tests only write compact events and the report can be
+ * rendered afterwards in its own JVM:
+ *
+ * <pre>
+ * java -cp test-bddy.jar com.xceptance.testbddy.core.reporting.jsonlines.JsonLinesHtmlRenderer [events] [report]
+ * </pre>
+ *
+ * @author ckeiner
+ */
+public class JsonLinesHtmlRenderer
+{
+    /**
+     * The name of the rendered file in {@link ReportInterface#PATH}.
+     */
+    public final static String FILE_NAME = "report.html";
+
+    /**
+     * The statuses from the best to the worst.
+     */
+    private final static List<String> STATUSES = Arrays.asList("pass", "pending", "skip", "fail", "fatal");
+
+    /**
+     * The styles of the report.
+     */
+    private final static String STYLE = "body{font-family:sans-serif;margin:2em}"
+            + "details{margin:.2em 0 .2em 1.5em;border-left:3px solid #ccc;padding-left:.5em}"
+            + "summary{cursor:pointer}.status{display:inline-block;width:4.5em;font-weight:bold}"
+            + ".pass{border-color:#4caf50}.pass>summary>.status{color:#4caf50}"
+            + ".fail,.fatal{border-color:#f44336}.fail>summary>.status,.fatal>summary>.status{color:#f44336}"
+            + ".skip,.pending{border-color:#ff9800}.skip>summary>.status,.pending>summary>.status{color:#ff9800}"
+            + ".keyword{font-weight:bold;margin-right:.3em}.data,.category,.duration{color:#777;margin-left:.5em}"
+            + "pre{background:#f5f5f5;padding:.5em;overflow:auto}table{border-collapse:collapse}"
+            + "td,th{border:1px solid #ccc;padding:.2em .6em;text-align:right}";
+
+    /**
+     * The writer of the report.
+     */
+    private final Writer html;
+
+    /**
+     * The elements that may still receive events by their ids.
+     */
+    private final Map<Long, Node> open = new HashMap<>();
+
+    /**
+     * The top-level elements that didn't receive their result yet, in the order
+     * they were created.
+     */
+    private final Map<Long, Node> openRoots = new LinkedHashMap<>();
+
+    /**
+     * The number of rendered elements by their type and status.
+     */
+    private final Map<String, int[]> counts = new LinkedHashMap<>();
+
+    private JsonLinesHtmlRenderer(Writer html)
+    {
+        this.html = html;
+        for (String type : Arrays.asList("feature", "scenario", "step"))
+        {
+            counts.put(type, new int[STATUSES.size()]);
+        }
+    }
+
+    /**
+     * Renders the events file to an HTML report.
+     *
+     * @param args
+     *            The events file, by default <code>report/results.jsonl</code>,
+     *            and the HTML file, by default <code>report/report.html</code>.
+     * @throws IOException
+     *             If a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        final Path events = args.length > 0 ? Paths.get(args[0])
+                : Paths.get(ReportInterface.PATH, JsonLinesReportInterface.FILE_NAME);
+        final Path report = args.length > 1 ? Paths.get(args[1]) : Paths.get(ReportInterface.PATH, FILE_NAME);
+        final int rendered = render(events, report);
+        System.out.println("Rendered " + rendered + " events of " + events + " to " + report);
+    }
+
+    /**
+     * Renders the events file to an HTML report.
+     *
+     * @param events
+     *            The file written by the {@link JsonLinesReportInterface}.
+     * @param report
+     *            The HTML file to write.
+     * @return The number of events rendered.
+     * @throws IOException
+     *             If a file can't be read or written.
+     * @throws IllegalArgumentException
+     *             If an event isn't a valid JSON object.
+     */
+    public static int render(Path events, Path report) throws IOException
+    {
+        if (report.toAbsolutePath().getParent() != null)
+        {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+        }
+        try (BufferedReader reader = Files.newBufferedReader(events, StandardCharsets.UTF_8);
+                Writer html = Files.newBufferedWriter(report, StandardCharsets.UTF_8))
+        {
+            final JsonLinesHtmlRenderer renderer = new JsonLinesHtmlRenderer(html);
+            renderer.writeHeader(events);
+            int rendered = 0;
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (!line.trim().isEmpty())
+                {
+                    renderer.accept(JsonParser.parseObject(line));
+                    rendered++;
+                }
+            }
+            renderer.finish();
+            return rendered;
+        } catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Processes a single event.
+     *
+     * @param event
+     *            The members of the event.
+     */
+    private void accept(Map<String, Object> event)
+    {
+        final String type = (String) event.get("type");
+        final Long id = (Long) event.get("id");
+        if (type == null || id == null)
+        {
+            return;
+        }
+        switch (type)
+        {
+            case "result":
+                result(id, event);
+                break;
+            case "category":
+                final Node categorized = open.get(id);
+                if (categorized != null && event.get("categories") instanceof List)
+                {
+                    for (Object category : (List<?>) event.get("categories"))
+                    {
+                        categorized.categories.add(String.valueOf(category));
+                    }
+                }
+                break;
+            default:
+                create(id, type, event);
+        }
+    }
+
+    /**
+     * Creates the element of the event beneath its parent.
+     *
+     * @param id
+     *            The id of the element.
+     * @param type
+     *            The type of the element.
+     * @param event
+     *            The members of the event.
+     */
+    private void create(Long id, String type, Map<String, Object> event)
+    {
+        final Node node = new Node(type, event);
+        final Node parent = open.get(event.get("parent"));
+        // Elements whose parent is unknown or already written are rendered on the top level
+        if (parent != null)
+        {
+            parent.children.add(node);
+        }
+        else
+        {
+            openRoots.put(id, node);
+        }
+        open.put(id, node);
+    }
+
+    /**
+     * Adds the result of the event to its element. Top-level elements are written
+     * once they have a result.
+     *
+     * @param id
+     *            The id of the element.
+     * @param event
+     *            The members of the event.
+     */
+    private void result(Long id, Map<String, Object> event)
+    {
+        final Node node = open.get(id);
+        if (node == null)
+        {
+            return;
+        }
+        node.addResult(event);
+        final Node root = openRoots.remove(id);
+        if (root != null)
+        {
+            forget(root);
+            writeNode(root);
+        }
+    }
+
+    /**
+     * Removes the element and its children from the open elements.
+     *
+     * @param node
+     *            The element to remove.
+     */
+    private void forget(Node node)
+    {
+        open.remove(node.id);
+        for (Node child : node.children)
+        {
+            forget(child);
+        }
+    }
+
+    /**
+     * Writes the top-level elements without a result and the summary.
+     */
+    private void finish()
+    {
+        for (Iterator<Node> roots = openRoots.values().iterator(); roots.hasNext();)
+        {
+            writeNode(roots.next());
+            roots.remove();
+        }
+        open.clear();
+        write("<h2>Summary</h2><table><tr><th></th>");
+        for (String status : STATUSES)
+        {
+            write("<th>" + status + "</th>");
+        }
+        write("</tr>");
+        for (Map.Entry<String, int[]> count : counts.entrySet())
+        {
+            write("<tr><th>" + count.getKey() + "</th>");
+            for (int number : count.getValue())
+            {
+                write("<td>" + number + "</td>");
+            }
+            write("</tr>");
+        }
+        write("</table></body></html>\n");
+    }
+
+    /**
+     * Writes the beginning of the report.
+     *
+     * @param events
+     *            The events file.
+     */
+    private void writeHeader(Path events)
+    {
+        write("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Test-Bddy Report</title><style>" + STYLE
+                + "</style></head><body><h1>Test-Bddy Report</h1><p>" + escape(events.toString()) + "</p>\n");
+    }
+
+    /**
+     * Writes the element and its children.
+     *
+     * @param node
+     *            The element to write.
+     */
+    private void writeNode(Node node)
+    {
+        final String status = node.status;
+        final int[] count = counts.get(node.type);
+        if (count != null && status != null)
+        {
+            count[STATUSES.indexOf(status)]++;
+        }
+        final boolean failed = "fail".equals(status) || "fatal".equals(status);
+        write("<details class=\"" + (status != null ? status : "none") + "\"" + (failed ? " open" : "")
+                + "><summary><span class=\"status\">" + (status != null ? status : "") + "</span>");
+        write("<span class=\"keyword\">" + escape(node.keyword != null ? node.keyword : capitalize(node.type))
+                + "</span>" + escape(node.description));
+        if (node.testdata != null)
+        {
+            write("<span class=\"data\">with Data: " + escape(node.testdata) + "</span>");
+        }
+        for (String category : node.categories)
+        {
+            write("<span class=\"category\">" + escape(category) + "</span>");
+        }
+        if (node.end > 0 && node.start > 0)
+        {
+            write("<span class=\"duration\">" + (node.end - node.start) + " ms</span>");
+        }
+        write("</summary>");
+        for (String message : node.messages)
+        {
+            write("<pre>" + escape(message) + "</pre>");
+        }
+        for (Node child : node.children)
+        {
+            writeNode(child);
+        }
+        write("</details>\n");
+    }
+
+    private void write(String text)
+    {
+        try
+        {
+            html.write(text);
+        } catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escapes the text for HTML.
+     *
+     * @param text
+     *            The text to escape.
+     * @return The escaped text, or an empty String for <code>null</code>.
+     */
+    static String escape(String text)
+    {
+        if (text == null)
+        {
+            return "";
+        }
+        final StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++)
+        {
+            final char current = text.charAt(i);
+            switch (current)
+            {
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                default:
+                    escaped.append(current);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String capitalize(String type)
+    {
+        return type.isEmpty() ? type : Character.toUpperCase(type.charAt(0)) + type.substring(1);
+    }
+
+    /**
+     * An element of the report that wasn't written yet.
+     *
+     * @author ckeiner
+     */
+    private static final class Node
+    {
+        private final long id;
+
+        private final String type;
+
+        private final String keyword;
+
+        private final String description;
+
+        private final String testdata;
+
+        private final long start;
+
+        private long end;
+
+        /**
+         * The worst status of the results. <code>null</code> if there is none.
+         */
+        private String status;
+
+        private final List<String> messages = new ArrayList<>(1);
+
+        private final List<String> categories = new ArrayList<>(1);
+
+        private final List<Node> children = new ArrayList<>();
+
+        private Node(String type, Map<String, Object> event)
+        {
+            this.id = (Long) event.get("id");
+            this.type = type;
+            this.keyword = (String) event.get("keyword");
+            this.description = (String) event.get("description");
+            this.testdata = (String) event.get("testdata");
+            this.start = event.get("time") instanceof Long ? (Long) event.get("time") : 0;
+        }
+
+        /**
+         * Adds the result, keeping the worst status.
+         *
+         * @param event
+         *            The members of the result event.
+         */
+        private void addResult(Map<String, Object> event)
+        {
+            final String resultStatus = (String) event.get("status");
+            if (STATUSES.contains(resultStatus)
+                    && (status == null || STATUSES.indexOf(resultStatus) > STATUSES.indexOf(status)))
+            {
+                status = resultStatus;
+            }
+            if (event.get("time") instanceof Long)
+            {
+                end = (Long) event.get("time");
+            }
+            // Failures show their stack trace, other results only a message that differs from the description
+            final Object stackTrace = event.get("stackTrace");
+            final Object message = event.get("message");
+            if (stackTrace != null)
+            {
+                messages.add(String.valueOf(stackTrace));
+            }
+            else if (message != null && !"".equals(message) && !message.equals(description))
+            {
+                messages.add(String.valueOf(message));
+            }
+        }
+    }
+}
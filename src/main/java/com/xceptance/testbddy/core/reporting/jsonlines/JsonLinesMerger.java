@@ -0,0 +1,208 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.xceptance.testbddy.core.reporting.ReportFiles;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * Merges the event files written by the shards of a suite, for example the
+ * forks of surefire, into a single event file.<br>
+ * Each shard numbers its elements starting at <code>1</code>. Thus, the ids of
+ * each shard are shifted behind the ids of the previous shards. Since the
+ * {@link JsonLinesReportInterface} always writes the <code>id</code> and
+ * <code>parent</code> at the start of an event, only these numbers are
+ * rewritten and the rest of the line is copied as it is.<br>
+ * Run as a main, the shards in {@link ReportInterface#PATH} are merged and the
+ * result is rendered by the {@link JsonLinesHtmlRenderer}:
+ *
+ * <pre>
+ * java -cp test-bddy.jar com.xceptance.testbddy.core.reporting.jsonlines.JsonLinesMerger [merged events] [shards...]
+ * </pre>
+ *
+ * @author ckeiner
+ */
+public class JsonLinesMerger
+{
+    /**
+     * Merges the shards and renders the merged events.
+     *
+     * @param args
+     *            The merged events file, by default
+     *            <code>report/results.jsonl</code>, followed by the event files
+     *            of the shards, by default all <code>report/results-*.jsonl</code>.
+     * @throws IOException
+     *             If a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        final Path merged = args.length > 0 ? Paths.get(args[0])
+                : Paths.get(ReportInterface.PATH, JsonLinesReportInterface.FILE_NAME);
+        final List<Path> shards = new ArrayList<>();
+        for (int i = 1; i < args.length; i++)
+        {
+            shards.add(Paths.get(args[i]));
+        }
+        if (shards.isEmpty())
+        {
+            shards.addAll(findShards(merged));
+        }
+        if (!shards.isEmpty())
+        {
+            final long events = merge(shards, merged);
+            System.out.println("Merged " + events + " events of " + shards.size() + " shards to " + merged);
+        }
+        JsonLinesHtmlRenderer.main(new String[]
+            { merged.toString(), merged.resolveSibling(JsonLinesHtmlRenderer.FILE_NAME).toString() });
+    }
+
+    /**
+     * Finds the event files of the shards next to the merged file.
+     *
+     * @param merged
+     *            The merged events file, e.g. <code>report/results.jsonl</code>.
+     * @return The shards, e.g. <code>report/results-1.jsonl</code>, ordered by
+     *         their names with shorter names first, so shard 2 comes before 10.
+     * @throws IOException
+     *             If the directory can't be read.
+     */
+    public static List<Path> findShards(Path merged) throws IOException
+    {
+        final Path directory = merged.toAbsolutePath().getParent();
+        final String pattern = ReportFiles.getShardFileName(merged.getFileName().toString(), "*");
+        final List<Path> shards = new ArrayList<>();
+        if (directory != null && Files.isDirectory(directory))
+        {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, pattern))
+            {
+                files.forEach(shards::add);
+            }
+        }
+        shards.sort(Comparator.comparing((Path shard) -> shard.getFileName().toString().length())
+                .thenComparing(shard -> shard.getFileName().toString()));
+        return shards;
+    }
+
+    /**
+     * Merges the event files of the shards into a single file.
+     *
+     * @param shards
+     *            The event files of the shards in the order they should be
+     *            merged.
+     * @param merged
+     *            The file the merged events are written to.
+     * @return The number of merged events.
+     * @throws IOException
+     *             If a file can't be read or written.
+     */
+    public static long merge(List<Path> shards, Path merged) throws IOException
+    {
+        if (merged.toAbsolutePath().getParent() != null)
+        {
+            Files.createDirectories(merged.toAbsolutePath().getParent());
+        }
+        long events = 0;
+        // The highest id written so far
+        final long[] maxId = new long[1];
+        try (BufferedWriter writer = Files.newBufferedWriter(merged, StandardCharsets.UTF_8))
+        {
+            for (Path shard : shards)
+            {
+                final long offset = maxId[0];
+                try (BufferedReader reader = Files.newBufferedReader(shard, StandardCharsets.UTF_8))
+                {
+                    String line;
+                    while ((line = reader.readLine()) != null)
+                    {
+                        if (!line.isEmpty())
+                        {
+                            writer.write(shiftIds(line, offset, maxId));
+                            writer.write('\n');
+                            events++;
+                        }
+                    }
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Adds the offset to the <code>id</code> and <code>parent</code> at the start
+     * of the event.
+     *
+     * @param line
+     *            The event as written by the {@link JsonLinesReportInterface}.
+     * @param offset
+     *            The number added to the ids.
+     * @param maxId
+     *            Holds the highest id written so far, which is updated.
+     * @return The event with the shifted ids. Lines of another format are
+     *         returned unchanged.
+     */
+    static String shiftIds(String line, long offset, long[] maxId)
+    {
+        // Events start with {"type":"...","id":
+        final int type = line.indexOf("\",\"id\":");
+        if (!line.startsWith("{\"type\":\"") || type < 0)
+        {
+            return line;
+        }
+        final StringBuilder shifted = new StringBuilder(line.length() + 8);
+        int position = shiftNumber(line, type + 7, offset, shifted.append(line, 0, type + 7), maxId);
+        if (line.startsWith(",\"parent\":", position))
+        {
+            shifted.append(",\"parent\":");
+            position = shiftNumber(line, position + 10, offset, shifted, null);
+        }
+        return shifted.append(line, position, line.length()).toString();
+    }
+
+    /**
+     * Appends the number at the position plus the offset.
+     *
+     * @param line
+     *            The event.
+     * @param position
+     *            The start of the number.
+     * @param offset
+     *            The number to add.
+     * @param shifted
+     *            The builder the shifted number is appended to.
+     * @param maxId
+     *            Updated with the shifted number if not <code>null</code>.
+     * @return The position after the number.
+     */
+    private static int shiftNumber(String line, int position, long offset, StringBuilder shifted, long[] maxId)
+    {
+        long number = 0;
+        int end = position;
+        while (end < line.length() && Character.isDigit(line.charAt(end)))
+        {
+            number = number * 10 + (line.charAt(end) - '0');
+            end++;
+        }
+        if (end == position)
+        {
+            // Not a number, keep it
+            return position;
+        }
+        final long id = number + offset;
+        if (maxId != null && id > maxId[0])
+        {
+            maxId[0] = id;
+        }
+        shifted.append(id);
+        return end;
+    }
+}
@@ -0,0 +1,335 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportFiles;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.util.GherkinKeywords;
+
+/**
+ * A {@link ReportInterface} that streams every event as a JSON object on its
+ * own line to a file while the tests are executed.<br>
+ * Nothing is kept in memory except a small write buffer, so the memory used
+ * doesn't depend on the size of the suite. Each element gets a unique
+ * <code>id</code> and references the <code>id</code> of its
+ * <code>parent</code>, for example:
+ *
+ * <pre>
+ * {"type":"feature","id":1,"time":1528714800000,"description":"Feature Description"}
+ * {"type":"step","id":3,"parent":2,"time":1528714800001,"keyword":"Given","description":"Step Description"}
+ * {"type":"result","id":3,"time":1528714800002,"status":"pass","message":"Step Description"}
+ * </pre>
+ *
+ * The buffer is written to the file at the end of each feature, so the results
+ * of finished features survive a killed JVM and the file can be followed while
+ * the suite is running. An instance can be used by several threads at the same
+ * time.
+ *
+ * @author ckeiner
+ */
+public class JsonLinesReportInterface implements ReportInterface
+{
+    /**
+     * The name of the file in {@link ReportInterface#PATH}, see {@link ReportFiles}
+     * for the name of a shard.
+     */
+    public final static String FILE_NAME = "results.jsonl";
+
+    /**
+     * The writer shared by all instances for the same file.
+     */
+    private final JsonLinesWriter writer;
+
+    /**
+     * Hands out the ids of the elements.
+     */
+    private final AtomicLong ids;
+
+    /**
+     * The id of the element new elements are created beneath. <code>0</code> for
+     * the top level.
+     */
+    private final long parent;
+
+    /**
+     * Creates a reporter writing to the specified file, which is truncated.
+     *
+     * @param file
+     *            The file the events are written to.
+     * @throws java.io.UncheckedIOException
+     *             If the file can't be opened.
+     */
+    public JsonLinesReportInterface(Path file)
+    {
+        this(new JsonLinesWriter(file, JsonLinesWriter.BUFFER_SIZE), new AtomicLong(), 0);
+    }
+
+    /**
+     * Creates a reporter sharing the writer and creating its elements beneath the
+     * parent.
+     *
+     * @param writer
+     *            The writer of the file.
+     * @param ids
+     *            Hands out the ids of the elements.
+     * @param parent
+     *            The id of the parent or <code>0</code> for the top level.
+     */
+    private JsonLinesReportInterface(JsonLinesWriter writer, AtomicLong ids, long parent)
+    {
+        this.writer = writer;
+        this.ids = ids;
+        this.parent = parent;
+    }
+
+    /**
+     * Optimizes concurrent access to the instance (Initialization-on-demand holder
+     * idiom)
+     *
+     * @author ckeiner
+     */
+    private static class LazyHolder
+    {
+        static final JsonLinesReportInterface INSTANCE = createInstance();
+
+        /**
+         * Creates the instance writing to {@link JsonLinesReportInterface#FILE_NAME}
+         * of its shard and writes its buffer once the JVM shuts down.
+         *
+         * @return The instance.
+         */
+        private static JsonLinesReportInterface createInstance()
+        {
+            final JsonLinesReportInterface instance = new JsonLinesReportInterface(ReportFiles.getPath(FILE_NAME));
+            Runtime.getRuntime().addShutdownHook(new Thread(instance.writer::close, "testbddy-jsonl-close"));
+            return instance;
+        }
+    }
+
+    /**
+     * Creates and gets the instance from the LazyHolder
+     *
+     * @return The Singleton Instance writing to
+     *         <code>report/results.jsonl</code> or the file of its shard.
+     */
+    public static JsonLinesReportInterface getInstance()
+    {
+        return LazyHolder.INSTANCE;
+    }
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        return createElement("feature", null, description, null);
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        return createElement("scenario", null, description, null);
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        return createElement("scenario", null, description, String.valueOf(testdata));
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        return createElement("scenario", null, description, null);
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        return createElement("step", GherkinKeywords.getName(keyword), description, null);
+    }
+
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        // Only elements of the same file can be parents
+        if (parent instanceof JsonLinesElement && ((JsonLinesElement) parent).writer == writer)
+        {
+            return new JsonLinesReportInterface(writer, ids, ((JsonLinesElement) parent).id);
+        }
+        return this.parent == 0 ? this : new JsonLinesReportInterface(writer, ids, 0);
+    }
+
+    /**
+     * Writes the buffered events of the feature to the file.
+     */
+    @Override
+    public void finishFeature()
+    {
+        writer.flush();
+    }
+
+    /**
+     * Writes the buffered events to the file and forces them to the storage
+     * device.
+     */
+    @Override
+    public void finishReport()
+    {
+        writer.sync();
+    }
+
+    /**
+     * Writes the event of a new element and returns it.
+     *
+     * @param type
+     *            The type of the element.
+     * @param keyword
+     *            The name of the keyword of a step, otherwise <code>null</code>.
+     * @param description
+     *            The description of the element.
+     * @param testdata
+     *            The test datum of a scenario outline, otherwise
+     *            <code>null</code>.
+     * @return The created element.
+     */
+    private JsonLinesElement createElement(String type, String keyword, String description, String testdata)
+    {
+        final long id = ids.incrementAndGet();
+        final StringBuilder json = new StringBuilder(128);
+        json.append("{\"type\":\"").append(type).append("\",\"id\":").append(id);
+        if (parent != 0)
+        {
+            json.append(",\"parent\":").append(parent);
+        }
+        json.append(",\"time\":").append(System.currentTimeMillis());
+        if (keyword != null)
+        {
+            JsonLinesWriter.appendString(json.append(",\"keyword\":"), keyword);
+        }
+        JsonLinesWriter.appendString(json.append(",\"description\":"), description);
+        if (testdata != null)
+        {
+            JsonLinesWriter.appendString(json.append(",\"testdata\":"), testdata);
+        }
+        writer.write(json.append('}'));
+        return new JsonLinesElement(writer, id);
+    }
+
+    /**
+     * The {@link ReportElement} of the {@link JsonLinesReportInterface}, which
+     * writes each result as an event.
+     *
+     * @author ckeiner
+     */
+    private static final class JsonLinesElement implements ReportElement
+    {
+        private final JsonLinesWriter writer;
+
+        private final long id;
+
+        private JsonLinesElement(JsonLinesWriter writer, long id)
+        {
+            this.writer = writer;
+            this.id = id;
+        }
+
+        /**
+         * Writes the result of the element.
+         *
+         * @param status
+         *            The status of the result.
+         * @param message
+         *            The message of the result or <code>null</code>.
+         * @param throwable
+         *            The Throwable causing the result or <code>null</code>.
+         */
+        private void result(String status, String message, Throwable throwable)
+        {
+            final StringBuilder json = new StringBuilder(128);
+            json.append("{\"type\":\"result\",\"id\":").append(id);
+            json.append(",\"time\":").append(System.currentTimeMillis());
+            json.append(",\"status\":\"").append(status).append('"');
+            if (message != null)
+            {
+                JsonLinesWriter.appendString(json.append(",\"message\":"), message);
+            }
+            if (throwable != null)
+            {
+                JsonLinesWriter.appendString(json.append(",\"throwable\":"), throwable.getClass().getName());
+                JsonLinesWriter.appendString(json.append(",\"stackTrace\":"), JsonLinesWriter.stackTrace(throwable));
+            }
+            writer.write(json.append('}'));
+        }
+
+        @Override
+        public void assignCategory(String... categories)
+        {
+            // Most elements don't have any category
+            if (categories.length == 0)
+            {
+                return;
+            }
+            final StringBuilder json = new StringBuilder(64);
+            json.append("{\"type\":\"category\",\"id\":").append(id).append(",\"categories\":[");
+            for (int i = 0; i < categories.length; i++)
+            {
+                if (i > 0)
+                {
+                    json.append(',');
+                }
+                JsonLinesWriter.appendString(json, categories[i]);
+            }
+            writer.write(json.append("]}"));
+        }
+
+        @Override
+        public void fail(String description)
+        {
+            result("fail", description, null);
+        }
+
+        @Override
+        public void fail(Throwable throwable)
+        {
+            result("fail", throwable.getMessage(), throwable);
+        }
+
+        @Override
+        public void fatal(String description)
+        {
+            result("fatal", description, null);
+        }
+
+        @Override
+        public void fatal(Throwable throwable)
+        {
+            result("fatal", throwable.getMessage(), throwable);
+        }
+
+        @Override
+        public void pass(String description)
+        {
+            result("pass", description, null);
+        }
+
+        @Override
+        public void pending(String description)
+        {
+            result("pending", description, null);
+        }
+
+        @Override
+        public void skip(String description)
+        {
+            result("skip", description, null);
+        }
+
+        @Override
+        public void skip(Throwable throwable)
+        {
+            result("skip", throwable.getMessage(), throwable);
+        }
+    }
+}
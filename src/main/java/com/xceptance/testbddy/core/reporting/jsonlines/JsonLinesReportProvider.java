@@ -0,0 +1,25 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.ReportProvider;
+
+/**
+ * Provides the {@link JsonLinesReportInterface} with the name
+ * <code>jsonl</code>.
+ *
+ * @author ckeiner
+ */
+public class JsonLinesReportProvider implements ReportProvider
+{
+    @Override
+    public String getName()
+    {
+        return "jsonl";
+    }
+
+    @Override
+    public ReportInterface getReporter()
+    {
+        return JsonLinesReportInterface.getInstance();
+    }
+}
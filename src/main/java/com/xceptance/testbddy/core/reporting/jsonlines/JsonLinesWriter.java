@@ -0,0 +1,273 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes JSON objects, one per line, through a buffered {@link FileChannel}.<br>
+ * Lines are collected in a direct buffer and written to the channel once it is
+ * full or {@link #flush()} is called. Data written to the channel survive a
+ * crash of the JVM, so at most the content of the buffer is lost. A writer can
+ * be used by several threads at the same time. It is guarded by a lock instead
+ * of a monitor, so virtual threads writing to the file don't pin their carrier
+ * thread.
+ *
+ * @author ckeiner
+ */
+final class JsonLinesWriter implements AutoCloseable
+{
+    /**
+     * The default size of the buffer in bytes.
+     */
+    final static int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The channel the lines are written to.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The lines not written to the channel yet.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Guards the buffer and the channel.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Opens the specified file and truncates it.
+     *
+     * @param file
+     *            The file the lines are written to.
+     * @param bufferSize
+     *            The size of the buffer in bytes.
+     * @throws UncheckedIOException
+     *             If the file can't be opened.
+     */
+    JsonLinesWriter(Path file, int bufferSize)
+    {
+        try
+        {
+            // Create the directory if it doesn't exist yet
+            if (file.toAbsolutePath().getParent() != null)
+            {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e)
+        {
+            throw new UncheckedIOException("Could not open " + file, e);
+        }
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Writes the line followed by a line break.
+     *
+     * @param json
+     *            The JSON object without a line break.
+     * @throws UncheckedIOException
+     *             If the line can't be written.
+     */
+    void write(CharSequence json)
+    {
+        final byte[] bytes = (json + "\n").getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try
+        {
+            if (bytes.length > buffer.remaining())
+            {
+                writeBuffer();
+            }
+            if (bytes.length > buffer.capacity())
+            {
+                // Lines larger than the buffer are written directly
+                writeFully(ByteBuffer.wrap(bytes));
+            }
+            else
+            {
+                buffer.put(bytes);
+            }
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered lines to the file.
+     *
+     * @throws UncheckedIOException
+     *             If the lines can't be written.
+     */
+    void flush()
+    {
+        lock.lock();
+        try
+        {
+            writeBuffer();
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered lines and forces them to the storage device.
+     *
+     * @throws UncheckedIOException
+     *             If the lines can't be written.
+     */
+    void sync()
+    {
+        lock.lock();
+        try
+        {
+            writeBuffer();
+            channel.force(false);
+        } catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered lines and closes the file.
+     */
+    @Override
+    public void close()
+    {
+        lock.lock();
+        try
+        {
+            writeBuffer();
+        } finally
+        {
+            try
+            {
+                channel.close();
+            } catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            } finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the buffer to the channel and clears it.
+     */
+    private void writeBuffer()
+    {
+        buffer.flip();
+        try
+        {
+            writeFully(buffer);
+        } finally
+        {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Writes every remaining byte to the channel.
+     *
+     * @param bytes
+     *            The bytes to write.
+     */
+    private void writeFully(ByteBuffer bytes)
+    {
+        try
+        {
+            while (bytes.hasRemaining())
+            {
+                channel.write(bytes);
+            }
+        } catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the String as JSON string including the quotes.
+     *
+     * @param json
+     *            The JSON the string is appended to.
+     * @param value
+     *            The String to append. <code>null</code> is appended as
+     *            <code>null</code>.
+     * @return The JSON.
+     */
+    static StringBuilder appendString(StringBuilder json, String value)
+    {
+        if (value == null)
+        {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            final char current = value.charAt(i);
+            switch (current)
+            {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (current < 0x20)
+                    {
+                        json.append(String.format("\\u%04x", (int) current));
+                    }
+                    else
+                    {
+                        json.append(current);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * Returns the stack trace of the Throwable.
+     *
+     * @param throwable
+     *            The Throwable.
+     * @return The stack trace as printed by {@link Throwable#printStackTrace()}.
+     */
+    static String stackTrace(Throwable throwable)
+    {
+        final StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(stackTrace));
+        return stackTrace.toString();
+    }
+}
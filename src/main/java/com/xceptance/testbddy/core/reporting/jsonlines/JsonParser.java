@@ -0,0 +1,292 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal parser for the JSON objects written by the
+ * {@link JsonLinesReportInterface}.<br>
+ * Objects become {@link Map}s, arrays {@link List}s, numbers {@link Long}s or
+ * {@link Double}s and the literals {@link Boolean}s or <code>null</code>.
+ *
+ * @author ckeiner
+ */
+final class JsonParser
+{
+    /**
+     * The JSON to parse.
+     */
+    private final String json;
+
+    /**
+     * The position of the next character.
+     */
+    private int position;
+
+    private JsonParser(String json)
+    {
+        this.json = json;
+    }
+
+    /**
+     * Parses the JSON object.
+     *
+     * @param json
+     *            A single JSON object.
+     * @return The members of the object in their order.
+     * @throws IllegalArgumentException
+     *             If the JSON isn't a valid object.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> parseObject(String json)
+    {
+        final JsonParser parser = new JsonParser(json);
+        final Object value = parser.parseValue();
+        parser.skipWhitespace();
+        if (!(value instanceof Map) || parser.position != json.length())
+        {
+            throw parser.error("Expected a single object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * Parses the value at the current position.
+     *
+     * @return The parsed value.
+     */
+    private Object parseValue()
+    {
+        skipWhitespace();
+        if (position >= json.length())
+        {
+            throw error("Unexpected end");
+        }
+        final char current = json.charAt(position);
+        switch (current)
+        {
+            case '{':
+                return parseMembers();
+            case '[':
+                return parseElements();
+            case '"':
+                return parseString();
+            case 't':
+                return parseLiteral("true", Boolean.TRUE);
+            case 'f':
+                return parseLiteral("false", Boolean.FALSE);
+            case 'n':
+                return parseLiteral("null", null);
+            default:
+                return parseNumber();
+        }
+    }
+
+    /**
+     * Parses an object starting at the current position.
+     *
+     * @return The members of the object.
+     */
+    private Map<String, Object> parseMembers()
+    {
+        final Map<String, Object> members = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (consume('}'))
+        {
+            return members;
+        }
+        do
+        {
+            skipWhitespace();
+            if (position >= json.length() || json.charAt(position) != '"')
+            {
+                throw error("Expected a name");
+            }
+            final String name = parseString();
+            skipWhitespace();
+            if (!consume(':'))
+            {
+                throw error("Expected ':'");
+            }
+            members.put(name, parseValue());
+            skipWhitespace();
+        }
+        while (consume(','));
+        if (!consume('}'))
+        {
+            throw error("Expected '}'");
+        }
+        return members;
+    }
+
+    /**
+     * Parses an array starting at the current position.
+     *
+     * @return The elements of the array.
+     */
+    private List<Object> parseElements()
+    {
+        final List<Object> elements = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (consume(']'))
+        {
+            return elements;
+        }
+        do
+        {
+            elements.add(parseValue());
+            skipWhitespace();
+        }
+        while (consume(','));
+        if (!consume(']'))
+        {
+            throw error("Expected ']'");
+        }
+        return elements;
+    }
+
+    /**
+     * Parses a string starting at the current position.
+     *
+     * @return The unescaped string.
+     */
+    private String parseString()
+    {
+        final StringBuilder value = new StringBuilder();
+        position++;
+        while (position < json.length())
+        {
+            final char current = json.charAt(position++);
+            if (current == '"')
+            {
+                return value.toString();
+            }
+            if (current != '\\')
+            {
+                value.append(current);
+                continue;
+            }
+            if (position >= json.length())
+            {
+                break;
+            }
+            final char escaped = json.charAt(position++);
+            switch (escaped)
+            {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    if (position + 4 > json.length())
+                    {
+                        throw error("Invalid unicode escape");
+                    }
+                    value.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                    position += 4;
+                    break;
+                default:
+                    // Covers the quote, the backslash and the slash
+                    value.append(escaped);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    /**
+     * Parses the literal at the current position.
+     *
+     * @param literal
+     *            The expected literal.
+     * @param value
+     *            The value of the literal.
+     * @return The value of the literal.
+     */
+    private Object parseLiteral(String literal, Object value)
+    {
+        if (!json.startsWith(literal, position))
+        {
+            throw error("Expected " + literal);
+        }
+        position += literal.length();
+        return value;
+    }
+
+    /**
+     * Parses a number starting at the current position.
+     *
+     * @return The number as Long if it is integral, otherwise as Double.
+     */
+    private Number parseNumber()
+    {
+        final int start = position;
+        while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0)
+        {
+            position++;
+        }
+        final String number = json.substring(start, position);
+        try
+        {
+            if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0)
+            {
+                return Long.valueOf(number);
+            }
+            return Double.valueOf(number);
+        } catch (NumberFormatException e)
+        {
+            throw error("Invalid number \"" + number + "\"");
+        }
+    }
+
+    /**
+     * Skips the character if it is at the current position.
+     *
+     * @param expected
+     *            The expected character.
+     * @return True if the character was skipped, otherwise false.
+     */
+    private boolean consume(char expected)
+    {
+        if (position < json.length() && json.charAt(position) == expected)
+        {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position)))
+        {
+            position++;
+        }
+    }
+
+    /**
+     * Creates the exception for invalid JSON at the current position.
+     *
+     * @param message
+     *            Describes the problem.
+     * @return The exception to throw.
+     */
+    private IllegalArgumentException error(String message)
+    {
+        return new IllegalArgumentException(message + " at position " + position + " of " + json);
+    }
+}
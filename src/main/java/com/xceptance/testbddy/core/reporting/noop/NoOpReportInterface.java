@@ -0,0 +1,171 @@
+package com.xceptance.testbddy.core.reporting.noop;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.status.Status;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * A {@link ReportInterface} that doesn't report anything.<br>
+ * Every element is the same stateless {@link ReportElement}, whose methods are
+ * empty. Hence, the JIT compiler removes the calls entirely and the execution
+ * runs as fast as without any reporter. Descriptions supplied lazily are never
+ * computed.
+ *
+ * @author ckeiner
+ */
+public final class NoOpReportInterface implements ReportInterface
+{
+    /**
+     * The only instance.
+     */
+    private final static NoOpReportInterface INSTANCE = new NoOpReportInterface();
+
+    /**
+     * The element returned for every call.
+     */
+    private final static ReportElement ELEMENT = new NoOpReportElement();
+
+    private NoOpReportInterface()
+    {
+    }
+
+    /**
+     * Returns the instance.
+     *
+     * @return The Singleton Instance of the NoOpReportInterface.
+     */
+    public static NoOpReportInterface getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the specified reporter reports anything.<br>
+     * Thus, nothing has to be recorded or prepared for <code>null</code> and the
+     * NoOpReportInterface.
+     *
+     * @param reporter
+     *            The {@link ReportInterface} to check.
+     * @return False if the reporter is <code>null</code> or the
+     *         NoOpReportInterface, otherwise true.
+     */
+    public static boolean isReporting(ReportInterface reporter)
+    {
+        return reporter != null && reporter != INSTANCE;
+    }
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, Supplier<String> description)
+    {
+        return ELEMENT;
+    }
+
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        return this;
+    }
+
+    @Override
+    public void finishFeature()
+    {
+    }
+
+    @Override
+    public void finishReport()
+    {
+    }
+
+    /**
+     * The {@link ReportElement} of the {@link NoOpReportInterface}, which ignores
+     * every call.
+     *
+     * @author ckeiner
+     */
+    private static final class NoOpReportElement implements ReportElement
+    {
+        @Override
+        public void assignCategory(Set<Status> stati)
+        {
+        }
+
+        @Override
+        public void assignCategory(String... categories)
+        {
+        }
+
+        @Override
+        public void fail(String description)
+        {
+        }
+
+        @Override
+        public void fail(Throwable throwable)
+        {
+        }
+
+        @Override
+        public void fatal(String description)
+        {
+        }
+
+        @Override
+        public void fatal(Throwable throwable)
+        {
+        }
+
+        @Override
+        public void pass(String description)
+        {
+        }
+
+        @Override
+        public void pending(String description)
+        {
+        }
+
+        @Override
+        public void skip(String description)
+        {
+        }
+
+        @Override
+        public void skip(Throwable throwable)
+        {
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.xceptance.testbddy.core.reporting.noop;
+
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.ReportProvider;
+
+/**
+ * Provides the {@link NoOpReportInterface} with the name <code>none</code>.
+ *
+ * @author ckeiner
+ */
+public class NoOpReportProvider implements ReportProvider
+{
+    @Override
+    public String getName()
+    {
+        return "none";
+    }
+
+    @Override
+    public ReportInterface getReporter()
+    {
+        return NoOpReportInterface.getInstance();
+    }
+}
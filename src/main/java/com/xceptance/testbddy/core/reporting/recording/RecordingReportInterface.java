@@ -0,0 +1,258 @@
+package com.xceptance.testbddy.core.reporting.recording;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * A {@link ReportInterface} that doesn't report anything itself, but records every call made to it and to its
+ * {@link ReportElement}s.<br>
+ * The recorded calls can be replayed to another ReportInterface with {@link #replay(ReportInterface)}. Thus, a BDD
+ * component can be executed on any thread, while the actual report is still built on a single thread and in a defined
+ * order.<br>
+ * A recorder must only be used by one thread at a time. This includes the recorders returned by
+ * {@link #withParent(ReportElement)}, since they share the recorded calls with the recorder they were created by.
+ * 
+ * @author ckeiner
+ */
+public class RecordingReportInterface implements ReportInterface
+{
+    /**
+     * The recorded calls in the order they were made.
+     */
+    private final List<Consumer<ReportInterface>> events;
+
+    /**
+     * The recorded element new elements are created beneath. <code>null</code> if they are created beneath the
+     * reporter of the replay.
+     */
+    private final RecordedElement parent;
+
+    /**
+     * Creates a new, empty recorder.
+     */
+    public RecordingReportInterface()
+    {
+        this(new ArrayList<>(), null);
+    }
+
+    /**
+     * Creates a recorder that adds its calls to the specified list and creates its elements beneath the parent.
+     * 
+     * @param events
+     *            The list the calls are recorded to.
+     * @param parent
+     *            The recorded element new elements are created beneath.
+     */
+    private RecordingReportInterface(List<Consumer<ReportInterface>> events, RecordedElement parent)
+    {
+        this.events = events;
+        this.parent = parent;
+    }
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).feature(description)));
+        return element;
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).scenario(description)));
+        return element;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).scenarioOutline(description, testdata)));
+        return element;
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).scenarioOutline(description)));
+        return element;
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).step(keyword, description)));
+        return element;
+    }
+
+    /**
+     * Records the step with its supplier instead of the description.<br>
+     * Thus, the description is only computed if the recording is replayed and the reporter of the replay needs it.
+     */
+    @Override
+    public ReportElement step(GherkinKeyword keyword, Supplier<String> description)
+    {
+        RecordedElement element = new RecordedElement();
+        events.add(reporter -> element.setTarget(scope(reporter).step(keyword, description)));
+        return element;
+    }
+
+    @Override
+    public ReportInterface withParent(ReportElement parent)
+    {
+        if (parent instanceof RecordedElement)
+        {
+            return new RecordingReportInterface(events, (RecordedElement) parent);
+        }
+        return this.parent == null ? this : new RecordingReportInterface(events, null);
+    }
+
+    @Override
+    public void finishFeature()
+    {
+        events.add(ReportInterface::finishFeature);
+    }
+
+    @Override
+    public void finishReport()
+    {
+        events.add(ReportInterface::finishReport);
+    }
+
+    /**
+     * Replays every recorded call to the specified reporter in the order they were recorded.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} that should receive the recorded calls.
+     */
+    public void replay(ReportInterface reporter)
+    {
+        for (Consumer<ReportInterface> event : events)
+        {
+            event.accept(reporter);
+        }
+    }
+
+    /**
+     * Returns the reporter of the replay that is responsible for new elements of this recorder.
+     * 
+     * @param reporter
+     *            The {@link ReportInterface} that receives the recorded calls.
+     * @return The reporter scoped to the target of the {@link #parent}.
+     */
+    private ReportInterface scope(ReportInterface reporter)
+    {
+        return parent == null ? reporter : reporter.withParent(parent.target);
+    }
+
+    /**
+     * Whether any call was recorded.
+     * 
+     * @return True if nothing was recorded, otherwise false.
+     */
+    public boolean isEmpty()
+    {
+        return events.isEmpty();
+    }
+
+    /**
+     * The {@link ReportElement} handed out by the {@link RecordingReportInterface}.<br>
+     * It records every call and applies it to the element created during the replay.
+     * 
+     * @author ckeiner
+     */
+    private class RecordedElement implements ReportElement
+    {
+        /**
+         * The element created by the replay.
+         */
+        private ReportElement target;
+
+        private void setTarget(ReportElement target)
+        {
+            this.target = target;
+        }
+
+        /**
+         * Records the action, which is executed on the target during the replay.
+         * 
+         * @param action
+         *            The action to record.
+         */
+        private void record(Consumer<ReportElement> action)
+        {
+            events.add(reporter ->
+                {
+                    // The target can be null, if the reporter didn't create an element
+                    if (target != null)
+                    {
+                        action.accept(target);
+                    }
+                });
+        }
+
+        @Override
+        public void assignCategory(String... categories)
+        {
+            record(element -> element.assignCategory(categories));
+        }
+
+        @Override
+        public void fail(String description)
+        {
+            record(element -> element.fail(description));
+        }
+
+        @Override
+        public void fail(Throwable throwable)
+        {
+            record(element -> element.fail(throwable));
+        }
+
+        @Override
+        public void fatal(String description)
+        {
+            record(element -> element.fatal(description));
+        }
+
+        @Override
+        public void fatal(Throwable throwable)
+        {
+            record(element -> element.fatal(throwable));
+        }
+
+        @Override
+        public void pass(String description)
+        {
+            record(element -> element.pass(description));
+        }
+
+        @Override
+        public void pending(String description)
+        {
+            record(element -> element.pending(description));
+        }
+
+        @Override
+        public void skip(String description)
+        {
+            record(element -> element.skip(description));
+        }
+
+        @Override
+        public void skip(Throwable throwable)
+        {
+            record(element -> element.skip(throwable));
+        }
+    }
+}
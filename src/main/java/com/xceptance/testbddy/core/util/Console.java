@@ -0,0 +1,51 @@
+package com.xceptance.testbddy.core.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether features, scenarios, outline rows and steps print their
+ * progress to the console.<br>
+ * Load tests execute the same scenarios over and over again on many threads.
+ * Printing each execution would only flood the console and make the threads
+ * contend for {@link System#out}. Hence, load tests mute the console while they
+ * run. Like the listeners of a load test, muting applies to all threads.
+ *
+ * @author ckeiner
+ */
+public final class Console
+{
+    /**
+     * The number of callers that currently mute the console.
+     */
+    private final static AtomicInteger MUTED = new AtomicInteger();
+
+    private Console()
+    {
+    }
+
+    /**
+     * Whether the progress should be printed.
+     *
+     * @return True if nobody mutes the console, otherwise false.
+     */
+    public static boolean isEnabled()
+    {
+        return MUTED.get() == 0;
+    }
+
+    /**
+     * Mutes the console until {@link #unmute()} is called as often as this.
+     */
+    public static void mute()
+    {
+        MUTED.incrementAndGet();
+    }
+
+    /**
+     * Lifts one {@link #mute()}.
+     */
+    public static void unmute()
+    {
+        MUTED.decrementAndGet();
+    }
+}
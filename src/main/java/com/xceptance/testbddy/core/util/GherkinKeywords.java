@@ -0,0 +1,84 @@
+package com.xceptance.testbddy.core.util;
+
+import java.lang.reflect.Field;
+
+import com.aventstack.extentreports.GherkinKeyword;
+
+/**
+ * Provides the name of a {@link GherkinKeyword}, which ExtentReports doesn't
+ * expose.
+ *
+ * @author ckeiner
+ */
+public final class GherkinKeywords
+{
+    /**
+     * The field of {@link GherkinKeyword} holding the model of the keyword.
+     * <code>null</code> if it isn't accessible.
+     */
+    private final static Field KEYWORD_FIELD = keywordField();
+
+    private GherkinKeywords()
+    {
+    }
+
+    /**
+     * Returns the name of the keyword, for example <code>Given</code>.
+     *
+     * @param keyword
+     *            The {@link GherkinKeyword}.
+     * @return The name of the keyword or <code>null</code> if it is unknown.
+     */
+    public static String getName(GherkinKeyword keyword)
+    {
+        if (keyword == null || KEYWORD_FIELD == null)
+        {
+            return null;
+        }
+        try
+        {
+            // The class of the model is named after the keyword
+            final Object model = KEYWORD_FIELD.get(keyword);
+            return model != null ? model.getClass().getSimpleName() : null;
+        } catch (IllegalAccessException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the name of a step definition, that is its keyword followed by its
+     * description, for example <code>Given a user &lt;name&gt;</code>.
+     *
+     * @param keyword
+     *            The {@link GherkinKeyword} of the step.
+     * @param description
+     *            The description of the step.
+     * @return The name of the step definition, only the description if the
+     *         keyword is unknown.
+     */
+    public static String getStepName(GherkinKeyword keyword, String description)
+    {
+        final String name = getName(keyword);
+        return name != null ? name + " " + description : description;
+    }
+
+    /**
+     * Looks up the field of {@link GherkinKeyword} holding the model of the
+     * keyword, since ExtentReports doesn't expose its name.
+     *
+     * @return The accessible field or <code>null</code> if it doesn't exist.
+     */
+    private static Field keywordField()
+    {
+        try
+        {
+            final Field field = GherkinKeyword.class.getDeclaredField("keywordClazz");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+}
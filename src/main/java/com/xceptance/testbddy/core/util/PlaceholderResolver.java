@@ -1,13 +1,26 @@
 package com.xceptance.testbddy.core.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.UnaryOperator;
 
 import bsh.EvalError;
 import bsh.Interpreter;
 
 /**
- * Resolves any placeholder by using beanshell.
+ * Resolves any placeholder of a description with a test datum.<br>
+ * Placeholders that are a {@link PropertyPath}, like
+ * <code>&lt;data.getSteps().get(0).description&gt;</code>, are evaluated with
+ * cached method handles. Other expressions are only evaluated by beanshell, if
+ * the fallback is enabled with the system property
+ * {@value #BEANSHELL_FALLBACK_PROPERTY}.<br>
+ * Each beanshell evaluation uses its own interpreter from a pool, so
+ * placeholders can be resolved by several threads at the same time without
+ * locking.<br>
+ * Descriptions are parsed only once into a {@link PlaceholderTemplate}, which is
+ * cached and rendered for every test datum.
  * 
  * @author ckeiner
  *
@@ -18,9 +31,29 @@ import bsh.Interpreter;
 public class PlaceholderResolver<T>
 {
     /**
-     * The beanshell interpreter
+     * The idle beanshell interpreters.<br>
+     * A resolution takes an interpreter out of the pool and returns it afterwards.
+     * Hence, no interpreter is used by two threads at the same time, and the pool
+     * only grows up to the number of concurrent resolutions.
      */
-    public final static Interpreter interpreter = new Interpreter();
+    private final static Queue<Interpreter> INTERPRETERS = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The system property that enables beanshell for placeholders that aren't a
+     * {@link PropertyPath} or can't be evaluated as one.
+     */
+    public final static String BEANSHELL_FALLBACK_PROPERTY = "testbddy.placeholder.beanshell";
+
+    /**
+     * The maximum number of cached templates. Once reached, further descriptions
+     * are parsed on every resolution.
+     */
+    public final static int MAX_CACHED_TEMPLATES = 10_000;
+
+    /**
+     * The parsed templates by their description.
+     */
+    private final static Map<String, PlaceholderTemplate> TEMPLATES = new ConcurrentHashMap<>();
 
     /**
      * The String with which placeholders start
@@ -37,6 +70,32 @@ public class PlaceholderResolver<T>
      */
     public final static String ENCLOSE_END = ">";
 
+    /**
+     * Whether beanshell evaluates placeholders that aren't a {@link PropertyPath}.
+     */
+    private final boolean beanShellFallback;
+
+    /**
+     * Creates a resolver that only uses beanshell if the system property
+     * {@value #BEANSHELL_FALLBACK_PROPERTY} is <code>true</code>.
+     */
+    public PlaceholderResolver()
+    {
+        this(Boolean.getBoolean(BEANSHELL_FALLBACK_PROPERTY));
+    }
+
+    /**
+     * Creates a resolver.
+     * 
+     * @param beanShellFallback
+     *            Whether beanshell evaluates placeholders that aren't a
+     *            {@link PropertyPath}.
+     */
+    public PlaceholderResolver(final boolean beanShellFallback)
+    {
+        this.beanShellFallback = beanShellFallback;
+    }
+
     /**
      * Resolves any placeholder thats enclosed by {@link #ENCLOSE_START} and
      * {@link #ENCLOSE_END}.
@@ -51,56 +110,81 @@ public class PlaceholderResolver<T>
      */
     public String resolvePlaceholders(final String description, final T testdata)
     {
-        setInterpreterToData(testdata);
-        // Set the current description as output
-        String output = description;
-        // Search for any matches in the description
-        Matcher matcher = Pattern.compile(ENCLOSE_START + ".*?" + ENCLOSE_END).matcher(description);
-        // For each match
-        while (matcher.find())
+        final PlaceholderTemplate template = getTemplate(description);
+        // Without placeholders, there is nothing to evaluate
+        if (!template.hasPlaceholders())
         {
-            // Remove the enclosing characters
-            String match = matcher.group().replaceAll(ENCLOSE_START, "").replaceAll(ENCLOSE_END, "");
-            // Resolve the found placeholder
-            String resolvedValue = resolvePlaceholder(match);
-            // Replace the old value with the resolved one
-            output = output.replace(ENCLOSE_START + match + ENCLOSE_END, resolvedValue);
+            return description;
         }
-        // Return the resolved value
-        return output;
+        final Evaluation evaluation = new Evaluation(testdata);
+        try
+        {
+            // Replace every placeholder with its resolved value
+            return template.render(evaluation);
+        } finally
+        {
+            evaluation.release();
+        }
+    }
+
+    /**
+     * Returns the cached template of the description or parses it if it isn't
+     * cached yet.
+     * 
+     * @param description
+     *            The description to get the template for.
+     * @return The {@link PlaceholderTemplate} of the description.
+     */
+    public static PlaceholderTemplate getTemplate(final String description)
+    {
+        PlaceholderTemplate template = TEMPLATES.get(description);
+        if (template == null)
+        {
+            template = PlaceholderTemplate.compile(description);
+            // Only cache a limited number of descriptions
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES)
+            {
+                TEMPLATES.putIfAbsent(description, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Takes an idle interpreter out of the pool or creates a new one if none is
+     * idle.
+     * 
+     * @return An interpreter that is not used by any other thread.
+     */
+    private Interpreter acquireInterpreter()
+    {
+        final Interpreter interpreter = INTERPRETERS.poll();
+        return interpreter != null ? interpreter : new Interpreter();
     }
 
     /**
-     * Resolves the placeholder by asking the testdata object for it.
+     * Converts the value of the placeholder into the String it is replaced with.
      * 
      * @param placeholder
      *            The placeholder without the enclosing characters.
-     * @return A String where the placeholders are resolved if a field or method
-     *         like that is found. <br>
-     *         If none is found, the placeholder is returned with its enclosing
-     *         characters again.
+     * @param value
+     *            The value of the placeholder.
+     * @return The String value of the value.<br>
+     *         If the value is <code>null</code>, the placeholder itself.<br>
+     *         If the String value is empty, the placeholder with its enclosing
+     *         characters.
      */
-    private String resolvePlaceholder(final String placeholder)
+    private String toResolvedValue(final String placeholder, final Object value)
     {
         // Set the resolvedValue to the current placeholder
         String resolvedValue = placeholder;
-        try
-        {
-            // Resolve the placeholder
-            Object value = interpreter.eval(resolvedValue);
-            // If we found something
-            if (value != null)
-            {
-                // Set the output to the string value of it
-                resolvedValue = value.toString();
-            }
-        } catch (EvalError e)
+        // If we found something
+        if (value != null)
         {
-            // Since this is an optional component, simply print the Stack Trace in case of
-            // an error
-            e.printStackTrace();
+            // Set the output to the string value of it
+            resolvedValue = value.toString();
         }
-        // If we didn't find anything or it was resolved to nothing
+        // If it was resolved to nothing
         if (resolvedValue == null || resolvedValue.isEmpty())
         {
             // Place the enclosing characters around the placeholder
@@ -113,10 +197,12 @@ public class PlaceholderResolver<T>
     /**
      * Registers the test datum at the interpreter
      * 
+     * @param interpreter
+     *            The interpreter the test datum is registered at.
      * @param testdatum
      *            The test datum that should be registered at the interpreter
      */
-    private void setInterpreterToData(T testdatum)
+    private void setInterpreterToData(Interpreter interpreter, T testdatum)
     {
         try
         {
@@ -127,4 +213,90 @@ public class PlaceholderResolver<T>
         }
     }
 
+    /**
+     * Resolves the placeholders of a single description with a test datum.<br>
+     * An interpreter is only borrowed from the pool, once a placeholder needs
+     * beanshell.
+     * 
+     * @author ckeiner
+     */
+    private final class Evaluation implements UnaryOperator<String>
+    {
+        /**
+         * The test datum the placeholders are resolved with.
+         */
+        private final T testdata;
+
+        /**
+         * The borrowed interpreter. <code>null</code> if none was needed yet.
+         */
+        private Interpreter interpreter;
+
+        private Evaluation(final T testdata)
+        {
+            this.testdata = testdata;
+        }
+
+        @Override
+        public String apply(final String placeholder)
+        {
+            final PropertyPath path = PropertyPath.compile(placeholder);
+            if (path != null)
+            {
+                try
+                {
+                    return toResolvedValue(placeholder, path.evaluate(testdata));
+                } catch (IllegalArgumentException e)
+                {
+                    // The path doesn't fit the test datum, let beanshell try if enabled
+                }
+            }
+            return beanShellFallback ? evaluateWithBeanShell(placeholder) : placeholder;
+        }
+
+        /**
+         * Resolves the placeholder by asking beanshell for it.
+         * 
+         * @param placeholder
+         *            The placeholder without the enclosing characters.
+         * @return The resolved value as described in
+         *         {@link PlaceholderResolver#toResolvedValue(String, Object)}. If
+         *         beanshell fails, the placeholder itself.
+         */
+        private String evaluateWithBeanShell(final String placeholder)
+        {
+            if (interpreter == null)
+            {
+                // Borrow an interpreter only this thread uses
+                interpreter = acquireInterpreter();
+                setInterpreterToData(interpreter, testdata);
+            }
+            try
+            {
+                // Resolve the placeholder
+                return toResolvedValue(placeholder, interpreter.eval(placeholder));
+            } catch (EvalError e)
+            {
+                // Since this is an optional component, simply print the Stack Trace in case of
+                // an error
+                e.printStackTrace();
+                return placeholder;
+            }
+        }
+
+        /**
+         * Returns the borrowed interpreter to the pool.
+         */
+        private void release()
+        {
+            if (interpreter != null)
+            {
+                // Don't keep the test datum alive and return the interpreter
+                setInterpreterToData(interpreter, null);
+                INTERPRETERS.offer(interpreter);
+                interpreter = null;
+            }
+        }
+    }
+
 }
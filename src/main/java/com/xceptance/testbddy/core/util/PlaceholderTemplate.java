@@ -0,0 +1,133 @@
+package com.xceptance.testbddy.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A description that is split into literal text and the expressions of its
+ * placeholders.<br>
+ * A template is immutable. Thus, a description only has to be parsed once and
+ * the template can be rendered by several threads at the same time.
+ * 
+ * @author ckeiner
+ */
+public final class PlaceholderTemplate
+{
+    /**
+     * The literal text of the description. The expression with the same index is
+     * placed after the literal with that index.<br>
+     * There is always one literal more than there are expressions.
+     */
+    private final String[] literals;
+
+    /**
+     * The expressions of the placeholders without the enclosing characters.
+     */
+    private final String[] expressions;
+
+    /**
+     * The length of all literals together.
+     */
+    private final int literalLength;
+
+    /**
+     * Creates a template out of the specified literals and expressions.
+     * 
+     * @param literals
+     *            The literal text of the description.
+     * @param expressions
+     *            The expressions of the placeholders.
+     */
+    private PlaceholderTemplate(final String[] literals, final String[] expressions)
+    {
+        this.literals = literals;
+        this.expressions = expressions;
+        int length = 0;
+        for (String literal : literals)
+        {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses the specified description into a template.<br>
+     * A placeholder starts with {@link PlaceholderResolver#ENCLOSE_START} and ends
+     * with the next {@link PlaceholderResolver#ENCLOSE_END}. Any further
+     * {@link PlaceholderResolver#ENCLOSE_START} within a placeholder is not part of
+     * its expression.
+     * 
+     * @param description
+     *            The description to parse.
+     * @return The template of the description.
+     */
+    public static PlaceholderTemplate compile(final String description)
+    {
+        final List<String> literals = new ArrayList<>();
+        final List<String> expressions = new ArrayList<>();
+        int literalStart = 0;
+        int start = description.indexOf(PlaceholderResolver.ENCLOSE_START);
+        while (start >= 0)
+        {
+            final int end = description.indexOf(PlaceholderResolver.ENCLOSE_END,
+                    start + PlaceholderResolver.ENCLOSE_START.length());
+            // An unclosed placeholder is literal text
+            if (end < 0)
+            {
+                break;
+            }
+            literals.add(description.substring(literalStart, start));
+            expressions.add(description.substring(start + PlaceholderResolver.ENCLOSE_START.length(), end)
+                                       .replace(PlaceholderResolver.ENCLOSE_START, ""));
+            literalStart = end + PlaceholderResolver.ENCLOSE_END.length();
+            start = description.indexOf(PlaceholderResolver.ENCLOSE_START, literalStart);
+        }
+        literals.add(description.substring(literalStart));
+        return new PlaceholderTemplate(literals.toArray(new String[literals.size()]),
+                expressions.toArray(new String[expressions.size()]));
+    }
+
+    /**
+     * Whether the description contains any placeholder.
+     * 
+     * @return True if there is at least one placeholder, otherwise false.
+     */
+    public boolean hasPlaceholders()
+    {
+        return expressions.length > 0;
+    }
+
+    /**
+     * Renders the template in a single pass. Each placeholder is replaced by the
+     * value the evaluator returns for its expression.
+     * 
+     * @param evaluator
+     *            Resolves the expression of a placeholder to its value.
+     * @return The rendered description.
+     */
+    public String render(final UnaryOperator<String> evaluator)
+    {
+        if (!hasPlaceholders())
+        {
+            return literals[0];
+        }
+        final StringBuilder builder = new StringBuilder(literalLength + 16 * expressions.length);
+        for (int i = 0; i < expressions.length; i++)
+        {
+            builder.append(literals[i]).append(evaluator.apply(expressions[i]));
+        }
+        return builder.append(literals[expressions.length]).toString();
+    }
+
+    /**
+     * Returns the expressions of the placeholders in the order they appear.
+     * 
+     * @return A copy of the expressions.
+     */
+    public String[] getExpressions()
+    {
+        return expressions.clone();
+    }
+
+}
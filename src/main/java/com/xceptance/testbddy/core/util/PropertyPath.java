@@ -0,0 +1,560 @@
+package com.xceptance.testbddy.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled property path like <code>data.getSteps().get(0).description</code>,
+ * which is evaluated against a test datum without an interpreter.<br>
+ * A path starts with {@link PlaceholderResolver#DEFINITION_START} and is
+ * followed by any number of the following segments:
+ * <ul>
+ * <li><code>.name</code>: The public field <code>name</code>, the getter
+ * <code>getName()</code> or <code>isName()</code>, the method
+ * <code>name()</code> or the value of the key <code>name</code> in a map.</li>
+ * <li><code>.name()</code>: The method without parameters.</li>
+ * <li><code>.name(literal)</code>: The method with one parameter, which is an
+ * integer or a quoted String, e.g. <code>get(0)</code>.</li>
+ * <li><code>[index]</code> or <code>["key"]</code>: An element of an array or
+ * list or the value of a key in a map.</li>
+ * </ul>
+ * Every segment is linked to a {@link MethodHandle} for the class of the value
+ * it is applied to. These handles are cached per class, so evaluating a path
+ * again only invokes the cached handles.
+ *
+ * @author ckeiner
+ */
+public final class PropertyPath
+{
+    /**
+     * The maximum number of cached paths.
+     */
+    private final static int MAX_CACHED_PATHS = 10_000;
+
+    /**
+     * Marks an expression that isn't a property path.
+     */
+    private final static PropertyPath NO_PATH = new PropertyPath(new Segment[0]);
+
+    /**
+     * The compiled paths by their expression.
+     */
+    private final static Map<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a segment that can't be applied to a class.
+     */
+    private final static MethodHandle UNRESOLVABLE = MethodHandles.constant(Object.class, null);
+
+    /**
+     * The linked handles of each class by the key of the segment.
+     */
+    private final static ClassValue<Map<String, MethodHandle>> HANDLES = new ClassValue<Map<String, MethodHandle>>()
+        {
+            @Override
+            protected Map<String, MethodHandle> computeValue(Class<?> type)
+            {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * The type every linked handle is adapted to.
+     */
+    private final static MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * The segments of the path after {@link PlaceholderResolver#DEFINITION_START}.
+     */
+    private final Segment[] segments;
+
+    /**
+     * Creates a path out of the specified segments.
+     *
+     * @param segments
+     *            The segments of the path.
+     */
+    private PropertyPath(final Segment[] segments)
+    {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the compiled path of the specified expression.
+     *
+     * @param expression
+     *            The expression of a placeholder.
+     * @return The PropertyPath of the expression or <code>null</code> if the
+     *         expression isn't a property path.
+     */
+    public static PropertyPath compile(final String expression)
+    {
+        PropertyPath path = PATHS.get(expression);
+        if (path == null)
+        {
+            path = parse(expression.trim());
+            if (path == null)
+            {
+                path = NO_PATH;
+            }
+            // Only cache a limited number of expressions
+            if (PATHS.size() < MAX_CACHED_PATHS)
+            {
+                PATHS.putIfAbsent(expression, path);
+            }
+        }
+        return path == NO_PATH ? null : path;
+    }
+
+    /**
+     * Evaluates the path against the specified test datum.
+     *
+     * @param testdatum
+     *            The test datum the path starts at.
+     * @return The value of the path. <code>null</code> if any value on the path
+     *         is <code>null</code>.
+     * @throws IllegalArgumentException
+     *             If a segment can't be applied to a value or its evaluation
+     *             threw a throwable.
+     */
+    public Object evaluate(final Object testdatum)
+    {
+        Object value = testdatum;
+        for (Segment segment : segments)
+        {
+            if (value == null)
+            {
+                return null;
+            }
+            final MethodHandle handle = segment.handleFor(value.getClass());
+            if (handle == UNRESOLVABLE)
+            {
+                throw new IllegalArgumentException(segment + " can't be applied to " + value.getClass().getName());
+            }
+            try
+            {
+                value = (Object) handle.invokeExact(value);
+            } catch (Throwable t)
+            {
+                throw new IllegalArgumentException(segment + " failed for " + value.getClass().getName(), t);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Parses the expression into a path.
+     *
+     * @param expression
+     *            The trimmed expression.
+     * @return The parsed PropertyPath or <code>null</code> if the expression
+     *         isn't a property path.
+     */
+    private static PropertyPath parse(final String expression)
+    {
+        if (!expression.startsWith(PlaceholderResolver.DEFINITION_START))
+        {
+            return null;
+        }
+        final List<Segment> segments = new ArrayList<>();
+        int position = PlaceholderResolver.DEFINITION_START.length();
+        final int length = expression.length();
+        while (position < length)
+        {
+            final char current = expression.charAt(position);
+            if (current == '.')
+            {
+                // Read the name of the member
+                final int nameStart = ++position;
+                while (position < length && Character.isJavaIdentifierPart(expression.charAt(position)))
+                {
+                    position++;
+                }
+                if (position == nameStart || !Character.isJavaIdentifierStart(expression.charAt(nameStart)))
+                {
+                    return null;
+                }
+                final String name = expression.substring(nameStart, position);
+                // A method call
+                if (position < length && expression.charAt(position) == '(')
+                {
+                    final int close = expression.indexOf(')', position);
+                    if (close < 0)
+                    {
+                        return null;
+                    }
+                    final String argument = expression.substring(position + 1, close).trim();
+                    if (argument.isEmpty())
+                    {
+                        segments.add(new Segment(Kind.METHOD, name, null));
+                    }
+                    else
+                    {
+                        final Object literal = parseLiteral(argument);
+                        if (literal == null)
+                        {
+                            return null;
+                        }
+                        segments.add(new Segment(Kind.METHOD, name, literal));
+                    }
+                    position = close + 1;
+                }
+                else
+                {
+                    segments.add(new Segment(Kind.PROPERTY, name, null));
+                }
+            }
+            else if (current == '[')
+            {
+                final int close = expression.indexOf(']', position);
+                if (close < 0)
+                {
+                    return null;
+                }
+                final Object literal = parseLiteral(expression.substring(position + 1, close).trim());
+                if (literal == null)
+                {
+                    return null;
+                }
+                segments.add(new Segment(Kind.INDEX, null, literal));
+                position = close + 1;
+            }
+            else
+            {
+                // Anything else is an arbitrary expression
+                return null;
+            }
+        }
+        return new PropertyPath(segments.toArray(new Segment[segments.size()]));
+    }
+
+    /**
+     * Parses an integer or a String enclosed by double quotes.
+     *
+     * @param literal
+     *            The literal to parse.
+     * @return The Integer or String. <code>null</code> if it is neither.
+     */
+    private static Object parseLiteral(final String literal)
+    {
+        if (literal.length() >= 2 && literal.startsWith("\"") && literal.endsWith("\""))
+        {
+            final String value = literal.substring(1, literal.length() - 1);
+            // Escaped characters aren't supported
+            return value.indexOf('"') < 0 && value.indexOf('\\') < 0 ? value : null;
+        }
+        try
+        {
+            return Integer.valueOf(literal);
+        } catch (NumberFormatException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * The kinds of segments.
+     *
+     * @author ckeiner
+     */
+    private enum Kind
+    {
+        PROPERTY, METHOD, INDEX
+    }
+
+    /**
+     * A single segment of a path.
+     *
+     * @author ckeiner
+     */
+    private static final class Segment
+    {
+        /**
+         * The kind of the segment.
+         */
+        private final Kind kind;
+
+        /**
+         * The name of the member. <code>null</code> for an index.
+         */
+        private final String name;
+
+        /**
+         * The argument of a method or the index. Either an Integer, a String or
+         * <code>null</code>.
+         */
+        private final Object argument;
+
+        /**
+         * The key of the segment in the handle cache of a class.
+         */
+        private final String key;
+
+        private Segment(final Kind kind, final String name, final Object argument)
+        {
+            this.kind = kind;
+            this.name = name;
+            this.argument = argument;
+            this.key = kind + ":" + name + ":" + (argument == null ? "" : argument.getClass().getSimpleName() + argument);
+        }
+
+        /**
+         * Returns the handle that applies this segment to a value of the specified
+         * class.
+         *
+         * @param type
+         *            The class of the value.
+         * @return The handle or {@link PropertyPath#UNRESOLVABLE}.
+         */
+        private MethodHandle handleFor(final Class<?> type)
+        {
+            final Map<String, MethodHandle> handles = HANDLES.get(type);
+            MethodHandle handle = handles.get(key);
+            if (handle == null)
+            {
+                handle = link(type);
+                handles.putIfAbsent(key, handle);
+            }
+            return handle;
+        }
+
+        /**
+         * Links this segment for the specified class.
+         *
+         * @param type
+         *            The class of the value.
+         * @return The handle or {@link PropertyPath#UNRESOLVABLE}.
+         */
+        private MethodHandle link(final Class<?> type)
+        {
+            MethodHandle handle = null;
+            try
+            {
+                switch (kind)
+                {
+                    case PROPERTY:
+                        handle = linkProperty(type);
+                        break;
+                    case METHOD:
+                        handle = argument == null ? linkMethod(type, name) : linkMethod(type, name, argument);
+                        break;
+                    case INDEX:
+                        handle = linkIndex(type);
+                        break;
+                }
+            } catch (ReflectiveOperationException | RuntimeException e)
+            {
+                handle = null;
+            }
+            return handle != null ? handle.asType(GETTER_TYPE) : UNRESOLVABLE;
+        }
+
+        private MethodHandle linkProperty(final Class<?> type) throws ReflectiveOperationException
+        {
+            final String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            MethodHandle handle = linkField(type);
+            if (handle == null)
+            {
+                handle = linkMethod(type, "get" + capitalized);
+            }
+            if (handle == null)
+            {
+                handle = linkMethod(type, "is" + capitalized);
+            }
+            if (handle == null)
+            {
+                handle = linkMethod(type, name);
+            }
+            if (handle == null && Map.class.isAssignableFrom(type))
+            {
+                handle = linkMethod(type, "get", name);
+            }
+            if (handle == null && type.isArray() && "length".equals(name))
+            {
+                handle = MethodHandles.publicLookup().findStatic(Array.class, "getLength",
+                        MethodType.methodType(int.class, Object.class));
+            }
+            return handle;
+        }
+
+        private MethodHandle linkIndex(final Class<?> type) throws ReflectiveOperationException
+        {
+            if (type.isArray() && argument instanceof Integer)
+            {
+                return MethodHandles.insertArguments(MethodHandles.arrayElementGetter(type), 1, argument);
+            }
+            return linkMethod(type, "get", argument);
+        }
+
+        private MethodHandle linkField(final Class<?> type) throws IllegalAccessException
+        {
+            for (Class<?> current = type; current != null; current = current.getSuperclass())
+            {
+                try
+                {
+                    final Field field = current.getDeclaredField(name);
+                    if (!Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers()))
+                    {
+                        field.setAccessible(true);
+                        return MethodHandles.lookup().unreflectGetter(field);
+                    }
+                } catch (NoSuchFieldException e)
+                {
+                    // Look at the super class
+                }
+            }
+            return null;
+        }
+
+        private MethodHandle linkMethod(final Class<?> type, final String methodName) throws IllegalAccessException
+        {
+            try
+            {
+                final Method method = type.getMethod(methodName);
+                if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers()))
+                {
+                    return null;
+                }
+                return unreflect(method);
+            } catch (NoSuchMethodException e)
+            {
+                return null;
+            }
+        }
+
+        private MethodHandle linkMethod(final Class<?> type, final String methodName, final Object value)
+                throws IllegalAccessException
+        {
+            // Prefer the most specific parameter type
+            Method match = null;
+            int matchRank = Integer.MAX_VALUE;
+            for (Method method : type.getMethods())
+            {
+                if (method.getName().equals(methodName) && method.getParameterCount() == 1
+                        && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers()))
+                {
+                    final int rank = rank(method.getParameterTypes()[0], value);
+                    if (rank < matchRank)
+                    {
+                        match = method;
+                        matchRank = rank;
+                    }
+                }
+            }
+            if (match == null)
+            {
+                return null;
+            }
+            final Class<?> parameter = match.getParameterTypes()[0];
+            final Object converted = parameter == long.class || parameter == Long.class
+                    ? Long.valueOf(((Integer) value).longValue()) : value;
+            return MethodHandles.insertArguments(unreflect(match), 1, converted);
+        }
+
+        /**
+         * Ranks how well the parameter type fits the value. The lower, the better.
+         *
+         * @param parameter
+         *            The type of the parameter.
+         * @param value
+         *            The value for the parameter.
+         * @return The rank or {@link Integer#MAX_VALUE} if it doesn't fit.
+         */
+        private int rank(final Class<?> parameter, final Object value)
+        {
+            if (value instanceof Integer)
+            {
+                if (parameter == int.class || parameter == Integer.class)
+                {
+                    return 0;
+                }
+                if (parameter == long.class || parameter == Long.class)
+                {
+                    return 1;
+                }
+            }
+            else if (parameter == String.class)
+            {
+                return 0;
+            }
+            else if (parameter == CharSequence.class)
+            {
+                return 1;
+            }
+            return parameter == Object.class ? 2 : Integer.MAX_VALUE;
+        }
+
+        /**
+         * Creates a handle for the public method. Since the class declaring the
+         * method might not be accessible, the method is searched in its public
+         * super classes and interfaces first.
+         *
+         * @param method
+         *            The public method.
+         * @return The handle of the method.
+         * @throws IllegalAccessException
+         *             If the method isn't accessible.
+         */
+        private MethodHandle unreflect(final Method method) throws IllegalAccessException
+        {
+            final Method accessible = findAccessible(method.getDeclaringClass(), method);
+            if (accessible != null)
+            {
+                return MethodHandles.publicLookup().unreflect(accessible);
+            }
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        }
+
+        private Method findAccessible(final Class<?> type, final Method method)
+        {
+            if (type == null)
+            {
+                return null;
+            }
+            if (Modifier.isPublic(type.getModifiers()))
+            {
+                try
+                {
+                    return type.getMethod(method.getName(), method.getParameterTypes());
+                } catch (NoSuchMethodException e)
+                {
+                    // Not declared here
+                }
+            }
+            for (Class<?> implemented : type.getInterfaces())
+            {
+                final Method accessible = findAccessible(implemented, method);
+                if (accessible != null)
+                {
+                    return accessible;
+                }
+            }
+            return findAccessible(type.getSuperclass(), method);
+        }
+
+        @Override
+        public String toString()
+        {
+            switch (kind)
+            {
+                case METHOD:
+                    return "." + name + "(" + (argument == null ? "" : argument) + ")";
+                case INDEX:
+                    return "[" + argument + "]";
+                default:
+                    return "." + name;
+            }
+        }
+    }
+
+}
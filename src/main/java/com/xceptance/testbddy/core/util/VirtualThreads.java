@@ -0,0 +1,190 @@
+package com.xceptance.testbddy.core.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates executors that run each task on its own virtual thread.<br>
+ * Virtual threads are only available since Java 21, while the baseline of
+ * testbddy is Java 8. Hence, they are created via reflection. On older JVMs,
+ * each task runs on its own platform thread instead. Since each of them is an
+ * operating system thread, callers have to limit the number of concurrent tasks
+ * much more than for virtual threads.
+ *
+ * @author ckeiner
+ */
+public final class VirtualThreads
+{
+    /**
+     * <code>Thread.ofVirtual()</code> or <code>null</code> if virtual threads
+     * aren't available.
+     */
+    private final static Method OF_VIRTUAL = method(Thread.class, "ofVirtual");
+
+    /**
+     * <code>Thread.Builder.name(String, long)</code>.
+     */
+    private final static Method NAME = method("java.lang.Thread$Builder", "name", String.class, long.class);
+
+    /**
+     * <code>Thread.Builder.factory()</code>.
+     */
+    private final static Method FACTORY = method("java.lang.Thread$Builder", "factory");
+
+    /**
+     * <code>Executors.newThreadPerTaskExecutor(ThreadFactory)</code>.
+     */
+    private final static Method NEW_THREAD_PER_TASK_EXECUTOR = method(Executors.class, "newThreadPerTaskExecutor",
+            ThreadFactory.class);
+
+    /**
+     * <code>Thread.isVirtual()</code>.
+     */
+    private final static Method IS_VIRTUAL = method(Thread.class, "isVirtual");
+
+    /**
+     * The number of tasks run at the same time on virtual threads if the caller
+     * doesn't configure a limit.
+     */
+    private final static int VIRTUAL_THREAD_TASKS = 10_000;
+
+    /**
+     * The number of tasks run at the same time on platform threads if virtual
+     * threads aren't available and the caller doesn't configure a limit.
+     */
+    private final static int PLATFORM_THREAD_TASKS = 256;
+
+    private VirtualThreads()
+    {
+    }
+
+    /**
+     * Whether this JVM supports virtual threads.
+     *
+     * @return True if virtual threads are available, otherwise false.
+     */
+    public static boolean isAvailable()
+    {
+        return OF_VIRTUAL != null && NAME != null && FACTORY != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Returns the number of tasks that should run at the same time on the
+     * executor of {@link #newThreadPerTaskExecutor(String)} if the caller doesn't
+     * configure a limit.
+     *
+     * @return {@link #VIRTUAL_THREAD_TASKS} if virtual threads are available,
+     *         otherwise {@link #PLATFORM_THREAD_TASKS}.
+     */
+    public static int defaultLimit()
+    {
+        return isAvailable() ? VIRTUAL_THREAD_TASKS : PLATFORM_THREAD_TASKS;
+    }
+
+    /**
+     * Whether the specified thread is a virtual thread.
+     *
+     * @param thread
+     *            The thread to check.
+     * @return True if the thread is virtual, otherwise false.
+     */
+    public static boolean isVirtual(Thread thread)
+    {
+        if (IS_VIRTUAL == null)
+        {
+            return false;
+        }
+        try
+        {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (IllegalAccessException | InvocationTargetException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task. The threads are
+     * virtual if they are available, otherwise daemon platform threads.<br>
+     * The threads are named with the prefix followed by a counter, e.g.
+     * <code>testbddy-row-0</code>.
+     *
+     * @param prefix
+     *            The prefix of the names of the threads.
+     * @return The ExecutorService, which has to be shut down.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix)
+    {
+        if (isAvailable())
+        {
+            try
+            {
+                final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, FACTORY.invoke(builder));
+            } catch (IllegalAccessException | InvocationTargetException e)
+            {
+                // Fall back to platform threads
+            }
+        }
+        final AtomicLong number = new AtomicLong();
+        final ThreadFactory factory = runnable ->
+            {
+                final Thread thread = new Thread(runnable, prefix + number.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        // Unlike a cached pool, idle threads end at once instead of waiting for the next task
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.NANOSECONDS, new SynchronousQueue<>(), factory);
+    }
+
+    /**
+     * Returns the public method of the class with the specified name.
+     *
+     * @param className
+     *            The name of the class.
+     * @param name
+     *            The name of the method.
+     * @param parameterTypes
+     *            The types of the parameters of the method.
+     * @return The method or <code>null</code> if it doesn't exist in this JVM.
+     */
+    private static Method method(String className, String name, Class<?>... parameterTypes)
+    {
+        try
+        {
+            return method(Class.forName(className), name, parameterTypes);
+        } catch (ClassNotFoundException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the public method of the class.
+     *
+     * @param clazz
+     *            The class declaring the method.
+     * @param name
+     *            The name of the method.
+     * @param parameterTypes
+     *            The types of the parameters of the method.
+     * @return The method or <code>null</code> if it doesn't exist in this JVM.
+     */
+    private static Method method(Class<?> clazz, String name, Class<?>... parameterTypes)
+    {
+        try
+        {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | SecurityException e)
+        {
+            return null;
+        }
+    }
+}
@@ -7,8 +7,13 @@ import static com.xceptance.testbddy.api.BddSuite.scenario;
 import static com.xceptance.testbddy.api.BddSuite.then;
 import static com.xceptance.testbddy.api.BddSuite.when;
 import static com.xceptance.testbddy.api.BddSuite.with;
+import static com.xceptance.testbddy.api.BddSuite.withData;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -115,6 +120,26 @@ public class BddSuiteTest
         Assert.assertTrue(descriptor.getSteps().getSteps().isEmpty());
     }
 
+    /**
+     * Verifies that {@link BddSuite#withData(java.util.stream.Stream)} creates an
+     * {@link OutlineDescriptor} whose {@link ScenarioOutline} pulls the test data
+     * from the stream.
+     */
+    @Test
+    public void canCreateOutlineDescriptorWithStream()
+    {
+        OutlineDescriptor<Integer> descriptor = withData(Stream.of(1, 2, 3));
+        ScenarioOutline<Integer> scenario = scenario("Scenario Description", descriptor);
+
+        // Assert the test data aren't copied into a list
+        Assert.assertNull(descriptor.getTestdata());
+        Assert.assertSame(descriptor.getTestdataSource(), scenario.getTestdataSource());
+        // Assert the test data are pulled from the stream
+        List<Integer> testdata = new ArrayList<>();
+        scenario.getTestdataSource().forEach(testdata::add);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), testdata);
+    }
+
     /*
      * GWAT
      */
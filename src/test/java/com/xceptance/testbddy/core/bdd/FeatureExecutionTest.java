@@ -1,7 +1,11 @@
 package com.xceptance.testbddy.core.bdd;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -10,8 +14,10 @@ import com.xceptance.testbddy.core.bdd.Feature;
 import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
 import com.xceptance.testbddy.core.bdd.scenario.Scenario;
 import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.throwables.MultipleScenarioWrapperException;
 import com.xceptance.testbddy.core.throwables.errors.FeatureError;
 import com.xceptance.testbddy.core.throwables.exceptions.FeatureException;
+import com.xceptance.testbddy.util.CollectingReportInterface;
 import com.xceptance.testbddy.util.ExecutionTest;
 
 public class FeatureExecutionTest extends ExecutionTest
@@ -166,4 +172,182 @@ public class FeatureExecutionTest extends ExecutionTest
         }
     }
 
+    /**
+     * Verifies that a parallel feature executes its scenarios at the same time.
+     */
+    @Test
+    public void shouldExecuteScenariosInParallel()
+    {
+        final int scenarioCount = 4;
+        final CountDownLatch latch = new CountDownLatch(scenarioCount);
+        final AtomicInteger parallelExecution = new AtomicInteger();
+        List<AbstractScenario> scenarioList = new ArrayList<AbstractScenario>();
+        for (int i = 0; i < scenarioCount; i++)
+        {
+            // Each scenario waits until all scenarios are running
+            scenarioList.add(new Scenario("Scenario " + i, new Steps().given("Step Description", () ->
+                {
+                    latch.countDown();
+                    try
+                    {
+                        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                    parallelExecution.incrementAndGet();
+                })));
+        }
+        new Feature("Feature Description", scenarioList).withReporter(null).parallel(scenarioCount).test();
+        // Verify all scenarios were executed
+        Assert.assertEquals(scenarioCount, parallelExecution.get());
+    }
+
+    /**
+     * Verifies that a feature on virtual threads executes all scenarios at the
+     * same time, regardless of the parallelism.
+     */
+    @Test
+    public void shouldExecuteScenariosOnVirtualThreads()
+    {
+        final int scenarioCount = 50;
+        final CountDownLatch latch = new CountDownLatch(scenarioCount);
+        final AtomicInteger parallelExecution = new AtomicInteger();
+        List<AbstractScenario> scenarioList = new ArrayList<AbstractScenario>();
+        for (int i = 0; i < scenarioCount; i++)
+        {
+            // Each scenario waits until all scenarios are running
+            scenarioList.add(new Scenario("Scenario " + i, new Steps().given("Step Description", () ->
+                {
+                    latch.countDown();
+                    try
+                    {
+                        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                    parallelExecution.incrementAndGet();
+                })));
+        }
+        Feature feature = new Feature("Feature Description", scenarioList).withReporter(null).virtualThreads();
+        Assert.assertTrue(feature.isParallel());
+        feature.test();
+        // Verify all scenarios were executed
+        Assert.assertEquals(scenarioCount, parallelExecution.get());
+    }
+
+    /**
+     * Verifies that the configured parallelism limits the scenarios running at the
+     * same time on virtual threads.
+     */
+    @Test
+    public void shouldLimitVirtualThreadsByParallelism()
+    {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+        List<AbstractScenario> scenarioList = new ArrayList<AbstractScenario>();
+        for (int i = 0; i < 8; i++)
+        {
+            scenarioList.add(new Scenario("Scenario " + i, new Steps().given("Step Description", () ->
+                {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try
+                    {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                    running.decrementAndGet();
+                    executions.incrementAndGet();
+                })));
+        }
+        new Feature("Feature Description", scenarioList).withReporter(null).parallel(2).virtualThreads().test();
+        Assert.assertEquals(8, executions.get());
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    /**
+     * Verifies that a parallel feature collects the exceptions of the scenarios in
+     * the order the scenarios were defined.
+     */
+    @Test
+    public void shouldCollectExceptionsInOrderInParallel()
+    {
+        List<AbstractScenario> scenarioList = new ArrayList<AbstractScenario>();
+        for (int i = 0; i < 4; i++)
+        {
+            final int sleep = 40 - i * 10;
+            final String message = "Intentional failure " + i;
+            scenarioList.add(new Scenario("Scenario " + i, new Steps().given("Step Description", () ->
+                {
+                    sleep(sleep);
+                    throw new IllegalArgumentException(message);
+                })));
+        }
+        try
+        {
+            new Feature("Feature Description", scenarioList).withReporter(null).parallel(4).test();
+            Assert.fail("No FeatureException was thrown");
+        } catch (FeatureException exception)
+        {
+            MultipleScenarioWrapperException wrapper = (MultipleScenarioWrapperException) exception.getCause();
+            Assert.assertEquals(4, wrapper.getFailures().size());
+            for (int i = 0; i < 4; i++)
+            {
+                // The root cause is the exception thrown in the step
+                Throwable rootCause = wrapper.getFailures().get(i);
+                while (rootCause.getCause() != null)
+                {
+                    rootCause = rootCause.getCause();
+                }
+                Assert.assertEquals("Intentional failure " + i, rootCause.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Verifies that a parallel feature creates the same report as a serial one.
+     */
+    @Test
+    public void shouldReportInDefinitionOrderInParallel()
+    {
+        List<AbstractScenario> scenarioList = new ArrayList<AbstractScenario>();
+        for (int i = 0; i < 3; i++)
+        {
+            // Later scenarios finish first
+            final int sleep = 30 - i * 10;
+            scenarioList.add(new Scenario("Scenario " + i, new Steps().given("Step " + i, () ->
+                {
+                    sleep(sleep);
+                })));
+        }
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        new Feature("Feature Description", scenarioList).withReporter(reporter).parallel(3).test();
+        Assert.assertEquals(Arrays.asList("Feature: null: Feature Description", //
+                "Scenario: Scenario 0", "Step: Step 0", "Pass: Step: Step 0", "Pass: Scenario: Scenario 0", //
+                "Scenario: Scenario 1", "Step: Step 1", "Pass: Step: Step 1", "Pass: Scenario: Scenario 1", //
+                "Scenario: Scenario 2", "Step: Step 2", "Pass: Step: Step 2", "Pass: Scenario: Scenario 2", //
+                "Pass: Feature: null: Feature Description", "Finish"), reporter.getLines());
+    }
+
+    /**
+     * Sleeps for the specified time.
+     * 
+     * @param millis
+     *            The time to sleep in milliseconds.
+     */
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        } catch (InterruptedException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
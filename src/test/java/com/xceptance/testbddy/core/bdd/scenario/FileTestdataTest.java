@@ -0,0 +1,124 @@
+package com.xceptance.testbddy.core.bdd.scenario;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+
+public class FileTestdataTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Verifies that each CSV record is mapped to a test datum and the header is
+     * skipped.
+     * 
+     * @throws IOException
+     *             If the file could not be written.
+     */
+    @Test
+    public void shouldReadCsvRecords() throws IOException
+    {
+        Path file = write("name,description\r\n", "Ann,\"Says \"\"hi\"\", then leaves\"\r\n", "\r\n", "Bob,Ümlaut\r\n");
+        TestdataSource<String> source = FileTestdata.csv(file, true, fields -> fields[0] + "|" + fields[1]);
+        Assert.assertEquals(Arrays.asList("Ann|Says \"hi\", then leaves", "Bob|Ümlaut"), toList(source));
+        // The source can be read again
+        Assert.assertEquals(2, toList(source).size());
+    }
+
+    /**
+     * Verifies that each JSON line is handed to the row mapper.
+     * 
+     * @throws IOException
+     *             If the file could not be written.
+     */
+    @Test
+    public void shouldReadJsonLines() throws IOException
+    {
+        Path file = write("{\"id\":1}\n", "\n", "{\"id\":2}");
+        TestdataSource<String> source = FileTestdata.jsonLines(file, json -> json);
+        Assert.assertEquals(Arrays.asList("{\"id\":1}", "{\"id\":2}"), toList(source));
+    }
+
+    /**
+     * Verifies that an empty file has no test data.
+     * 
+     * @throws IOException
+     *             If the file could not be written.
+     */
+    @Test
+    public void shouldReadEmptyFile() throws IOException
+    {
+        Assert.assertTrue(toList(FileTestdata.jsonLines(write(), json -> json)).isEmpty());
+    }
+
+    /**
+     * Verifies that a scenario outline executes every record of the file in
+     * parallel.
+     * 
+     * @throws IOException
+     *             If the file could not be written.
+     */
+    @Test
+    public void shouldExecuteFileInParallel() throws IOException
+    {
+        int rows = 5_000;
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= rows; i++)
+        {
+            lines.add("{\"id\":" + i + "}\n");
+        }
+        Path file = write(lines.toArray(new String[lines.size()]));
+        AtomicInteger sum = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                sum.addAndGet(data);
+            });
+        TestdataSource<Integer> source = FileTestdata.jsonLines(file,
+                json -> Integer.valueOf(json.substring(json.indexOf(':') + 1, json.indexOf('}'))));
+        new ScenarioOutline<Integer>("Scenario Description", steps, source).parallel(4).test();
+        Assert.assertEquals(rows * (rows + 1) / 2, sum.get());
+    }
+
+    /**
+     * Writes the lines into a new file.
+     * 
+     * @param lines
+     *            The lines including their line breaks.
+     * @return The path of the file.
+     * @throws IOException
+     *             If the file could not be written.
+     */
+    private Path write(String... lines) throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, String.join("", lines).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Collects the test data of the source.
+     * 
+     * @param source
+     *            The source to iterate.
+     * @return The test data in order.
+     */
+    private static <T> List<T> toList(TestdataSource<T> source)
+    {
+        List<T> list = new ArrayList<>();
+        source.forEach(list::add);
+        return list;
+    }
+}
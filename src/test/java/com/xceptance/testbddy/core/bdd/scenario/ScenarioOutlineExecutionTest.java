@@ -1,16 +1,27 @@
 package com.xceptance.testbddy.core.bdd.scenario;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.aventstack.extentreports.GherkinKeyword;
 import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.status.Status;
 import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.reporting.ReportDetail;
+import com.xceptance.testbddy.core.throwables.MultipleScenarioWrapperException;
 import com.xceptance.testbddy.core.throwables.errors.ScenarioError;
 import com.xceptance.testbddy.core.throwables.exceptions.ScenarioException;
+import com.xceptance.testbddy.util.CollectingReportInterface;
 import com.xceptance.testbddy.util.ExecutionTest;
 
 public class ScenarioOutlineExecutionTest extends ExecutionTest
@@ -171,4 +182,503 @@ public class ScenarioOutlineExecutionTest extends ExecutionTest
         }
     }
 
+    /**
+     * Verifies that a parallel {@link ScenarioOutline} executes the test data at
+     * the same time and each of them exactly once.
+     */
+    @Test
+    public void shouldExecuteTestdataInParallel()
+    {
+        final int parallelism = 4;
+        final CountDownLatch latch = new CountDownLatch(parallelism);
+        final AtomicInteger parallelExecution = new AtomicInteger();
+        final List<Integer> testdataList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            testdataList.add(i);
+        }
+        final int[] executionsPerTestdatum = new int[testdataList.size()];
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                // The first test data wait until enough test data are running
+                latch.countDown();
+                try
+                {
+                    Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e)
+                {
+                    throw new IllegalStateException(e);
+                }
+                executionsPerTestdatum[data]++;
+                parallelExecution.incrementAndGet();
+            });
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdataList).parallel(parallelism).test();
+        Assert.assertEquals(testdataList.size(), parallelExecution.get());
+        for (int executions : executionsPerTestdatum)
+        {
+            Assert.assertEquals(1, executions);
+        }
+    }
+
+    /**
+     * Verifies that a parallel {@link ScenarioOutline} collects the exceptions in
+     * the order of the test data.
+     */
+    @Test
+    public void shouldCollectExceptionsInOrderInParallel()
+    {
+        final List<Integer> testdataList = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7);
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                // Odd test data fail, later test data fail faster
+                if (data % 2 == 1)
+                {
+                    sleep(8 - data);
+                    throw new IllegalArgumentException("Intentional failure " + data);
+                }
+            });
+        try
+        {
+            new ScenarioOutline<Integer>("Scenario Description", steps, testdataList).parallel(4).test();
+            Assert.fail("No ScenarioException was thrown");
+        } catch (ScenarioException exception)
+        {
+            MultipleScenarioWrapperException wrapper = (MultipleScenarioWrapperException) exception.getCause();
+            Assert.assertEquals(4, wrapper.getFailures().size());
+            for (int i = 0; i < 4; i++)
+            {
+                Throwable rootCause = wrapper.getFailures().get(i);
+                while (rootCause.getCause() != null)
+                {
+                    rootCause = rootCause.getCause();
+                }
+                Assert.assertEquals("Intentional failure " + (2 * i + 1), rootCause.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Verifies that a parallel {@link ScenarioOutline} reports the test data in
+     * their order.
+     */
+    @Test
+    public void shouldReportInOrderInParallel()
+    {
+        final List<Integer> testdataList = Arrays.asList(0, 1, 2, 3);
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                sleep(20 - 5 * data);
+            });
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdataList).parallel(4).test(reporter);
+        List<String> expectedLines = new ArrayList<>();
+        for (Integer testdatum : testdataList)
+        {
+            String scenario = "Scenario: Scenario Description with Data: " + testdatum;
+            expectedLines.addAll(Arrays.asList(scenario, "Step: Step Description", "Pass: Step: Step Description",
+                    "Pass: " + scenario));
+        }
+        Assert.assertEquals(expectedLines, reporter.getLines());
+    }
+
+    /**
+     * Verifies that a {@link ScenarioOutline} on virtual threads executes all test
+     * data at the same time, each on its own thread.
+     */
+    @Test
+    public void shouldExecuteAllTestdataAtOnceOnVirtualThreads()
+    {
+        final int rows = 200;
+        final CountDownLatch latch = new CountDownLatch(rows);
+        final AtomicInteger rowThreads = new AtomicInteger();
+        final List<Integer> testdataList = new ArrayList<>();
+        for (int i = 0; i < rows; i++)
+        {
+            testdataList.add(i);
+        }
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                // All test data wait until every test datum is running
+                latch.countDown();
+                try
+                {
+                    Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e)
+                {
+                    throw new IllegalStateException(e);
+                }
+                if (Thread.currentThread().getName().startsWith("testbddy-row-"))
+                {
+                    rowThreads.incrementAndGet();
+                }
+            });
+        ScenarioOutline<Integer> outline = new ScenarioOutline<Integer>("Scenario Description", steps, testdataList);
+        outline.virtualThreads();
+        Assert.assertTrue(outline.isParallel());
+        outline.test();
+        Assert.assertEquals(rows, rowThreads.get());
+    }
+
+    /**
+     * Verifies that the parallelism limits the test data executed at the same time
+     * on virtual threads.
+     */
+    @Test
+    public void shouldLimitVirtualThreadsByParallelism()
+    {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+                executions.incrementAndGet();
+            });
+        ScenarioOutline<Integer> outline = new ScenarioOutline<Integer>("Scenario Description", steps,
+                Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7));
+        outline.parallel(2).virtualThreads().test();
+        Assert.assertEquals(8, executions.get());
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    /**
+     * Verifies that a parallelism of one executes the test data on virtual
+     * threads one after another.
+     */
+    @Test
+    public void shouldExecuteOneAfterAnotherOnVirtualThreadsWithParallelismOne()
+    {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+            });
+        ScenarioOutline<Integer> outline = new ScenarioOutline<Integer>("Scenario Description", steps,
+                Arrays.asList(0, 1, 2, 3, 4, 5));
+        outline.parallel(1).virtualThreads().test();
+        Assert.assertEquals(1, maxRunning.get());
+    }
+
+    /**
+     * Verifies that a {@link ScenarioOutline} on virtual threads only pulls the
+     * next test datum once a row may start and holds a bounded window of rows.
+     */
+    @Test
+    public void shouldPullTestdataGraduallyOnVirtualThreads()
+    {
+        final int rows = 1_000;
+        final AtomicInteger pulled = new AtomicInteger();
+        final AtomicInteger maxPulledAhead = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                maxPulledAhead.accumulateAndGet(pulled.get() - data, Math::max);
+                executions.incrementAndGet();
+            });
+        // An Iterable without a size, whose Iterator counts the pulled test data
+        Iterable<Integer> testdata = () -> new Iterator<Integer>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return pulled.get() < rows;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    return pulled.getAndIncrement();
+                }
+            };
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdata).parallel(2).virtualThreads().test();
+        Assert.assertEquals(rows, executions.get());
+        // The window holds twice as many rows as may run at the same time
+        Assert.assertTrue("Pulled " + maxPulledAhead.get() + " test data ahead", maxPulledAhead.get() <= 4);
+    }
+
+    /**
+     * Verifies that a {@link ScenarioOutline} on virtual threads reports the test
+     * data in their order and collects the exceptions in their order.
+     */
+    @Test
+    public void shouldReportInOrderOnVirtualThreads()
+    {
+        final List<Integer> testdataList = Arrays.asList(0, 1, 2, 3);
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                sleep(20 - 5 * data);
+                Assert.assertTrue("Intentional failure " + data, data % 2 == 0);
+            });
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        try
+        {
+            new ScenarioOutline<Integer>("Scenario Description", steps, testdataList).virtualThreads().test(reporter);
+            Assert.fail("No ScenarioError was thrown");
+        } catch (ScenarioError error)
+        {
+            MultipleScenarioWrapperException wrapper = (MultipleScenarioWrapperException) error.getCause();
+            Assert.assertEquals(2, wrapper.getFailures().size());
+        }
+        List<String> expectedLines = new ArrayList<>();
+        for (Integer testdatum : testdataList)
+        {
+            String scenario = "Scenario: Scenario Description with Data: " + testdatum;
+            String result = testdatum % 2 == 0 ? "Pass: " : "Fail: ";
+            expectedLines.addAll(Arrays.asList(scenario, "Step: Step Description", result + "Step: Step Description",
+                    result + scenario));
+        }
+        Assert.assertEquals(expectedLines, reporter.getLines());
+    }
+
+    /**
+     * Verifies that test data of a {@link TestdataSource} are pulled one after
+     * another while the scenario outline executes them.
+     */
+    @Test
+    public void shouldPullTestdataLazily()
+    {
+        final AtomicInteger pulled = new AtomicInteger();
+        final int rows = 10_000;
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                // Only the currently executed test datum was pulled
+                Assert.assertEquals(data + 1, pulled.get());
+                execution++;
+            });
+        TestdataSource<Integer> testdata = TestdataSource.of(Stream.iterate(0, i -> i + 1).limit(rows).peek(i ->
+            {
+                pulled.incrementAndGet();
+            }));
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdata).test();
+        Assert.assertEquals(rows, execution);
+    }
+
+    /**
+     * Verifies that a parallel {@link ScenarioOutline} pulls test data of unknown
+     * size gradually instead of pulling all of them before the first test datum
+     * is executed.
+     */
+    @Test
+    public void shouldPullUnsizedTestdataGraduallyInParallel()
+    {
+        final int rows = 10_000;
+        final AtomicInteger pulled = new AtomicInteger();
+        final AtomicInteger maxPulledAhead = new AtomicInteger();
+        final AtomicInteger executions = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                maxPulledAhead.accumulateAndGet(pulled.get() - data, Math::max);
+                executions.incrementAndGet();
+            });
+        // An Iterable without a size, whose Iterator counts the pulled test data
+        Iterable<Integer> testdata = () -> new Iterator<Integer>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return pulled.get() < rows;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    return pulled.getAndIncrement();
+                }
+            };
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdata).parallel(4).test();
+        Assert.assertEquals(rows, executions.get());
+        // Only a bounded batch of test data is pulled ahead of the executed ones
+        Assert.assertTrue("Pulled " + maxPulledAhead.get() + " test data ahead", maxPulledAhead.get() <= 4 * 16);
+    }
+
+    /**
+     * Verifies that a stream of test data is executed in parallel.
+     */
+    @Test
+    public void shouldExecuteStreamInParallel()
+    {
+        final AtomicInteger sum = new AtomicInteger();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                sum.addAndGet(data);
+            });
+        TestdataSource<Integer> testdata = TestdataSource.of(() -> Stream.iterate(1, i -> i + 1).limit(100));
+        new ScenarioOutline<Integer>("Scenario Description", steps, testdata).parallel(4).test();
+        Assert.assertEquals(5050, sum.get());
+    }
+
+    /**
+     * Verifies that a scenario outline with an empty stream of test data is
+     * pending.
+     */
+    @Test
+    public void shouldBePendingWithEmptyStream()
+    {
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                execution++;
+            });
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        ScenarioOutline<Integer> scenario = new ScenarioOutline<Integer>("Scenario Description", steps,
+                TestdataSource.of(Stream.<Integer> empty()));
+        scenario.test(reporter);
+        Assert.assertEquals(0, execution);
+        Assert.assertTrue(scenario.getStatus().contains(Status.PENDING));
+        Assert.assertEquals(Arrays.asList("Scenario: Scenario Description with Data: null",
+                "Pending: Scenario: Scenario Description with Data: null"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that only failing rows are reported in detail and the other rows
+     * are summed up.
+     */
+    @Test
+    public void shouldOnlyReportFailingRows()
+    {
+        for (int parallelism : new int[] { 1, 4 })
+        {
+            TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+                {
+                    Assert.assertNotEquals(Integer.valueOf(2), data);
+                });
+            CollectingReportInterface reporter = new CollectingReportInterface();
+            ScenarioOutline<Integer> scenario = new ScenarioOutline<Integer>("Scenario Description", steps,
+                    Arrays.asList(0, 1, 2, 3)).reportDetail(ReportDetail.FAILURES).parallel(parallelism);
+            try
+            {
+                scenario.test(reporter);
+                Assert.fail("Scenario should fail");
+            } catch (ScenarioError e)
+            {
+                // Expected
+            }
+            String row = "Scenario: Scenario Description with Data: 2";
+            Assert.assertEquals(Arrays.asList(row, "Step: Step Description", "Fail: Step: Step Description",
+                    "Fail: " + row, "Scenario: Scenario Description", "Fail: Scenario: Scenario Description"),
+                    reporter.getLines());
+        }
+    }
+
+    /**
+     * Verifies that the placeholders of passing rows are never resolved if only
+     * failing rows are reported.
+     */
+    @Test
+    public void shouldNotResolvePlaceholdersOfSummarizedRows()
+    {
+        final AtomicIntegerArray resolved = new AtomicIntegerArray(4);
+        for (int parallelism : new int[] { 1, 4 })
+        {
+            List<Row> testdata = new ArrayList<>();
+            for (int i = 0; i < 4; i++)
+            {
+                testdata.add(new Row(i, resolved));
+            }
+            TypeSteps<Row> steps = new TypeSteps<Row>().given("Step <data.value>", (data) ->
+                {
+                    Assert.assertNotSame(testdata.get(2), data);
+                });
+            try
+            {
+                new ScenarioOutline<Row>("Scenario Description", steps, testdata).reportDetail(ReportDetail.FAILURES)
+                        .parallel(parallelism).test(new CollectingReportInterface());
+                Assert.fail("Scenario should fail");
+            } catch (ScenarioError e)
+            {
+                // Expected
+            }
+        }
+        Assert.assertEquals(0, resolved.get(0));
+        Assert.assertEquals(0, resolved.get(1));
+        Assert.assertEquals(0, resolved.get(3));
+        Assert.assertTrue(resolved.get(2) > 0);
+    }
+
+    /**
+     * Verifies that skipped rows are only summed up.
+     */
+    @Test
+    public void shouldSummarizeSkippedRows()
+    {
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                execution++;
+            });
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        new ScenarioOutline<Integer>("Scenario Description", steps, Arrays.asList(0, 1, 2))
+                .reportDetail(ReportDetail.FAILURES).skipScenario(reporter);
+        Assert.assertEquals(0, execution);
+        Assert.assertEquals(Arrays.asList("Scenario: Scenario Description", "Skip: Scenario: Scenario Description"),
+                reporter.getLines());
+    }
+
+    /**
+     * Verifies that summarizing skipped or pending rows doesn't pull lazily
+     * supplied test data.
+     */
+    @Test
+    public void shouldNotPullTestdataToSummarize()
+    {
+        Iterable<Integer> testdata = () ->
+            {
+                throw new IllegalStateException("Test data were pulled");
+            };
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step Description", (data) ->
+            {
+                execution++;
+            });
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        new ScenarioOutline<Integer>("Skipped", steps, TestdataSource.of(testdata))
+                .reportDetail(ReportDetail.FAILURES).skipScenario(reporter);
+        new ScenarioOutline<Integer>("Pending", new TypeSteps<Integer>(), TestdataSource.of(testdata))
+                .reportDetail(ReportDetail.FAILURES).test(reporter);
+        Assert.assertEquals(0, execution);
+        Assert.assertEquals(Arrays.asList("Scenario: Skipped", "Skip: Scenario: Skipped", "Scenario: Pending",
+                "Pending: Scenario: Pending"), reporter.getLines());
+    }
+
+    /**
+     * Sleeps for the specified time.
+     * 
+     * @param millis
+     *            The time to sleep in milliseconds.
+     */
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        } catch (InterruptedException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * A test datum that counts how often its value is resolved.
+     */
+    public static class Row
+    {
+        private final int index;
+
+        private final AtomicIntegerArray resolved;
+
+        public Row(int index, AtomicIntegerArray resolved)
+        {
+            this.index = index;
+            this.resolved = resolved;
+        }
+
+        public int getValue()
+        {
+            resolved.incrementAndGet(index);
+            return index;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.xceptance.testbddy.core.bdd.scenario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestdataSourceTest
+{
+    /**
+     * Verifies that a source of an Iterable can be iterated more than once.
+     */
+    @Test
+    public void shouldIterateIterableRepeatedly()
+    {
+        TestdataSource<Integer> source = TestdataSource.of(Arrays.asList(1, 2, 3));
+        Assert.assertTrue(source.isReusable());
+        Assert.assertEquals(Arrays.asList(1, 2, 3), toList(source));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), toList(source));
+    }
+
+    /**
+     * Verifies that a source of a Supplier gets a new Stream for each iteration.
+     */
+    @Test
+    public void shouldIterateSuppliedStreamsRepeatedly()
+    {
+        TestdataSource<Integer> source = TestdataSource.of(() -> Stream.of(1, 2));
+        Assert.assertEquals(Arrays.asList(1, 2), toList(source));
+        Assert.assertEquals(Arrays.asList(1, 2), toList(source));
+    }
+
+    /**
+     * Verifies that a source of a Stream can only be iterated once.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void shouldIterateStreamOnlyOnce()
+    {
+        TestdataSource<Integer> source = TestdataSource.of(Stream.of(1, 2));
+        Assert.assertFalse(source.isReusable());
+        Assert.assertEquals(Arrays.asList(1, 2), toList(source));
+        source.iterator();
+    }
+
+    /**
+     * Verifies that a source of an Iterator can only be iterated once.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void shouldIterateIteratorOnlyOnce()
+    {
+        TestdataSource<Integer> source = TestdataSource.of(Arrays.asList(1, 2).iterator());
+        Assert.assertEquals(Arrays.asList(1, 2), toList(source));
+        source.spliterator();
+    }
+
+    /**
+     * Collects the test data of the source.
+     * 
+     * @param source
+     *            The source to iterate.
+     * @return The test data in order.
+     */
+    private static List<Integer> toList(TestdataSource<Integer> source)
+    {
+        List<Integer> list = new ArrayList<>();
+        source.forEach(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,232 @@
+package com.xceptance.testbddy.core.bdd.steps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.api.PendingConsumer;
+import com.xceptance.testbddy.core.bdd.status.Status;
+import com.xceptance.testbddy.core.throwables.errors.StepError;
+import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+public class StepPlanTest extends ExecutionTest
+{
+    /**
+     * Verifies that a {@link StepPlan} passes the test datum of each execution to
+     * the behavior without setting it on the step definitions.
+     */
+    @Test
+    public void shouldExecuteWithDatumWithoutModifyingDefinition()
+    {
+        final List<Integer> data = new ArrayList<>();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a number <data>", data::add);
+        StepPlan<Integer> plan = steps.compile();
+
+        plan.test(null, 1);
+        plan.test(null, 2);
+
+        Assert.assertEquals(Arrays.asList(1, 2), data);
+        Assert.assertNull(steps.getSteps().get(0).getTestdata());
+        Assert.assertNull(steps.getData());
+    }
+
+    /**
+     * Verifies that the placeholders are resolved with the test datum of the
+     * execution.
+     */
+    @Test
+    public void shouldResolvePlaceholdersPerExecution()
+    {
+        StepPlan<Integer> plan = new TypeSteps<Integer>().given("a number <data>", (data) ->
+            {
+                execution++;
+            }).compile();
+        CollectingReportInterface reporter = new CollectingReportInterface();
+
+        plan.test(reporter, 1);
+        plan.test(reporter, 2);
+
+        Assert.assertEquals(2, execution);
+        Assert.assertEquals(Arrays.asList("Step: a number 1", "Pass: Step: a number 1", "Step: a number 2",
+                "Pass: Step: a number 2"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that the remaining steps are skipped after a failed step and the
+     * error is re-thrown.
+     */
+    @Test
+    public void shouldSkipRemainingStepsAfterFailure()
+    {
+        StepPlan<Integer> plan = new TypeSteps<Integer>().given("a failing step", (data) ->
+            {
+                Assert.fail("Intentional failure");
+            }).then("a step with <data>", (data) ->
+                {
+                    execution++;
+                }).compile();
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        try
+        {
+            plan.test(reporter, 3);
+            Assert.fail("No StepError was thrown");
+        } catch (StepError e)
+        {
+            // Expected
+        }
+        Assert.assertEquals(0, execution);
+        Assert.assertEquals(Arrays.asList("Step: a failing step", "Fail: Step: a failing step",
+                "Step: a step with 3", "Skip: Step: a step with 3"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that ignored steps aren't executed and skipped steps are reported
+     * as skipped.
+     */
+    @Test
+    public void shouldRespectStatus()
+    {
+        StepPlan<Integer> plan = new TypeSteps<Integer>().given("an ignored step", (data) ->
+            {
+                execution++;
+            }).ignore().when("a skipped step", (data) ->
+                {
+                    execution++;
+                }).skip().compile();
+        CollectingReportInterface reporter = new CollectingReportInterface();
+
+        plan.test(reporter, 1);
+
+        Assert.assertEquals(0, execution);
+        Assert.assertEquals(Arrays.asList("Step: a skipped step", "Skip: Step: a skipped step"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that pending steps are reported as pending without marking their
+     * definition.
+     */
+    @Test
+    public void shouldReportPendingWithoutModifyingDefinition()
+    {
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a pending step", new PendingConsumer<Integer>());
+        CollectingReportInterface reporter = new CollectingReportInterface();
+
+        steps.compile().test(reporter, 1);
+
+        Assert.assertEquals(Arrays.asList("Step: a pending step", "Pending: Step: a pending step"),
+                reporter.getLines());
+        Assert.assertFalse(steps.getSteps().get(0).getStatus().contains(Status.PENDING));
+    }
+
+    /**
+     * Verifies that typed steps need a test datum.
+     */
+    @Test(expected = StepException.class)
+    public void shouldNotExecuteTypedStepsWithoutDatum()
+    {
+        new TypeSteps<Integer>().given("a number", (data) ->
+            {
+                execution++;
+            }).compile().test(null, null);
+    }
+
+    /**
+     * Verifies that a skipped pending step shows the same status in the report as
+     * its definition skipped on its own.
+     */
+    @Test
+    public void shouldSkipPendingStepsLikeDefinition()
+    {
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a failing step", (data) ->
+            {
+                throw new IllegalStateException("Intentional exception");
+            }).then("a pending step", new PendingConsumer<Integer>()).wip();
+        CollectingReportInterface planReporter = new CollectingReportInterface();
+        try
+        {
+            steps.compile().test(planReporter, 1);
+            Assert.fail("No StepException was thrown");
+        } catch (StepException e)
+        {
+            // Expected
+        }
+        CollectingReportInterface definitionReporter = new CollectingReportInterface();
+        steps.getSteps().get(1).skipStep(definitionReporter);
+
+        Assert.assertEquals(Arrays.asList("Step: a pending step: WIP"), definitionReporter.getCategories());
+        Assert.assertEquals("Step: a pending step: WIP", planReporter.getCategories().get(1));
+    }
+
+    /**
+     * Verifies that a plan of {@link Steps} ignores the test data.
+     */
+    @Test
+    public void shouldCompileSteps()
+    {
+        StepPlan<Object> plan = new Steps().given("a step", () ->
+            {
+                execution++;
+            }).compile();
+        CollectingReportInterface reporter = new CollectingReportInterface();
+
+        plan.test(reporter, null);
+        plan.test(null, "ignored");
+
+        Assert.assertEquals(2, execution);
+        Assert.assertEquals(Arrays.asList("Step: a step", "Pass: Step: a step"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that executing {@link TypeSteps} passes their data to the steps
+     * without setting it on the step definitions.
+     */
+    @Test
+    public void shouldNotSetDataOnSharedSteps()
+    {
+        final List<Integer> data = new ArrayList<>();
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a number <data>", data::add);
+
+        steps.withData(1).test();
+        steps.withData(2).test();
+
+        Assert.assertEquals(Arrays.asList(1, 2), data);
+        Assert.assertNull(steps.getSteps().get(0).getTestdata());
+    }
+
+    /**
+     * Verifies that the size of a plan counts all steps.
+     */
+    @Test
+    public void shouldCountAllSteps()
+    {
+        StepPlan<Integer> plan = new TypeSteps<Integer>().given("a step", (data) ->
+            {
+            }).and("an ignored step", (data) ->
+                {
+                }).ignore().compile();
+
+        Assert.assertEquals(2, plan.size());
+    }
+
+    /**
+     * Verifies that one plan can be executed by several threads at the same time.
+     */
+    @Test
+    public void shouldExecuteConcurrently()
+    {
+        final List<Integer> data = Collections.synchronizedList(new ArrayList<>());
+        StepPlan<Integer> plan = new TypeSteps<Integer>().given("a number <data>", data::add).compile();
+
+        IntStream.range(0, 1000).parallel().forEach(i -> plan.test(null, i));
+
+        Assert.assertEquals(1000, data.size());
+        Assert.assertEquals(1000, data.stream().distinct().count());
+    }
+}
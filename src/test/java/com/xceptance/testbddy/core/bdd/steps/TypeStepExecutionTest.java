@@ -1,5 +1,6 @@
 package com.xceptance.testbddy.core.bdd.steps;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import org.junit.Assert;
@@ -9,6 +10,7 @@ import com.aventstack.extentreports.GherkinKeyword;
 import com.xceptance.testbddy.core.bdd.steps.Step;
 import com.xceptance.testbddy.core.bdd.steps.TypeStep;
 import com.xceptance.testbddy.core.throwables.exceptions.StepException;
+import com.xceptance.testbddy.util.CollectingReportInterface;
 import com.xceptance.testbddy.util.ExecutionTest;
 
 public class TypeStepExecutionTest extends ExecutionTest
@@ -84,4 +86,51 @@ public class TypeStepExecutionTest extends ExecutionTest
         new TypeStep<Object>(keyword, stepDescription, consumer).withData(testdata).test();
         Assert.assertEquals(1, execution);
     }
+
+    /**
+     * Verifies that the placeholders of a {@link TypeStep} are only resolved if a
+     * reporter needs the description.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldResolvePlaceholdersOnlyForReporter() throws ClassNotFoundException
+    {
+        GherkinKeyword keyword = new GherkinKeyword("Given");
+        CountingDatum testdata = new CountingDatum();
+        TypeStep<CountingDatum> step = new TypeStep<CountingDatum>(keyword, "Step with <data.value>", (data) ->
+            {
+                execution++;
+            }).withData(testdata);
+
+        // Without reporter, nothing is resolved
+        step.test();
+        step.skipStep();
+        Assert.assertEquals(1, execution);
+        Assert.assertEquals(0, testdata.resolutions);
+
+        // With reporter, the description is resolved
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        step.test(reporter);
+        Assert.assertEquals(1, testdata.resolutions);
+        Assert.assertEquals(Arrays.asList("Step: Step with resolved", "Pass: Step: Step with resolved"),
+                reporter.getLines());
+    }
+
+    /**
+     * A test datum that counts how often its value is resolved.
+     * 
+     * @author ckeiner
+     */
+    public static class CountingDatum
+    {
+        private int resolutions;
+
+        public String getValue()
+        {
+            resolutions++;
+            return "resolved";
+        }
+    }
 }
@@ -0,0 +1,284 @@
+package com.xceptance.testbddy.core.listener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+import com.xceptance.testbddy.core.throwables.errors.FeatureError;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+public class ExecutionListenersTest extends ExecutionTest
+{
+    private final RecordingListener listener = new RecordingListener();
+
+    @After
+    public void unregister()
+    {
+        ExecutionListeners.unregister(listener);
+    }
+
+    /**
+     * Verifies that a registered listener is notified about every component in the
+     * order of the execution, including the steps skipped after a failure.
+     */
+    @Test
+    public void shouldNotifyListener()
+    {
+        ExecutionListeners.register(listener);
+        Feature feature = new Feature("Feature").withReporter(NoOpReportInterface.getInstance());
+        feature.getScenarios().add(new Scenario("Passing", new Steps().given("Pass", () ->
+            {
+                execution++;
+            })));
+        feature.getScenarios().add(new Scenario("Failing", new Steps().given("Fail", () ->
+            {
+                Assert.fail("Expected");
+            }).then("Never", () ->
+                {
+                    execution++;
+                })));
+        try
+        {
+            feature.test();
+            Assert.fail("FeatureError expected");
+        } catch (FeatureError e)
+        {
+            // Expected
+        }
+        Assert.assertEquals(1, execution);
+        Assert.assertEquals(Arrays.asList("Start Feature", "Start Scenario Passing", "Start Step Pass",
+                "PASS Step Pass", "PASS Scenario Passing", "Start Scenario Failing", "Start Step Fail",
+                "FAIL Step Fail", "Start Step Never", "SKIP Step Never", "FAIL Scenario Failing", "FAIL Feature"),
+                listener.events);
+    }
+
+    /**
+     * Verifies that each row of an outline is reported between the start and end
+     * of the outline.
+     */
+    @Test
+    public void shouldNotifyRows()
+    {
+        ExecutionListeners.register(listener);
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("Step <data>", (data) ->
+            {
+                execution++;
+            });
+        new ScenarioOutline<Integer>("Outline", steps, Arrays.asList(1, 2)).test();
+        Assert.assertEquals(2, execution);
+        Assert.assertEquals(Arrays.asList("Start Scenario Outline", "Start Row 1", "Start Step Step <data>",
+                "PASS Step Step <data>", "PASS Row 1", "Start Row 2", "Start Step Step <data>",
+                "PASS Step Step <data>", "PASS Row 2", "PASS Scenario Outline"), listener.events);
+    }
+
+    /**
+     * Verifies that pending components are reported as such.
+     */
+    @Test
+    public void shouldNotifyPending()
+    {
+        ExecutionListeners.register(listener);
+        new ScenarioOutline<Integer>("Outline", new TypeSteps<Integer>(), Collections.emptyList()).test();
+        new Scenario("Scenario").test();
+        Assert.assertEquals(Arrays.asList("Start Scenario Outline", "PENDING Scenario Outline",
+                "Start Scenario Scenario", "PENDING Scenario Scenario"), listener.events);
+    }
+
+    /**
+     * Verifies that unregistered listeners aren't notified anymore.
+     */
+    @Test
+    public void shouldUnregisterListener()
+    {
+        Assert.assertFalse(ExecutionListeners.isActive());
+        ExecutionListeners.register(listener);
+        Assert.assertTrue(ExecutionListeners.isActive());
+        Assert.assertTrue(ExecutionListeners.unregister(listener));
+        Assert.assertFalse(ExecutionListeners.unregister(listener));
+        Assert.assertFalse(ExecutionListeners.isActive());
+        // Without listener, no time is taken
+        Assert.assertEquals(0, ExecutionListeners.scenarioStarted(new Scenario("Scenario")));
+        new Scenario("Scenario", new Steps().given("Step", () ->
+            {
+                execution++;
+            })).test();
+        Assert.assertEquals(1, execution);
+        Assert.assertTrue(listener.events.isEmpty());
+    }
+
+    /**
+     * Verifies that a failing listener neither fails the execution nor keeps the
+     * other listeners from being notified exactly once.
+     */
+    @Test
+    public void shouldIgnoreFailingListener()
+    {
+        final ExecutionListener failing = new ExecutionListener()
+        {
+            @Override
+            public void scenarioStarted(AbstractScenario scenario, long startNanos)
+            {
+                throw new IllegalStateException("Expected");
+            }
+
+            @Override
+            public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+                    Throwable throwable)
+            {
+                throw new IllegalStateException("Expected");
+            }
+        };
+        ExecutionListeners.register(failing);
+        ExecutionListeners.register(listener);
+        try
+        {
+            new Scenario("Scenario", new Steps().given("Step", () ->
+                {
+                    execution++;
+                })).test();
+        } finally
+        {
+            ExecutionListeners.unregister(failing);
+        }
+        Assert.assertEquals(1, execution);
+        Assert.assertEquals(Arrays.asList("Start Scenario Scenario", "Start Step Step", "PASS Step Step",
+                "PASS Scenario Scenario"), listener.events);
+    }
+
+    /**
+     * Verifies that started components are finished if an unexpected Throwable
+     * escapes them, e.g. from the reporter.
+     */
+    @Test
+    public void shouldFinishOnUnexpectedThrowable()
+    {
+        ExecutionListeners.register(listener);
+        final CollectingReportInterface reporter = new CollectingReportInterface()
+        {
+            @Override
+            public ReportElement step(GherkinKeyword keyword, String description)
+            {
+                throw new IllegalStateException("Expected");
+            }
+        };
+        Feature feature = new Feature("Feature").withReporter(reporter);
+        feature.getScenarios().add(new Scenario("Scenario", new Steps().given("Step", () ->
+            {
+                execution++;
+            })));
+        try
+        {
+            feature.test();
+            Assert.fail("IllegalStateException expected");
+        } catch (IllegalStateException e)
+        {
+            // Expected
+        }
+        try
+        {
+            new ScenarioOutline<Integer>("Outline", new TypeSteps<Integer>().given("Step", (data) ->
+                {
+                    execution++;
+                }), Arrays.asList(1)).test(reporter);
+            Assert.fail("IllegalStateException expected");
+        } catch (IllegalStateException e)
+        {
+            // Expected
+        }
+        Assert.assertEquals(0, execution);
+        Assert.assertEquals(Arrays.asList("Start Feature", "Start Scenario Scenario", "FATAL Scenario Scenario",
+                "FATAL Feature", "Start Scenario Outline", "Start Row 1", "FATAL Row 1", "FATAL Scenario Outline"),
+                listener.events);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotRegisterNull()
+    {
+        ExecutionListeners.register(null);
+    }
+
+    /**
+     * Records the events and verifies that finishing components don't end before
+     * they started.
+     */
+    private static class RecordingListener implements ExecutionListener
+    {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void featureStarted(Feature feature, long startNanos)
+        {
+            events.add("Start Feature");
+        }
+
+        @Override
+        public void featureFinished(Feature feature, long startNanos, long endNanos, Outcome outcome,
+                Throwable throwable)
+        {
+            finished(outcome + " Feature", startNanos, endNanos, outcome, throwable);
+        }
+
+        @Override
+        public void scenarioStarted(AbstractScenario scenario, long startNanos)
+        {
+            events.add("Start Scenario " + scenario.getDescription());
+        }
+
+        @Override
+        public void scenarioFinished(AbstractScenario scenario, long startNanos, long endNanos, Outcome outcome,
+                Throwable throwable)
+        {
+            finished(outcome + " Scenario " + scenario.getDescription(), startNanos, endNanos, outcome, throwable);
+        }
+
+        @Override
+        public void rowStarted(ScenarioOutline<?> outline, Object testdatum, long startNanos)
+        {
+            events.add("Start Row " + testdatum);
+        }
+
+        @Override
+        public void rowFinished(ScenarioOutline<?> outline, Object testdatum, long startNanos, long endNanos,
+                Outcome outcome, Throwable throwable)
+        {
+            finished(outcome + " Row " + testdatum, startNanos, endNanos, outcome, throwable);
+        }
+
+        @Override
+        public void stepStarted(AbstractStep<?> step, long startNanos)
+        {
+            events.add("Start Step " + step.getDescription());
+        }
+
+        @Override
+        public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+                Throwable throwable)
+        {
+            finished(outcome + " Step " + step.getDescription(), startNanos, endNanos, outcome, throwable);
+        }
+
+        private void finished(String event, long startNanos, long endNanos, Outcome outcome, Throwable throwable)
+        {
+            Assert.assertTrue(endNanos - startNanos >= 0);
+            // Only failures carry a Throwable
+            Assert.assertEquals(outcome == Outcome.FAIL || outcome == Outcome.FATAL, throwable != null);
+            events.add(event);
+        }
+    }
+}
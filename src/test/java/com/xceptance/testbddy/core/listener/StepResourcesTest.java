@@ -0,0 +1,102 @@
+package com.xceptance.testbddy.core.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.AbstractStep;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+public class StepResourcesTest extends ExecutionTest
+{
+    private final List<StepResources> measured = new ArrayList<>();
+
+    private final ExecutionListener listener = new ExecutionListener()
+    {
+        @Override
+        public void stepFinished(AbstractStep<?> step, long startNanos, long endNanos, Outcome outcome,
+                Throwable throwable, StepResources resources)
+        {
+            measured.add(resources);
+        }
+    };
+
+    @After
+    public void disable()
+    {
+        ExecutionListeners.unregister(listener);
+        StepResources.setEnabled(false);
+    }
+
+    /**
+     * Verifies that the resources of each step are passed to the listeners.
+     */
+    @Test
+    public void shouldMeasureSteps()
+    {
+        ExecutionListeners.register(listener);
+        StepResources.setEnabled(true);
+        new Scenario("Scenario", new Steps().given("an allocating step", () ->
+            {
+                execution += new byte[1024 * 1024].length;
+            }).then("a waiting step", () ->
+                {
+                    try
+                    {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                })).test();
+
+        Assert.assertEquals(2, measured.size());
+        final StepResources allocating = measured.get(0);
+        if (allocating.getAllocatedBytes() != -1)
+        {
+            Assert.assertTrue(allocating.getAllocatedBytes() >= 1024 * 1024);
+        }
+        final StepResources waiting = measured.get(1);
+        Assert.assertTrue(waiting.getWallNanos() >= 50_000_000);
+        if (waiting.getCpuNanos() != -1)
+        {
+            // Sleeping doesn't use the CPU
+            Assert.assertTrue(waiting.getCpuNanos() < waiting.getWallNanos());
+        }
+        Assert.assertTrue(waiting.toString().startsWith("Wall time: "));
+    }
+
+    /**
+     * Verifies that nothing is measured unless enabled.
+     */
+    @Test
+    public void shouldNotMeasureByDefault()
+    {
+        ExecutionListeners.register(listener);
+        Assert.assertNull(StepResources.start());
+        new Scenario("Scenario", new Steps().given("a step", () ->
+            {
+                execution++;
+            })).test();
+        Assert.assertEquals(1, measured.size());
+        Assert.assertNull(measured.get(0));
+    }
+
+    /**
+     * Verifies that stopping twice keeps the first measurement.
+     */
+    @Test
+    public void shouldStopOnce()
+    {
+        StepResources.setEnabled(true);
+        final StepResources resources = StepResources.start().stop();
+        final long wallNanos = resources.getWallNanos();
+        Assert.assertTrue(wallNanos >= 0);
+        Assert.assertEquals(wallNanos, resources.stop().getWallNanos());
+    }
+}
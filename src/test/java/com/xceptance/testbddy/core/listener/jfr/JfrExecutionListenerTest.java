@@ -0,0 +1,117 @@
+package com.xceptance.testbddy.core.listener.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+import com.xceptance.testbddy.core.throwables.errors.FeatureError;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrExecutionListenerTest extends ExecutionTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final JfrExecutionListener listener = new JfrExecutionListener();
+
+    @After
+    public void unregister()
+    {
+        ExecutionListeners.unregister(listener);
+    }
+
+    /**
+     * Verifies that an event is committed for each component with its
+     * description, keyword and outcome.
+     * 
+     * @throws IOException
+     *             If the recording can't be written or read.
+     */
+    @Test
+    public void shouldRecordEvents() throws IOException
+    {
+        ExecutionListeners.register(listener);
+        final Path file = folder.getRoot().toPath().resolve("recording.jfr");
+        try (Recording recording = new Recording())
+        {
+            for (String name : Arrays.asList("Feature", "Scenario", "Row", "Step"))
+            {
+                recording.enable("testbddy." + name).withoutThreshold();
+            }
+            recording.start();
+            executeFeature();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final Map<String, Long> counts = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName(), Collectors.counting()));
+        Assert.assertEquals(Long.valueOf(1), counts.get("testbddy.Feature"));
+        Assert.assertEquals(Long.valueOf(1), counts.get("testbddy.Scenario"));
+        Assert.assertEquals(Long.valueOf(2), counts.get("testbddy.Row"));
+        Assert.assertEquals(Long.valueOf(2), counts.get("testbddy.Step"));
+        final List<RecordedEvent> steps = events.stream()
+                .filter(event -> event.getEventType().getName().equals("testbddy.Step")).collect(Collectors.toList());
+        for (RecordedEvent step : steps)
+        {
+            Assert.assertEquals("Given", step.getString("keyword"));
+            Assert.assertEquals("a number <data>", step.getString("description"));
+        }
+        Assert.assertTrue(steps.stream().anyMatch(step -> "PASS".equals(step.getString("outcome"))));
+        Assert.assertTrue(steps.stream().anyMatch(
+                step -> "FAIL".equals(step.getString("outcome")) && step.getString("failure") != null));
+        final RecordedEvent feature = events.stream()
+                .filter(event -> event.getEventType().getName().equals("testbddy.Feature")).findFirst().get();
+        Assert.assertEquals("Feature", feature.getString("description"));
+        Assert.assertEquals("FAIL", feature.getString("outcome"));
+    }
+
+    /**
+     * Verifies that the components are executed as usual without recording.
+     */
+    @Test
+    public void shouldExecuteWithoutRecording()
+    {
+        ExecutionListeners.register(listener);
+        executeFeature();
+        Assert.assertEquals(2, execution);
+    }
+
+    private void executeFeature()
+    {
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a number <data>", (data) ->
+            {
+                execution++;
+                Assert.assertTrue(data > 0);
+            });
+        Feature feature = new Feature("Feature").withReporter(NoOpReportInterface.getInstance());
+        feature.getScenarios().add(new ScenarioOutline<Integer>("Outline", steps, Arrays.asList(1, -2)));
+        try
+        {
+            feature.test();
+            Assert.fail("FeatureError expected");
+        } catch (FeatureError e)
+        {
+            // Expected for the negative number
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.xceptance.testbddy.core.listener.latency;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest
+{
+    /**
+     * Verifies that each bucket starts right after the previous one ends.
+     */
+    @Test
+    public void shouldHaveContiguousBuckets()
+    {
+        for (int i = 0; i < LatencyHistogram.BUCKETS - 2; i++)
+        {
+            final long highest = LatencyHistogram.highestValue(i);
+            Assert.assertEquals(i, LatencyHistogram.bucket(highest));
+            Assert.assertEquals(i + 1, LatencyHistogram.bucket(highest + 1));
+        }
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(LatencyHistogram.MAX_TRACKABLE));
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    /**
+     * Verifies that the percentiles of uniformly distributed durations are within
+     * the precision of the histogram.
+     */
+    @Test
+    public void shouldComputePercentiles()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++)
+        {
+            histogram.record(i * 1_000);
+        }
+        Assert.assertEquals(10_000, histogram.getCount());
+        Assert.assertEquals(10_000_000, histogram.getMax());
+        Assert.assertEquals(5_000_500, histogram.getMean(), 0.001);
+        assertPercentile(5_000_000, histogram.getValueAtPercentile(50));
+        assertPercentile(9_000_000, histogram.getValueAtPercentile(90));
+        assertPercentile(9_900_000, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertPercentile(1_000, histogram.getValueAtPercentile(0));
+    }
+
+    /**
+     * Verifies that small durations are exact and that a single outlier only
+     * shows in the maximum.
+     */
+    @Test
+    public void shouldKeepOutliersInMaximum()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++)
+        {
+            histogram.record(7);
+        }
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        Assert.assertEquals(7, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    public void shouldReturnZeroWithoutDurations()
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(0, histogram.getMean(), 0);
+        Assert.assertEquals(0, histogram.getMax());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidPercentile()
+    {
+        new LatencyHistogram().getValueAtPercentile(101);
+    }
+
+    /**
+     * Asserts that the value is at most one bucket, about 3%, above the expected
+     * value.
+     */
+    private void assertPercentile(long expected, long actual)
+    {
+        Assert.assertTrue("Expected about " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKETS);
+    }
+}
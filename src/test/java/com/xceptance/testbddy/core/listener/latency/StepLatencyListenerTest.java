@@ -0,0 +1,99 @@
+package com.xceptance.testbddy.core.listener.latency;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.listener.ExecutionListeners;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+public class StepLatencyListenerTest extends ExecutionTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final StepLatencyListener listener = new StepLatencyListener();
+
+    @After
+    public void unregister()
+    {
+        ExecutionListeners.unregister(listener);
+    }
+
+    /**
+     * Verifies that all rows of an outline are recorded for the step definition
+     * with unresolved placeholders, while skipped steps aren't recorded.
+     */
+    @Test
+    public void shouldRecordStepDefinitions()
+    {
+        ExecutionListeners.register(listener);
+        TypeSteps<Integer> steps = new TypeSteps<Integer>().given("a number <data>", (data) ->
+            {
+                execution++;
+            }).then("it is positive", (data) ->
+                {
+                    Assert.assertTrue(data > 0);
+                });
+        try
+        {
+            new ScenarioOutline<Integer>("Outline", steps, Arrays.asList(1, 2, -3, 4)).test();
+        } catch (Error e)
+        {
+            // Expected for the negative number
+        }
+        new Scenario("Scenario", new Steps().when("nothing happens", () ->
+            {
+            })).skip().test();
+
+        Assert.assertEquals(4, execution);
+        Assert.assertEquals(2, listener.getHistograms().size());
+        Assert.assertEquals(4, listener.getHistograms().get("Given a number <data>").getCount());
+        Assert.assertEquals(4, listener.getHistograms().get("Then it is positive").getCount());
+    }
+
+    /**
+     * Verifies that the summary is printed and written with a line per step
+     * definition.
+     * 
+     * @throws IOException
+     *             If the summary can't be read.
+     */
+    @Test
+    public void shouldWriteSummary() throws IOException
+    {
+        ExecutionListeners.register(listener);
+        new Scenario("Scenario", new Steps().given("a step, with a comma", () ->
+            {
+                execution++;
+            })).test();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        listener.printSummary(new PrintStream(out, true, "UTF-8"));
+        Assert.assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains("Given a step, with a comma"));
+
+        final Path file = folder.getRoot().toPath().resolve("report").resolve(StepLatencyListener.FILE_NAME);
+        listener.writeSummary(file);
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(2, lines.size());
+        Assert.assertEquals("step,count,mean,p50,p90,p99,max,cpuMean,allocatedMean", lines.get(0));
+        Assert.assertTrue(lines.get(1).startsWith("\"Given a step, with a comma\",1,"));
+        // Resources weren't measured
+        Assert.assertTrue(lines.get(1).endsWith(",-1,-1"));
+    }
+}
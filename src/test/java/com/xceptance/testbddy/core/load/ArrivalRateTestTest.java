@@ -0,0 +1,150 @@
+package com.xceptance.testbddy.core.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+
+public class ArrivalRateTestTest
+{
+    private final AtomicInteger execution = new AtomicInteger();
+
+    /**
+     * Creates a feature with one scenario, whose step sleeps for the specified
+     * time.
+     * 
+     * @param sleepMillis
+     *            The time the step sleeps.
+     * @return The Feature.
+     */
+    private Feature feature(final long sleepMillis)
+    {
+        return new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a step", () ->
+                    {
+                        execution.incrementAndGet();
+                        try
+                        {
+                            Thread.sleep(sleepMillis);
+                        } catch (InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                    })))).withReporter(null);
+    }
+
+    /**
+     * Verifies that the iterations are started at the rate.
+     */
+    @Test
+    public void shouldStartIterationsAtRate()
+    {
+        ArrivalRateResult result = new ArrivalRateTest(feature(0)).rate(200).threads(2).iterations(20)
+                                                                  .lateAfter(1, TimeUnit.SECONDS).run();
+
+        Assert.assertEquals(20, execution.get());
+        Assert.assertEquals(20, result.getIterations());
+        Assert.assertEquals(20, result.getScheduledIterations());
+        Assert.assertEquals(0, result.getLateIterations());
+        Assert.assertEquals(0, result.getDroppedIterations());
+        Assert.assertEquals(20, result.getLatency().getCount());
+        Assert.assertEquals(20, result.getSteps().get("Given a step").getCount());
+        // The last iteration is intended to start after 19 intervals of 5 ms
+        Assert.assertTrue(result.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(95));
+    }
+
+    /**
+     * Verifies that the latency includes the time an iteration waited for a
+     * thread, while the service time doesn't.
+     */
+    @Test
+    public void shouldCorrectCoordinatedOmission()
+    {
+        ArrivalRateResult result = new ArrivalRateTest(feature(30)).rate(100).iterations(10).run();
+
+        Assert.assertEquals(10, result.getIterations());
+        Assert.assertTrue(result.getLateIterations() > 0);
+        Assert.assertTrue(result.getServiceTime().getMax() < TimeUnit.MILLISECONDS.toNanos(100));
+        // The last iteration is intended to start after 90 ms, but starts after 270 ms
+        Assert.assertTrue(result.getLatency().getMax() >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assert.assertTrue(result.getStartDelay().getMax() >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    /**
+     * Verifies that iterations starting too late are dropped.
+     */
+    @Test
+    public void shouldDropLateIterations()
+    {
+        ArrivalRateResult result = new ArrivalRateTest(feature(30)).rate(100).iterations(10)
+                                                                   .dropAfter(15, TimeUnit.MILLISECONDS).run();
+
+        Assert.assertTrue(result.getDroppedIterations() > 0);
+        Assert.assertEquals(10, result.getIterations() + result.getDroppedIterations());
+        Assert.assertEquals(execution.get(), result.getIterations());
+        Assert.assertEquals(10, result.getScheduledIterations());
+    }
+
+    /**
+     * Verifies that iterations are dropped once the backlog is full.
+     */
+    @Test
+    public void shouldDropIterationsIfBacklogIsFull()
+    {
+        ArrivalRateResult result = new ArrivalRateTest(feature(30)).rate(1000).iterations(10).backlog(2).run();
+
+        // One iteration runs and two wait, while the others are scheduled
+        Assert.assertTrue(result.getDroppedIterations() > 0);
+        Assert.assertEquals(10, result.getIterations() + result.getDroppedIterations());
+        Assert.assertEquals(execution.get(), result.getIterations());
+        Assert.assertEquals(10, result.getScheduledIterations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyBacklog()
+    {
+        new ArrivalRateTest(feature(0)).backlog(0);
+    }
+
+    /**
+     * Verifies that no iteration is scheduled after the duration.
+     */
+    @Test
+    public void shouldStopAfterDuration()
+    {
+        ArrivalRateResult result = new ArrivalRateTest(feature(0)).rate(100).threads(2)
+                                                                  .duration(100, TimeUnit.MILLISECONDS).run();
+
+        Assert.assertEquals(10, result.getScheduledIterations());
+        Assert.assertEquals(10, execution.get());
+    }
+
+    /**
+     * Verifies that the iterations are reported before the scenarios and steps.
+     */
+    @Test
+    public void shouldReportIterations()
+    {
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        new ArrivalRateTest(feature(0).withReporter(reporter)).rate(100).iterations(2).lateAfter(1, TimeUnit.SECONDS)
+                                                              .run();
+
+        Assert.assertEquals(Arrays.asList("Feature: Load test: Feature", "Scenario: Iterations", "Pass: Scenario: Iterations",
+                "Scenario: Scenario", "Pass: Scenario: Scenario", "Scenario: Step: Given a step",
+                "Pass: Scenario: Step: Given a step", "Finish"), reporter.getLines());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNoRate()
+    {
+        new ArrivalRateTest(new Feature("Feature")).rate(0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.xceptance.testbddy.core.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.scenario.ScenarioOutline;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.bdd.steps.TypeSteps;
+import com.xceptance.testbddy.core.util.Console;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+
+public class LoadTestTest
+{
+    private final AtomicInteger execution = new AtomicInteger();
+
+    /**
+     * Verifies that each user executes all scenarios in each iteration.
+     */
+    @Test
+    public void shouldExecuteIterationsPerUser()
+    {
+        Feature feature = new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a step", () -> execution.incrementAndGet())),
+                new ScenarioOutline<Integer>("Outline", new TypeSteps<Integer>().when("a number <data>", (data) ->
+                    {
+                        execution.incrementAndGet();
+                    }), Arrays.asList(1, 2)))).withReporter(null);
+
+        LoadResult result = new LoadTest(feature).users(4).iterations(5).run();
+
+        Assert.assertEquals(4 * 5 * 3, execution.get());
+        Assert.assertEquals(20, result.getIterations());
+        Assert.assertEquals(0, result.getFailedIterations());
+        Assert.assertEquals(4, result.getUsers());
+        Assert.assertEquals(20, result.getScenarios().get("Scenario").getCount());
+        Assert.assertEquals(20, result.getScenarios().get("Outline").getCount());
+        Assert.assertEquals(20, result.getSteps().get("Given a step").getCount());
+        Assert.assertEquals(40, result.getSteps().get("When a number <data>").getCount());
+        Assert.assertTrue(result.getThroughput() > 0);
+    }
+
+    /**
+     * Verifies that failed scenarios are counted, but don't stop the load test.
+     */
+    @Test
+    public void shouldCountFailures()
+    {
+        Feature feature = new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a step", () ->
+                    {
+                        if (execution.incrementAndGet() % 2 == 0)
+                        {
+                            Assert.fail("Every second execution fails");
+                        }
+                    })))).withReporter(null);
+
+        LoadResult result = new LoadTest(feature).users(2).iterations(10).run();
+
+        Assert.assertEquals(20, execution.get());
+        Assert.assertEquals(20, result.getIterations());
+        Assert.assertEquals(10, result.getFailedIterations());
+        Assert.assertEquals(10, result.getScenarios().get("Scenario").getFailures());
+        Assert.assertEquals(10, result.getSteps().get("Given a step").getFailures());
+    }
+
+    /**
+     * Verifies that the users stop once the duration is over.
+     */
+    @Test
+    public void shouldStopAfterDuration()
+    {
+        Feature feature = new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a slow step", () ->
+                    {
+                        execution.incrementAndGet();
+                        try
+                        {
+                            Thread.sleep(10);
+                        } catch (InterruptedException e)
+                        {
+                            Thread.currentThread().interrupt();
+                        }
+                    })))).withReporter(null);
+
+        LoadResult result = new LoadTest(feature).users(2).rampUp(50, TimeUnit.MILLISECONDS)
+                                                 .duration(200, TimeUnit.MILLISECONDS).run();
+
+        Assert.assertTrue(result.getIterations() > 2);
+        Assert.assertEquals(execution.get(), result.getIterations());
+        Assert.assertTrue(result.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    /**
+     * Verifies that the aggregated result is reported to the reporter of the
+     * feature.
+     */
+    @Test
+    public void shouldReportResult()
+    {
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        Feature feature = new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a step", () -> execution.incrementAndGet())))).withReporter(reporter);
+
+        new LoadTest(feature).users(2).iterations(3).run();
+
+        Assert.assertEquals(Arrays.asList("Feature: Load test: Feature", "Scenario: Scenario", "Pass: Scenario: Scenario",
+                "Scenario: Step: Given a step", "Pass: Scenario: Step: Given a step", "Finish"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that the executions aren't printed to the console during the load
+     * test, but afterwards again.
+     */
+    @Test
+    public void shouldNotPrintExecutions()
+    {
+        Feature feature = new Feature("Feature", Arrays.<AbstractScenario> asList(new Scenario("Scenario",
+                new Steps().given("a step", () -> execution.incrementAndGet())))).withReporter(null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(output, true));
+        try
+        {
+            new LoadTest(feature).users(2).iterations(3).run();
+            Assert.assertEquals(0, output.size());
+            Assert.assertTrue(Console.isEnabled());
+        } finally
+        {
+            System.setOut(console);
+        }
+        Assert.assertEquals(6, execution.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNoUsers()
+    {
+        new LoadTest(new Feature("Feature")).users(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectIgnoredFeature()
+    {
+        new LoadTest(new Feature("Feature").ignore()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.xceptance.testbddy.core.reporting;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FlushPolicyTest
+{
+    /**
+     * Verifies that the report is only written at the end by default.
+     */
+    @Test
+    public void shouldOnlyFlushAtEndByDefault()
+    {
+        FlushPolicy policy = new FlushPolicy(0, 0);
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertFalse(policy.featureFinished());
+        }
+        Assert.assertTrue(policy.hasChanges());
+        policy.flushed();
+        Assert.assertFalse(policy.hasChanges());
+    }
+
+    /**
+     * Verifies that the report is written after the configured number of
+     * features.
+     */
+    @Test
+    public void shouldFlushAfterFeatures()
+    {
+        FlushPolicy policy = new FlushPolicy(3, 0);
+        Assert.assertFalse(policy.featureFinished());
+        Assert.assertFalse(policy.featureFinished());
+        Assert.assertTrue(policy.featureFinished());
+        policy.flushed();
+        Assert.assertFalse(policy.featureFinished());
+    }
+
+    /**
+     * Verifies that the report is written once the interval passed.
+     * 
+     * @throws InterruptedException
+     *             If the test is interrupted while waiting.
+     */
+    @Test
+    public void shouldFlushAfterInterval() throws InterruptedException
+    {
+        FlushPolicy policy = new FlushPolicy(0, 20);
+        Assert.assertFalse(policy.featureFinished());
+        Thread.sleep(50);
+        Assert.assertTrue(policy.featureFinished());
+        policy.flushed();
+        Assert.assertFalse(policy.featureFinished());
+    }
+
+    /**
+     * Verifies that the policy is configured by the system properties.
+     */
+    @Test
+    public void shouldReadSystemProperties()
+    {
+        System.setProperty(FlushPolicy.FEATURES_PROPERTY, "10");
+        System.setProperty(FlushPolicy.INTERVAL_PROPERTY, "5000");
+        try
+        {
+            FlushPolicy policy = FlushPolicy.fromSystemProperties();
+            Assert.assertEquals(10, policy.getFeatures());
+            Assert.assertEquals(5000, policy.getIntervalMillis());
+        } finally
+        {
+            System.clearProperty(FlushPolicy.FEATURES_PROPERTY);
+            System.clearProperty(FlushPolicy.INTERVAL_PROPERTY);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.xceptance.testbddy.core.reporting;
+
+import java.nio.file.Paths;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReportFilesTest
+{
+    /**
+     * Verifies that the shard is added in front of the extension.
+     */
+    @Test
+    public void shouldAddShardToFileName()
+    {
+        Assert.assertEquals("extent.html", ReportFiles.getShardFileName("extent.html", null));
+        Assert.assertEquals("extent-2.html", ReportFiles.getShardFileName("extent.html", "2"));
+        Assert.assertEquals("results-2", ReportFiles.getShardFileName("results", "2"));
+    }
+
+    /**
+     * Verifies that the shard is read from the system property.
+     */
+    @Test
+    public void shouldReadShardProperty()
+    {
+        String previous = System.getProperty(ReportFiles.SHARD_PROPERTY);
+        try
+        {
+            System.setProperty(ReportFiles.SHARD_PROPERTY, "3");
+            Assert.assertEquals(Paths.get(ReportInterface.PATH, "results-3.jsonl"), ReportFiles.getPath("results.jsonl"));
+            // The process id is a number
+            System.setProperty(ReportFiles.SHARD_PROPERTY, ReportFiles.PID_SHARD);
+            Assert.assertTrue(ReportFiles.getShard().matches("\\d+"));
+            System.clearProperty(ReportFiles.SHARD_PROPERTY);
+            Assert.assertNull(ReportFiles.getShard());
+        } finally
+        {
+            if (previous != null)
+            {
+                System.setProperty(ReportFiles.SHARD_PROPERTY, previous);
+            }
+        }
+    }
+}
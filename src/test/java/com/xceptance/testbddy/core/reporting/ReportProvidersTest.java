@@ -0,0 +1,72 @@
+package com.xceptance.testbddy.core.reporting;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.reporting.composite.CompositeReportInterface;
+import com.xceptance.testbddy.core.reporting.extentreports.ExtentReportInterface;
+import com.xceptance.testbddy.core.reporting.noop.NoOpReportInterface;
+
+public class ReportProvidersTest
+{
+    /**
+     * Verifies that the built-in providers are found by their names.
+     */
+    @Test
+    public void shouldFindBuiltInProviders()
+    {
+        Assert.assertSame(NoOpReportInterface.getInstance(), ReportProviders.getReporter("none"));
+        Assert.assertSame(ExtentReportInterface.getInstance(), ReportProviders.getReporter("extent"));
+    }
+
+    /**
+     * Verifies that several names create a composite reporter only once.
+     */
+    @Test
+    public void shouldCombineSeveralProviders()
+    {
+        ReportInterface reporter = ReportProviders.getReporter("none, extent");
+        Assert.assertTrue(reporter instanceof CompositeReportInterface);
+        Assert.assertSame(reporter, ReportProviders.getReporter("none, extent"));
+    }
+
+    /**
+     * Verifies that finished reporters are only finished once and looked up again
+     * afterwards.
+     */
+    @Test
+    public void shouldFinishReportersOnce()
+    {
+        ReportInterface reporter = ReportProviders.getReporter("none, none");
+        ReportProviders.finishReports();
+        ReportInterface lookedUp = ReportProviders.getReporter("none, none");
+        Assert.assertNotSame(reporter, lookedUp);
+        Assert.assertSame(lookedUp, ReportProviders.getReporter("none, none"));
+    }
+
+    /**
+     * Verifies that an unknown name is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownProvider()
+    {
+        ReportProviders.getReporter("unknown");
+    }
+
+    /**
+     * Verifies that a feature uses the reporter chosen by the system property.
+     */
+    @Test
+    public void shouldInitializeFeatureWithChosenReporter()
+    {
+        System.setProperty(ReportProviders.REPORTER_PROPERTY, "none");
+        try
+        {
+            Assert.assertSame(NoOpReportInterface.getInstance(), new Feature("Feature Description").reporter);
+        } finally
+        {
+            System.clearProperty(ReportProviders.REPORTER_PROPERTY);
+        }
+    }
+}
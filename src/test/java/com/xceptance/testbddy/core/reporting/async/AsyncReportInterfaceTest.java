@@ -0,0 +1,192 @@
+package com.xceptance.testbddy.core.reporting.async;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.async.AsyncReportInterface.Backpressure;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+
+public class AsyncReportInterfaceTest
+{
+    /**
+     * Verifies that the delegate receives the same report as without the
+     * asynchronous reporter once the feature is finished.
+     */
+    @Test
+    public void shouldReportFeatureInOrder()
+    {
+        CollectingReportInterface collector = new CollectingReportInterface();
+        try (AsyncReportInterface reporter = new AsyncReportInterface(collector))
+        {
+            Feature feature = new Feature("Feature Description").withReporter(reporter).parallel(2);
+            for (int i = 0; i < 2; i++)
+            {
+                feature.getScenarios().add(new Scenario("Scenario " + i, new Steps().given("Step " + i, () ->
+                    {
+                    })));
+            }
+            feature.test();
+
+            // The feature waits for the delegate when it is finished
+            Assert.assertEquals(Arrays.asList("Feature: null: Feature Description", "Scenario: Scenario 0",
+                    "Step: Step 0", "Pass: Step: Step 0", "Pass: Scenario: Scenario 0", "Scenario: Scenario 1",
+                    "Step: Step 1", "Pass: Step: Step 1", "Pass: Scenario: Scenario 1",
+                    "Pass: Feature: null: Feature Description", "Finish"), collector.getLines());
+        }
+    }
+
+    /**
+     * Verifies that events are dropped and counted if the buffer is full.
+     * 
+     * @throws InterruptedException
+     *             If the test is interrupted while waiting for the consumer.
+     */
+    @Test
+    public void shouldDropEventsWhenFull() throws InterruptedException
+    {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingReportInterface collector = new CollectingReportInterface()
+            {
+                @Override
+                public ReportElement feature(String description)
+                {
+                    blocked.countDown();
+                    try
+                    {
+                        release.await();
+                    } catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.feature(description);
+                }
+            };
+        try (AsyncReportInterface reporter = new AsyncReportInterface(collector, 4, Backpressure.DROP, true))
+        {
+            // Keep the consumer busy
+            reporter.feature("Feature Description");
+            blocked.await();
+            for (int i = 0; i < 10; i++)
+            {
+                reporter.scenario("Scenario " + i);
+            }
+            Assert.assertEquals(6, reporter.getDroppedEvents());
+            release.countDown();
+            reporter.finishReport();
+            Assert.assertEquals(Arrays.asList("Feature: Feature Description", "Scenario: Scenario 0",
+                    "Scenario: Scenario 1", "Scenario: Scenario 2", "Scenario: Scenario 3", "Finish"),
+                    collector.getLines());
+        }
+    }
+
+    /**
+     * Verifies that an Error thrown by the delegate doesn't stop the consumer, so
+     * blocked producers and the finishing event still get through.
+     */
+    @Test(timeout = 10_000)
+    public void shouldKeepConsumingAfterError()
+    {
+        CollectingReportInterface collector = new CollectingReportInterface()
+            {
+                @Override
+                public ReportElement feature(String description)
+                {
+                    throw new AssertionError("Expected");
+                }
+            };
+        try (AsyncReportInterface reporter = new AsyncReportInterface(collector, 4, Backpressure.BLOCK, true))
+        {
+            reporter.feature("Feature Description");
+            for (int i = 0; i < 10; i++)
+            {
+                reporter.scenario("Scenario " + i);
+            }
+            reporter.finishReport();
+            Assert.assertEquals(11, collector.getLines().size());
+            Assert.assertEquals("Finish", collector.getLines().get(10));
+            Assert.assertEquals(0, reporter.getDroppedEvents());
+        }
+    }
+
+    /**
+     * Verifies that closing applies every remaining event.
+     */
+    @Test
+    public void shouldDrainOnClose()
+    {
+        CollectingReportInterface collector = new CollectingReportInterface();
+        AsyncReportInterface reporter = new AsyncReportInterface(collector, 16, Backpressure.BLOCK, false);
+        for (int i = 0; i < 100; i++)
+        {
+            reporter.scenario("Scenario " + i).pass("");
+        }
+        reporter.close();
+        Assert.assertEquals(200, collector.getLines().size());
+        Assert.assertEquals(0, reporter.getDroppedEvents());
+    }
+
+    /**
+     * Verifies that events added after closing are dropped and counted, while
+     * finishing events still reach the delegate.
+     */
+    @Test
+    public void shouldFinishAfterClose()
+    {
+        CollectingReportInterface collector = new CollectingReportInterface();
+        AsyncReportInterface reporter = new AsyncReportInterface(collector, 16, Backpressure.BLOCK, true);
+        reporter.scenario("Scenario 0");
+        reporter.close();
+        reporter.scenario("Scenario 1");
+        reporter.finishReport();
+        Assert.assertEquals(Arrays.asList("Scenario: Scenario 0", "Finish"), collector.getLines());
+        Assert.assertEquals(1, reporter.getDroppedEvents());
+    }
+
+    /**
+     * Verifies that every event added while closing is either applied or
+     * counted as dropped.
+     * 
+     * @throws InterruptedException
+     *             If the test is interrupted while waiting for the producers.
+     */
+    @Test
+    public void shouldNotLoseEventsWhileClosing() throws InterruptedException
+    {
+        final int producers = 8;
+        final int events = 10_000;
+        CollectingReportInterface collector = new CollectingReportInterface();
+        AsyncReportInterface reporter = new AsyncReportInterface(collector, 64, Backpressure.BLOCK, false);
+        CountDownLatch started = new CountDownLatch(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++)
+        {
+            Thread thread = new Thread(() ->
+                {
+                    started.countDown();
+                    for (int i = 0; i < events; i++)
+                    {
+                        reporter.scenario("Scenario " + i);
+                    }
+                });
+            threads.add(thread);
+            thread.start();
+        }
+        started.await();
+        reporter.close();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        Assert.assertEquals(producers * events, collector.getLines().size() + reporter.getDroppedEvents());
+    }
+}
@@ -0,0 +1,109 @@
+package com.xceptance.testbddy.core.reporting.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferTest
+{
+    /**
+     * Verifies that the capacity is rounded up to a power of two and a full
+     * buffer rejects elements.
+     */
+    @Test
+    public void shouldRejectWhenFull()
+    {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        Assert.assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++)
+        {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(Integer.valueOf(0), buffer.poll());
+        Assert.assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        Assert.assertNull(buffer.poll());
+    }
+
+    /**
+     * Verifies that the buffer is only empty once every added element was
+     * polled.
+     */
+    @Test
+    public void shouldBeEmptyAfterPollingEverything()
+    {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        Assert.assertTrue(buffer.isEmpty());
+        buffer.offer(0);
+        Assert.assertFalse(buffer.isEmpty());
+        buffer.poll();
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    /**
+     * Verifies that an invalid capacity is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidCapacity()
+    {
+        new RingBuffer<>(0);
+    }
+
+    /**
+     * Verifies that every element of several producers is consumed exactly once
+     * and in the order of its producer.
+     * 
+     * @throws InterruptedException
+     *             If the test is interrupted while waiting for the producers.
+     */
+    @Test
+    public void shouldKeepOrderOfEachProducer() throws InterruptedException
+    {
+        final int producers = 4;
+        final int elements = 100_000;
+        final RingBuffer<long[]> buffer = new RingBuffer<>(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++)
+        {
+            final int producer = p;
+            Thread thread = new Thread(() ->
+                {
+                    for (int i = 0; i < elements; i++)
+                    {
+                        final long[] element = new long[] { producer, i };
+                        while (!buffer.offer(element))
+                        {
+                            Thread.yield();
+                        }
+                    }
+                });
+            threads.add(thread);
+            thread.start();
+        }
+
+        long[] next = new long[producers];
+        int consumed = 0;
+        while (consumed < producers * elements)
+        {
+            long[] element = buffer.poll();
+            if (element == null)
+            {
+                Thread.yield();
+                continue;
+            }
+            Assert.assertEquals(next[(int) element[0]]++, element[1]);
+            consumed++;
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        Assert.assertNull(buffer.poll());
+    }
+}
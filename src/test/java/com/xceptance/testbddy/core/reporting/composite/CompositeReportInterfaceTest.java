@@ -0,0 +1,78 @@
+package com.xceptance.testbddy.core.reporting.composite;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.recording.RecordingReportInterface;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+
+public class CompositeReportInterfaceTest
+{
+    /**
+     * Verifies that each reporter receives the whole report of a feature.
+     */
+    @Test
+    public void shouldReportToEachReporter()
+    {
+        CollectingReportInterface first = new CollectingReportInterface();
+        CollectingReportInterface second = new CollectingReportInterface();
+        Feature feature = new Feature("Feature Description").withReporter(new CompositeReportInterface(first, second));
+        feature.getScenarios().add(new Scenario("Scenario Description", new Steps().given("Step Description", () ->
+            {
+            })));
+        feature.test();
+
+        List<String> expected = Arrays.asList("Feature: null: Feature Description", "Scenario: Scenario Description",
+                "Step: Step Description", "Pass: Step: Step Description", "Pass: Scenario: Scenario Description",
+                "Pass: Feature: null: Feature Description", "Finish");
+        Assert.assertEquals(expected, first.getLines());
+        Assert.assertEquals(expected, second.getLines());
+    }
+
+    /**
+     * Verifies that each reporter creates its children beneath its own part of a
+     * composite element.
+     */
+    @Test
+    public void shouldScopeEachReporterToItsElement()
+    {
+        RecordingReportInterface recorder = new RecordingReportInterface();
+        CollectingReportInterface collector = new CollectingReportInterface();
+        ReportInterface composite = new CompositeReportInterface(recorder, collector);
+        composite.withParent(composite.scenario("Scenario Description")).scenario("Nested Description").pass("");
+
+        CollectingReportInterface replayed = new CollectingReportInterface();
+        recorder.replay(replayed);
+        Assert.assertEquals(collector.getLines(), replayed.getLines());
+    }
+
+    /**
+     * Verifies that a lazy description is computed only once for all reporters.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldComputeDescriptionOnce() throws ClassNotFoundException
+    {
+        AtomicInteger computed = new AtomicInteger();
+        CollectingReportInterface first = new CollectingReportInterface();
+        CollectingReportInterface second = new CollectingReportInterface();
+        new CompositeReportInterface(first, second).step(new GherkinKeyword("Given"), () ->
+            {
+                computed.incrementAndGet();
+                return "Step Description";
+            });
+        Assert.assertEquals(1, computed.get());
+        Assert.assertEquals(Arrays.asList("Step: Step Description"), second.getLines());
+    }
+}
@@ -0,0 +1,252 @@
+package com.xceptance.testbddy.core.reporting.extentreports;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.aventstack.extentreports.model.Test;
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.AbstractScenario;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.reporting.FlushPolicy;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+import com.xceptance.testbddy.core.reporting.recording.RecordingReportInterface;
+
+public class ExtentReportInterfaceTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Verifies that steps created on different threads are created beneath the
+     * scenario of their report context.
+     * 
+     * @throws Exception
+     *             If a thread could not be joined.
+     */
+    @org.junit.Test
+    public void shouldCreateStepsBeneathTheirParentConcurrently() throws Exception
+    {
+        final ExtentReportInterface reporter = ExtentReportInterface.getInstance();
+        final ReportElement feature = reporter.feature("Concurrent Feature");
+        final int scenarios = 4;
+        final int steps = 50;
+        final List<ReportElement> scenarioElements = new ArrayList<>();
+        for (int i = 0; i < scenarios; i++)
+        {
+            scenarioElements.add(reporter.withParent(feature).scenario("Scenario " + i));
+        }
+
+        // Create all steps at the same time
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < scenarios; i++)
+        {
+            final int scenario = i;
+            final ReportInterface stepsReporter = reporter.withParent(scenarioElements.get(i));
+            threads.add(new Thread(() ->
+                {
+                    try
+                    {
+                        start.await();
+                        for (int j = 0; j < steps; j++)
+                        {
+                            stepsReporter.step(new GherkinKeyword("Given"), "Step " + scenario).pass("");
+                        }
+                    } catch (InterruptedException | ClassNotFoundException e)
+                    {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        List<Test> scenarioModels = model(feature).getNodeContext().getAll();
+        Assert.assertEquals(scenarios, scenarioModels.size());
+        for (int i = 0; i < scenarios; i++)
+        {
+            List<Test> stepModels = model(scenarioElements.get(i)).getNodeContext().getAll();
+            Assert.assertEquals(steps, stepModels.size());
+            for (Test step : stepModels)
+            {
+                Assert.assertEquals("Step " + i, step.getName());
+            }
+        }
+    }
+
+    /**
+     * Verifies that features executed at the same time report their scenarios and
+     * steps beneath their own nodes.
+     * 
+     * @throws Exception
+     *             If a thread could not be joined.
+     */
+    @org.junit.Test
+    public void shouldReportConcurrentFeaturesBeneathTheirOwnNodes() throws Exception
+    {
+        final List<ReportElement> features = Collections.synchronizedList(new ArrayList<>());
+        // Remembers the feature elements and delegates everything else
+        final ReportInterface reporter = new ReportInterface()
+            {
+                private final ExtentReportInterface extent = ExtentReportInterface.getInstance();
+
+                @Override
+                public ReportElement feature(String description)
+                {
+                    ReportElement feature = extent.feature(description);
+                    features.add(feature);
+                    return feature;
+                }
+
+                @Override
+                public ReportElement scenario(String description)
+                {
+                    return extent.scenario(description);
+                }
+
+                @Override
+                public <T> ReportElement scenarioOutline(String description, T testdata)
+                {
+                    return extent.scenarioOutline(description, testdata);
+                }
+
+                @Override
+                public <T> ReportElement scenarioOutline(String description)
+                {
+                    return extent.scenarioOutline(description);
+                }
+
+                @Override
+                public ReportElement step(GherkinKeyword keyword, String description)
+                {
+                    return extent.step(keyword, description);
+                }
+
+                @Override
+                public ReportInterface withParent(ReportElement parent)
+                {
+                    return extent.withParent(parent);
+                }
+
+                @Override
+                public void finishReport()
+                {
+                }
+            };
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++)
+        {
+            final List<AbstractScenario> scenarios = new ArrayList<>();
+            for (int j = 0; j < 3; j++)
+            {
+                final Steps steps = new Steps();
+                for (int k = 0; k < 5; k++)
+                {
+                    steps.given("Feature " + i + " Scenario " + j, () -> Thread.yield());
+                }
+                scenarios.add(new Scenario("Feature " + i + " Scenario " + j, steps));
+            }
+            final Feature feature = new Feature("Feature " + i, scenarios).withReporter(reporter).parallel(3);
+            threads.add(new Thread(feature::test));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        Assert.assertEquals(2, features.size());
+        for (ReportElement feature : features)
+        {
+            // The name of the feature ends with the description, which is "Feature i"
+            final String name = model(feature).getName();
+            final String featureName = name.substring(name.lastIndexOf("Feature "));
+            final List<Test> scenarioModels = model(feature).getNodeContext().getAll();
+            Assert.assertEquals(3, scenarioModels.size());
+            for (int j = 0; j < scenarioModels.size(); j++)
+            {
+                final Test scenario = scenarioModels.get(j);
+                Assert.assertEquals(featureName + " Scenario " + j, scenario.getName());
+                Assert.assertEquals(5, scenario.getNodeContext().size());
+                for (Test step : scenario.getNodeContext().getAll())
+                {
+                    Assert.assertEquals(scenario.getName(), step.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies that a recording with report contexts is replayed beneath the
+     * corresponding nodes.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @org.junit.Test
+    public void shouldReplayRecordingBeneathParents() throws ClassNotFoundException
+    {
+        final RecordingReportInterface recorder = new RecordingReportInterface();
+        final ReportElement scenario = recorder.scenario("Recorded Scenario");
+        recorder.withParent(scenario).step(new GherkinKeyword("Given"), "Recorded Step").pass("");
+        scenario.pass("");
+
+        final ExtentReportInterface reporter = ExtentReportInterface.getInstance();
+        final ReportElement feature = reporter.feature("Recorded Feature");
+        recorder.replay(reporter.withParent(feature));
+
+        final List<Test> scenarioModels = model(feature).getNodeContext().getAll();
+        Assert.assertEquals(1, scenarioModels.size());
+        Assert.assertEquals("Recorded Scenario", scenarioModels.get(0).getName());
+        Assert.assertEquals(1, scenarioModels.get(0).getNodeContext().size());
+        Assert.assertEquals("Recorded Step", scenarioModels.get(0).getNodeContext().get(0).getName());
+    }
+
+    /**
+     * Verifies that an independent report keeps its own elements and is written to
+     * its own file.
+     * 
+     * @throws IOException
+     *             If the temporary folder can't be created.
+     */
+    @org.junit.Test
+    public void shouldWriteIndependentReport() throws IOException
+    {
+        final File file = new File(folder.newFolder(), "independent.html");
+        final ExtentReportInterface reporter = new ExtentReportInterface(file, new FlushPolicy(0, 0));
+        reporter.feature("Independent Feature").pass("");
+        Assert.assertNotSame(ExtentReportInterface.getInstance().getExtentReports(), reporter.getExtentReports());
+        Assert.assertFalse(file.exists());
+
+        reporter.finishReport();
+        Assert.assertTrue(file.isFile());
+    }
+
+    /**
+     * Returns the model of the specified element.
+     * 
+     * @param element
+     *            The {@link ExtentElement}.
+     * @return The model of the element.
+     */
+    private static Test model(ReportElement element)
+    {
+        return ((ExtentElement) element).getElement().getModel();
+    }
+}
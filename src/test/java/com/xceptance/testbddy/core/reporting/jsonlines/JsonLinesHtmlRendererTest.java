@@ -0,0 +1,109 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.throwables.exceptions.FeatureException;
+
+public class JsonLinesHtmlRendererTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Verifies that the events of a feature are rendered with nested elements
+     * and a summary.
+     * 
+     * @throws IOException
+     *             If a file could not be read or written.
+     */
+    @Test
+    public void shouldRenderFeature() throws IOException
+    {
+        Path events = folder.getRoot().toPath().resolve("results.jsonl");
+        Path report = folder.getRoot().toPath().resolve("html/report.html");
+        JsonLinesReportInterface reporter = new JsonLinesReportInterface(events);
+        Feature feature = new Feature("Feature <Description>").withReporter(reporter);
+        feature.getScenarios().add(new Scenario("Passing Scenario", new Steps().given("Passing Step", () ->
+            {
+            })));
+        feature.getScenarios().add(new Scenario("Failing Scenario", new Steps().then("Failing Step", () ->
+            {
+                throw new IllegalStateException("Intentional failure");
+            })));
+        try
+        {
+            feature.test();
+            Assert.fail("Feature should fail");
+        } catch (FeatureException e)
+        {
+            // Expected
+        }
+        reporter.finishReport();
+
+        Assert.assertEquals(10, JsonLinesHtmlRenderer.render(events, report));
+        String html = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("Feature &lt;Description&gt;"));
+        Assert.assertTrue(html.contains("<span class=\"keyword\">Given</span>Passing Step"));
+        Assert.assertTrue(html.contains("<details class=\"fatal\" open><summary><span class=\"status\">fatal</span>"
+                + "<span class=\"keyword\">Then</span>Failing Step"));
+        Assert.assertTrue(html.contains("Intentional failure"));
+        // Both steps, one passed and one fatal
+        Assert.assertTrue(html.contains("<tr><th>step</th><td>1</td><td>0</td><td>0</td><td>0</td><td>1</td></tr>"));
+        Assert.assertTrue(html.endsWith("</html>\n"));
+    }
+
+    /**
+     * Verifies that elements without a result are rendered at the end.
+     * 
+     * @throws IOException
+     *             If a file could not be read or written.
+     */
+    @Test
+    public void shouldRenderUnfinishedElements() throws IOException
+    {
+        Path events = folder.getRoot().toPath().resolve("results.jsonl");
+        Path report = folder.getRoot().toPath().resolve("report.html");
+        Files.write(events, Arrays.asList("{\"type\":\"feature\",\"id\":1,\"description\":\"Killed\"}",
+                "{\"type\":\"scenario\",\"id\":2,\"parent\":1,\"description\":\"Running\"}"), StandardCharsets.UTF_8);
+        JsonLinesHtmlRenderer.render(events, report);
+        String html = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.indexOf("Killed") < html.indexOf("Running"));
+    }
+
+    /**
+     * Verifies that the parser reads every kind of value.
+     */
+    @Test
+    public void shouldParseJson()
+    {
+        Map<String, Object> json = JsonParser
+                .parseObject("{\"a\":\"x\\\"\\n\\u0041\",\"b\":-12,\"c\":1.5,\"d\":[true,false,null],\"e\":{}}");
+        Assert.assertEquals("x\"\nA", json.get("a"));
+        Assert.assertEquals(Long.valueOf(-12), json.get("b"));
+        Assert.assertEquals(Double.valueOf(1.5), json.get("c"));
+        Assert.assertEquals(Arrays.asList(true, false, null), json.get("d"));
+        Assert.assertTrue(((Map<?, ?>) json.get("e")).isEmpty());
+    }
+
+    /**
+     * Verifies that invalid JSON is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidJson()
+    {
+        JsonParser.parseObject("{\"a\":");
+    }
+}
@@ -0,0 +1,80 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JsonLinesMergerTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Verifies that the ids of later shards are shifted behind the ids of earlier
+     * shards.
+     * 
+     * @throws IOException
+     *             If a file could not be read or written.
+     */
+    @Test
+    public void shouldShiftIdsOfShards() throws IOException
+    {
+        Path directory = folder.getRoot().toPath();
+        for (int shard = 1; shard <= 2; shard++)
+        {
+            JsonLinesReportInterface reporter = new JsonLinesReportInterface(
+                    directory.resolve("results-" + shard + ".jsonl"));
+            reporter.withParent(reporter.feature("Feature " + shard)).scenario("Scenario " + shard).pass("");
+            reporter.finishReport();
+        }
+
+        Path merged = directory.resolve("results.jsonl");
+        List<Path> shards = JsonLinesMerger.findShards(merged);
+        Assert.assertEquals(2, shards.size());
+        Assert.assertEquals(6, JsonLinesMerger.merge(shards, merged));
+
+        List<String> lines = Files.readAllLines(merged, StandardCharsets.UTF_8);
+        Assert.assertTrue(lines.get(3).startsWith("{\"type\":\"feature\",\"id\":3,\"time\""));
+        Assert.assertTrue(lines.get(4).startsWith("{\"type\":\"scenario\",\"id\":4,\"parent\":3,\"time\""));
+        Assert.assertTrue(lines.get(5).startsWith("{\"type\":\"result\",\"id\":4,\"time\""));
+        Assert.assertTrue(lines.get(5).endsWith("\"status\":\"pass\",\"message\":\"\"}"));
+    }
+
+    /**
+     * Verifies that shards are ordered by their number.
+     * 
+     * @throws IOException
+     *             If a file could not be read or written.
+     */
+    @Test
+    public void shouldOrderShardsByNumber() throws IOException
+    {
+        for (String shard : Arrays.asList("10", "2", "1"))
+        {
+            folder.newFile("results-" + shard + ".jsonl");
+        }
+        folder.newFile("other.jsonl");
+        List<Path> shards = JsonLinesMerger.findShards(folder.getRoot().toPath().resolve("results.jsonl"));
+        Assert.assertEquals(Arrays.asList("results-1.jsonl", "results-2.jsonl", "results-10.jsonl"),
+                Arrays.asList(shards.stream().map(shard -> shard.getFileName().toString()).toArray()));
+    }
+
+    /**
+     * Verifies that lines of another format are kept.
+     */
+    @Test
+    public void shouldKeepUnknownLines()
+    {
+        long[] maxId = new long[1];
+        Assert.assertEquals("{\"other\":1}", JsonLinesMerger.shiftIds("{\"other\":1}", 5, maxId));
+        Assert.assertEquals(0, maxId[0]);
+    }
+}
@@ -0,0 +1,110 @@
+package com.xceptance.testbddy.core.reporting.jsonlines;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+public class JsonLinesReportInterfaceTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Verifies that a feature is written as one event per line.
+     * 
+     * @throws IOException
+     *             If the file could not be read.
+     */
+    @Test
+    public void shouldWriteFeatureEvents() throws IOException
+    {
+        Path file = folder.getRoot().toPath().resolve("results.jsonl");
+        Feature feature = new Feature("Feature Description").withReporter(new JsonLinesReportInterface(file));
+        feature.getScenarios().add(new Scenario("Scenario Description", new Steps().given("Step \"Description\"", () ->
+            {
+            })));
+        feature.test();
+
+        // Ignore the times, since they differ for each run
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .map(line -> line.replaceAll(",\"time\":\\d+", "")).collect(Collectors.toList());
+        Assert.assertEquals("{\"type\":\"feature\",\"id\":1,\"description\":\"null: Feature Description\"}",
+                lines.get(0));
+        Assert.assertEquals("{\"type\":\"scenario\",\"id\":2,\"parent\":1,\"description\":\"Scenario Description\"}",
+                lines.get(1));
+        Assert.assertEquals(
+                "{\"type\":\"step\",\"id\":3,\"parent\":2,\"keyword\":\"Given\",\"description\":\"Step \\\"Description\\\"\"}",
+                lines.get(2));
+        Assert.assertEquals("{\"type\":\"result\",\"id\":3,\"status\":\"pass\",\"message\":\"\"}",
+                lines.get(3));
+        Assert.assertEquals(6, lines.size());
+    }
+
+    /**
+     * Verifies that failures are written with their stack trace on a single
+     * line.
+     * 
+     * @throws IOException
+     *             If the file could not be read.
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldWriteThrowable() throws IOException, ClassNotFoundException
+    {
+        Path file = folder.getRoot().toPath().resolve("results.jsonl");
+        ReportInterface reporter = new JsonLinesReportInterface(file);
+        ReportElement step = reporter.step(new GherkinKeyword("Then"), "Step Description");
+        step.fatal(new IllegalStateException("Line 1\nLine 2"));
+        reporter.finishReport();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(2, lines.size());
+        Assert.assertTrue(lines.get(1).contains(
+                "\"status\":\"fatal\",\"message\":\"Line 1\\nLine 2\",\"throwable\":\"java.lang.IllegalStateException\""));
+    }
+
+    /**
+     * Verifies that events are written to the file at the end of a feature, even
+     * if the buffer isn't full.
+     * 
+     * @throws IOException
+     *             If the file could not be read.
+     */
+    @Test
+    public void shouldWriteBufferAfterFeature() throws IOException
+    {
+        Path file = folder.getRoot().toPath().resolve("results.jsonl");
+        ReportInterface reporter = new JsonLinesReportInterface(file);
+        reporter.feature("Feature Description").pass("");
+        Assert.assertEquals(0, Files.size(file));
+        reporter.finishFeature();
+        Assert.assertEquals(2, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    /**
+     * Verifies that JSON strings are escaped.
+     */
+    @Test
+    public void shouldEscapeStrings()
+    {
+        Assert.assertEquals("\"a\\\"b\\\\c\\td\\u0001\"",
+                JsonLinesWriter.appendString(new StringBuilder(), "a\"b\\c\td\u0001").toString());
+        Assert.assertEquals("null", JsonLinesWriter.appendString(new StringBuilder(), null).toString());
+    }
+}
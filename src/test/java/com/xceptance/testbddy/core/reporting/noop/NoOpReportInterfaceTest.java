@@ -0,0 +1,81 @@
+package com.xceptance.testbddy.core.reporting.noop;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.bdd.Feature;
+import com.xceptance.testbddy.core.bdd.scenario.Scenario;
+import com.xceptance.testbddy.core.bdd.steps.Steps;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+import com.xceptance.testbddy.util.ExecutionTest;
+
+public class NoOpReportInterfaceTest extends ExecutionTest
+{
+    /**
+     * Verifies that lazily supplied descriptions are never computed.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldNotComputeDescriptions() throws ClassNotFoundException
+    {
+        NoOpReportInterface.getInstance().step(new GherkinKeyword("Given"), () ->
+            {
+                throw new IllegalStateException("Description was computed");
+            }).pass("");
+    }
+
+    /**
+     * Verifies that a feature is executed as usual without reporting anything.
+     */
+    @Test
+    public void shouldExecuteFeature()
+    {
+        Feature feature = new Feature("Feature Description")
+                .withReporter(NoOpReportInterface.getInstance());
+        feature.getScenarios().add(new Scenario("Scenario Description", new Steps().given("Step Description", () ->
+            {
+                execution++;
+            })));
+        feature.test();
+        Assert.assertEquals(1, execution);
+    }
+
+    /**
+     * Verifies that only reporters other than <code>null</code> and the
+     * NoOpReportInterface are considered reporting, so nothing is recorded for
+     * them.
+     */
+    @Test
+    public void shouldNotBeReporting()
+    {
+        Assert.assertFalse(NoOpReportInterface.isReporting(null));
+        Assert.assertFalse(NoOpReportInterface.isReporting(NoOpReportInterface.getInstance()));
+        Assert.assertTrue(NoOpReportInterface.isReporting(new CollectingReportInterface()));
+    }
+
+    /**
+     * Verifies that a parallel feature executes its scenarios as usual without
+     * recording them.
+     */
+    @Test
+    public void shouldExecuteParallelFeature()
+    {
+        Feature feature = new Feature("Feature Description").withReporter(NoOpReportInterface.getInstance())
+                .parallel(2);
+        for (int i = 0; i < 4; i++)
+        {
+            feature.getScenarios().add(new Scenario("Scenario " + i, new Steps().given("Step Description", () ->
+                {
+                    synchronized (this)
+                    {
+                        execution++;
+                    }
+                })));
+        }
+        feature.test();
+        Assert.assertEquals(4, execution);
+    }
+}
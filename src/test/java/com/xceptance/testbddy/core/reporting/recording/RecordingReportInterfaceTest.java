@@ -0,0 +1,92 @@
+package com.xceptance.testbddy.core.reporting.recording;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.util.CollectingReportInterface;
+
+public class RecordingReportInterfaceTest
+{
+    /**
+     * Verifies that nothing is reported before the replay.
+     */
+    @Test
+    public void shouldNotReportBeforeReplay()
+    {
+        RecordingReportInterface recorder = new RecordingReportInterface();
+        Assert.assertTrue(recorder.isEmpty());
+        recorder.scenario("Scenario Description").pass("");
+        Assert.assertFalse(recorder.isEmpty());
+    }
+
+    /**
+     * Verifies that the replay reports every call in the order it was recorded.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldReplayInRecordedOrder() throws ClassNotFoundException
+    {
+        RecordingReportInterface recorder = new RecordingReportInterface();
+        ReportElement scenario = recorder.scenario("Scenario Description");
+        ReportElement step = recorder.step(new GherkinKeyword("Given"), "Step Description");
+        step.fatal(new IllegalStateException("Intentional failure"));
+        scenario.fatal("Scenario failed");
+
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        recorder.replay(reporter);
+
+        Assert.assertEquals(Arrays.asList("Scenario: Scenario Description", "Step: Step Description",
+                "Fatal: Step: Step Description", "Fatal: Scenario: Scenario Description"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that the end of a feature and of the report are replayed.
+     */
+    @Test
+    public void shouldReplayFinish()
+    {
+        RecordingReportInterface recorder = new RecordingReportInterface();
+        recorder.feature("Feature Description").pass("");
+        recorder.finishFeature();
+        recorder.finishReport();
+
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        recorder.replay(reporter);
+
+        // The collecting reporter finishes its report at the end of each feature
+        Assert.assertEquals(Arrays.asList("Feature: Feature Description", "Pass: Feature: Feature Description",
+                "Finish", "Finish"), reporter.getLines());
+    }
+
+    /**
+     * Verifies that a lazily described step is only described during the replay.
+     * 
+     * @throws ClassNotFoundException
+     *             If the {@link GherkinKeyword} does not exist.
+     */
+    @Test
+    public void shouldDescribeStepOnlyDuringReplay() throws ClassNotFoundException
+    {
+        final AtomicInteger described = new AtomicInteger();
+        RecordingReportInterface recorder = new RecordingReportInterface();
+        recorder.step(new GherkinKeyword("Given"), () ->
+            {
+                described.incrementAndGet();
+                return "Step Description";
+            }).pass("");
+        Assert.assertEquals(0, described.get());
+
+        CollectingReportInterface reporter = new CollectingReportInterface();
+        recorder.replay(reporter);
+        Assert.assertEquals(1, described.get());
+        Assert.assertEquals(Arrays.asList("Step: Step Description", "Pass: Step: Step Description"),
+                reporter.getLines());
+    }
+}
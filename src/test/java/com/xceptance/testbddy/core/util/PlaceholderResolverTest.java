@@ -0,0 +1,163 @@
+package com.xceptance.testbddy.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PlaceholderResolverTest
+{
+    /**
+     * Verifies that a placeholder is resolved with the test datum.
+     */
+    @Test
+    public void shouldResolvePlaceholder()
+    {
+        String resolved = new PlaceholderResolver<Row>().resolvePlaceholders("Row <data.getId()> of <data.name>",
+                new Row(3));
+        Assert.assertEquals("Row 3 of Row 3", resolved);
+    }
+
+    /**
+     * Verifies that a description without placeholders stays the same.
+     */
+    @Test
+    public void shouldKeepDescriptionWithoutPlaceholders()
+    {
+        Assert.assertEquals("No placeholder", new PlaceholderResolver<Row>().resolvePlaceholders("No placeholder",
+                new Row(1)));
+    }
+
+    /**
+     * Verifies that placeholders, which aren't property paths, are only resolved
+     * if the beanshell fallback is enabled.
+     */
+    @Test
+    public void shouldResolveExpressionsOnlyWithBeanShellFallback()
+    {
+        Assert.assertEquals("Row data.getId() * 2",
+                new PlaceholderResolver<Row>(false).resolvePlaceholders("Row <data.getId() * 2>", new Row(3)));
+        Assert.assertEquals("Row 6",
+                new PlaceholderResolver<Row>(true).resolvePlaceholders("Row <data.getId() * 2>", new Row(3)));
+    }
+
+    /**
+     * Verifies that an unknown member is not resolved.
+     */
+    @Test
+    public void shouldNotResolveUnknownMember()
+    {
+        Assert.assertEquals("Row data.unknown",
+                new PlaceholderResolver<Row>(false).resolvePlaceholders("Row <data.unknown>", new Row(3)));
+    }
+
+    /**
+     * Verifies that many threads resolving placeholders at the same time always
+     * resolve them against their own test datum.
+     * 
+     * @throws Exception
+     *             If a thread failed.
+     */
+    @Test
+    public void shouldNotMixUpTestdataOfConcurrentResolutions() throws Exception
+    {
+        resolveConcurrently(new PlaceholderResolver<>(false), "<data.getId()> <data.name> <data.getId()>");
+    }
+
+    /**
+     * Verifies that many threads resolving placeholders with beanshell at the same
+     * time always resolve them against their own test datum.
+     * 
+     * @throws Exception
+     *             If a thread failed.
+     */
+    @Test
+    public void shouldNotMixUpTestdataOfConcurrentBeanShellResolutions() throws Exception
+    {
+        resolveConcurrently(new PlaceholderResolver<>(true), "<data.getId() + \"\"> <data.name> <data.id + \"\">");
+    }
+
+    /**
+     * Resolves the description with many rows on several threads at the same time
+     * and verifies that each row is resolved with its own values.
+     * 
+     * @param resolver
+     *            The resolver to use.
+     * @param description
+     *            A description that resolves to "id name id".
+     * @throws Exception
+     *             If a thread failed.
+     */
+    private void resolveConcurrently(final PlaceholderResolver<Row> resolver, final String description)
+            throws Exception
+    {
+        final int threads = 8;
+        final int iterations = 500;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Integer>()
+                    {
+                        @Override
+                        public Integer call() throws Exception
+                        {
+                            start.await();
+                            int mismatches = 0;
+                            for (int i = 0; i < iterations; i++)
+                            {
+                                final Row row = new Row(thread * iterations + i);
+                                final String resolved = resolver.resolvePlaceholders(description, row);
+                                if (!resolved.equals(row.id + " " + row.name + " " + row.id))
+                                {
+                                    mismatches++;
+                                }
+                            }
+                            return mismatches;
+                        }
+                    }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures)
+            {
+                Assert.assertEquals(Integer.valueOf(0), future.get());
+            }
+        } finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A simple test datum.
+     * 
+     * @author ckeiner
+     */
+    public static class Row
+    {
+        public final int id;
+
+        public final String name;
+
+        public Row(int id)
+        {
+            this.id = id;
+            this.name = "Row " + id;
+        }
+
+        public int getId()
+        {
+            return id;
+        }
+    }
+}
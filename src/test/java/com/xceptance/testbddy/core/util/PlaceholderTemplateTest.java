@@ -0,0 +1,63 @@
+package com.xceptance.testbddy.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PlaceholderTemplateTest
+{
+    /**
+     * Verifies that literals and expressions are separated.
+     */
+    @Test
+    public void shouldSplitLiteralsAndExpressions()
+    {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Given <data.a> and <data.b>!");
+        Assert.assertTrue(template.hasPlaceholders());
+        Assert.assertArrayEquals(new String[]
+            { "data.a", "data.b" }, template.getExpressions());
+        Assert.assertEquals("Given [data.a] and [data.b]!", template.render(expression -> "[" + expression + "]"));
+    }
+
+    /**
+     * Verifies that a description without placeholders is rendered unchanged.
+     */
+    @Test
+    public void shouldRenderDescriptionWithoutPlaceholders()
+    {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("No placeholder");
+        Assert.assertFalse(template.hasPlaceholders());
+        Assert.assertEquals("No placeholder", template.render(expression -> "x"));
+    }
+
+    /**
+     * Verifies that an unclosed placeholder stays literal text.
+     */
+    @Test
+    public void shouldKeepUnclosedPlaceholder()
+    {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("<data.a> < 3");
+        Assert.assertArrayEquals(new String[]
+            { "data.a" }, template.getExpressions());
+        Assert.assertEquals("1 < 3", template.render(expression -> "1"));
+    }
+
+    /**
+     * Verifies that adjacent placeholders are rendered in order.
+     */
+    @Test
+    public void shouldRenderAdjacentPlaceholders()
+    {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("<a><b>");
+        Assert.assertEquals("AB", template.render(String::toUpperCase));
+    }
+
+    /**
+     * Verifies that the same description returns the cached template.
+     */
+    @Test
+    public void shouldCacheTemplate()
+    {
+        Assert.assertSame(PlaceholderResolver.getTemplate("Cached <data>"),
+                PlaceholderResolver.getTemplate("Cached <data>"));
+    }
+}
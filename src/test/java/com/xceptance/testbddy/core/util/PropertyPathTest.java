@@ -0,0 +1,149 @@
+package com.xceptance.testbddy.core.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PropertyPathTest
+{
+    /**
+     * Verifies that fields, getters and methods are evaluated.
+     */
+    @Test
+    public void shouldEvaluateMembers()
+    {
+        Datum datum = new Datum();
+        Assert.assertEquals("field", PropertyPath.compile("data.field").evaluate(datum));
+        Assert.assertEquals("getter", PropertyPath.compile("data.value").evaluate(datum));
+        Assert.assertEquals("getter", PropertyPath.compile("data.getValue()").evaluate(datum));
+        Assert.assertEquals(true, PropertyPath.compile("data.active").evaluate(datum));
+        Assert.assertEquals("method", PropertyPath.compile("data.method()").evaluate(datum));
+        Assert.assertSame(datum, PropertyPath.compile("data").evaluate(datum));
+    }
+
+    /**
+     * Verifies that lists, maps and arrays are evaluated.
+     */
+    @Test
+    public void shouldEvaluateElements()
+    {
+        Datum datum = new Datum();
+        Assert.assertEquals("b", PropertyPath.compile("data.getList().get(1)").evaluate(datum));
+        Assert.assertEquals("a", PropertyPath.compile("data.list[0]").evaluate(datum));
+        Assert.assertEquals(1, PropertyPath.compile("data.map.one").evaluate(datum));
+        Assert.assertEquals(1, PropertyPath.compile("data.map[\"one\"]").evaluate(datum));
+        Assert.assertEquals(1, PropertyPath.compile("data.getMap().get(\"one\")").evaluate(datum));
+        Assert.assertEquals(3, PropertyPath.compile("data.array[2]").evaluate(datum));
+        Assert.assertEquals(3, PropertyPath.compile("data.array.length").evaluate(datum));
+        Assert.assertEquals(2, PropertyPath.compile("data.list.size()").evaluate(datum));
+    }
+
+    /**
+     * Verifies that a <code>null</code> value on the path evaluates to
+     * <code>null</code>.
+     */
+    @Test
+    public void shouldEvaluateNullOnPath()
+    {
+        Assert.assertNull(PropertyPath.compile("data.nothing.value").evaluate(new Datum()));
+        Assert.assertNull(PropertyPath.compile("data.value").evaluate(null));
+    }
+
+    /**
+     * Verifies that a non-public class is evaluated with the public declaration of
+     * its method.
+     */
+    @Test
+    public void shouldEvaluateMethodsOfNonPublicClasses()
+    {
+        Assert.assertEquals(1, PropertyPath.compile("data.size()").evaluate(Collections.singletonList("x")));
+        Assert.assertEquals("hidden", PropertyPath.compile("data.name").evaluate(new Hidden()));
+    }
+
+    /**
+     * Verifies that an unknown member can't be evaluated.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotEvaluateUnknownMember()
+    {
+        PropertyPath.compile("data.unknown").evaluate(new Datum());
+    }
+
+    /**
+     * Verifies that arbitrary expressions aren't property paths.
+     */
+    @Test
+    public void shouldNotCompileArbitraryExpressions()
+    {
+        Assert.assertNull(PropertyPath.compile("data.getValue() + 1"));
+        Assert.assertNull(PropertyPath.compile("other.value"));
+        Assert.assertNull(PropertyPath.compile("data.get(x)"));
+        Assert.assertNull(PropertyPath.compile("database.value"));
+    }
+
+    /**
+     * A test datum with different kinds of members.
+     * 
+     * @author ckeiner
+     */
+    public static class Datum
+    {
+        public final String field = "field";
+
+        public final Object nothing = null;
+
+        public final int[] array =
+            { 1, 2, 3 };
+
+        private final Map<String, Integer> map = new HashMap<>();
+
+        public Datum()
+        {
+            map.put("one", 1);
+        }
+
+        public String getValue()
+        {
+            return "getter";
+        }
+
+        public boolean isActive()
+        {
+            return true;
+        }
+
+        public String method()
+        {
+            return "method";
+        }
+
+        public List<String> getList()
+        {
+            return Arrays.asList("a", "b");
+        }
+
+        public Map<String, Integer> getMap()
+        {
+            return map;
+        }
+    }
+
+    /**
+     * A test datum that isn't public.
+     * 
+     * @author ckeiner
+     */
+    private static class Hidden
+    {
+        @SuppressWarnings("unused")
+        public String getName()
+        {
+            return "hidden";
+        }
+    }
+}
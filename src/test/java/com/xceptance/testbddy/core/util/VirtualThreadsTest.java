@@ -0,0 +1,42 @@
+package com.xceptance.testbddy.core.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VirtualThreadsTest
+{
+    /**
+     * Verifies that the executor runs each task on a new thread, which is virtual
+     * if virtual threads are available.
+     */
+    @Test
+    public void shouldRunTasksOnNewThreads() throws Exception
+    {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("testbddy-test-");
+        try
+        {
+            Future<Thread> first = executor.submit(() -> Thread.currentThread());
+            Future<Thread> second = executor.submit(() -> Thread.currentThread());
+            Assert.assertNotSame(first.get(), second.get());
+            Assert.assertTrue(first.get().getName().startsWith("testbddy-test-"));
+            Assert.assertEquals(VirtualThreads.isAvailable(), VirtualThreads.isVirtual(first.get()));
+        } finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Verifies that platform threads aren't virtual.
+     */
+    @Test
+    public void shouldNotDetectPlatformThreadAsVirtual()
+    {
+        Assert.assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.xceptance.testbddy.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.aventstack.extentreports.GherkinKeyword;
+import com.xceptance.testbddy.core.reporting.ReportElement;
+import com.xceptance.testbddy.core.reporting.ReportInterface;
+
+/**
+ * A {@link ReportInterface} that collects a line for each created element and
+ * each reported result, so tests can verify what was reported in which order.
+ * 
+ * @author ckeiner
+ *
+ */
+public class CollectingReportInterface implements ReportInterface
+{
+    /**
+     * The collected lines.
+     */
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * The categories assigned to the elements, each prefixed with its line.
+     */
+    private final List<String> categories = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public ReportElement feature(String description)
+    {
+        return element("Feature: " + description);
+    }
+
+    @Override
+    public ReportElement scenario(String description)
+    {
+        return element("Scenario: " + description);
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description, T testdata)
+    {
+        return element("Scenario: " + description + " with Data: " + testdata);
+    }
+
+    @Override
+    public <T> ReportElement scenarioOutline(String description)
+    {
+        return element("Scenario: " + description);
+    }
+
+    @Override
+    public ReportElement step(GherkinKeyword keyword, String description)
+    {
+        return element("Step: " + description);
+    }
+
+    @Override
+    public void finishReport()
+    {
+        lines.add("Finish");
+    }
+
+    public List<String> getLines()
+    {
+        return lines;
+    }
+
+    public List<String> getCategories()
+    {
+        return categories;
+    }
+
+    /**
+     * Adds the line and creates an element that collects its results.
+     * 
+     * @param line
+     *            The line describing the element.
+     * @return The ReportElement for the line.
+     */
+    private ReportElement element(String line)
+    {
+        lines.add(line);
+        return new ReportElement()
+            {
+                @Override
+                public void assignCategory(String... categories)
+                {
+                    CollectingReportInterface.this.categories.add(line + ": " + String.join(", ", categories));
+                }
+
+                @Override
+                public void fail(String description)
+                {
+                    lines.add("Fail: " + line);
+                }
+
+                @Override
+                public void fail(Throwable throwable)
+                {
+                    lines.add("Fail: " + line);
+                }
+
+                @Override
+                public void fatal(String description)
+                {
+                    lines.add("Fatal: " + line);
+                }
+
+                @Override
+                public void fatal(Throwable throwable)
+                {
+                    lines.add("Fatal: " + line);
+                }
+
+                @Override
+                public void pass(String description)
+                {
+                    lines.add("Pass: " + line);
+                }
+
+                @Override
+                public void pending(String description)
+                {
+                    lines.add("Pending: " + line);
+                }
+
+                @Override
+                public void skip(String description)
+                {
+                    lines.add("Skip: " + line);
+                }
+
+                @Override
+                public void skip(Throwable throwable)
+                {
+                    lines.add("Skip: " + line);
+                }
+            };
+    }
+}